@@ -0,0 +1,66 @@
+package net.tnemc.core;
+
+import net.tnemc.core.economy.EconomyAPI;
+import org.bukkit.Server;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public final class ReserveHarness {
+
+  private ReserveHarness() {
+  }
+
+  /**
+   * Creates a {@link Reserve} instance without a running server and makes the given provider the
+   * active economy. The server it is attached to only answers with default values, and the instance
+   * is never enabled, so the journal, transaction pipeline and identifier index stay disabled.
+   * @param economy The {@link EconomyAPI} to install as the active provider.
+   * @param world The name of the default world.
+   * @return The {@link Reserve} instance, which is also returned by {@link Reserve#instance()}.
+   */
+  public static Reserve install(EconomyAPI economy, String world) {
+    Logger logger = Logger.getLogger("Reserve-Benchmarks");
+    Server server = (Server)Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] { Server.class },
+        (proxy, method, arguments) -> {
+          if(method.getName().equals("getLogger")) return logger;
+          Class<?> type = method.getReturnType();
+          if(type == boolean.class) return false;
+          if(type.isPrimitive() && type != void.class) return 0;
+          return null;
+        });
+
+    try {
+      File dataFolder = Files.createTempDirectory("reserve-benchmark").toFile();
+      PluginDescriptionFile description = new PluginDescriptionFile("Reserve", "benchmark", Reserve.class.getName());
+      return Reserve.standalone(new JavaPluginLoader(server), description, dataFolder, world, economy);
+    } catch(IOException e) {
+      throw new IllegalStateException("Unable to create a Reserve instance for benchmarking.", e);
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.currency.Currency;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class BenchAccount implements Account {
+
+  private final Map<String, BigDecimal> holdings = new ConcurrentHashMap<>();
+
+  private final BenchEconomy economy;
+  private final UUID identifier;
+  private final String displayName;
+
+  public BenchAccount(BenchEconomy economy, UUID identifier, String displayName) {
+    this.economy = economy;
+    this.identifier = identifier;
+    this.displayName = displayName;
+  }
+
+  private String key(String world, Currency currency) {
+    return world + ":" + currency.name();
+  }
+
+  @Override
+  public UUID identifier() {
+    return identifier;
+  }
+
+  @Override
+  public String displayName() {
+    return displayName;
+  }
+
+  @Override
+  public boolean playerAccount() {
+    return true;
+  }
+
+  @Override
+  public boolean isAccessor(Account account) {
+    return account.identifier().equals(identifier);
+  }
+
+  @Override
+  public boolean canWithdraw(Account account) {
+    return isAccessor(account);
+  }
+
+  @Override
+  public boolean canDeposit(Account account) {
+    return isAccessor(account);
+  }
+
+  @Override
+  public boolean canRemoveAccessor(Account account) {
+    return false;
+  }
+
+  @Override
+  public boolean canAddAccessor(Account account) {
+    return false;
+  }
+
+  @Override
+  public BigDecimal getHoldings() {
+    return getHoldings(economy.defaultWorld(), economy.getDefault());
+  }
+
+  @Override
+  public BigDecimal getHoldings(String world) {
+    return getHoldings(world, economy.getDefault());
+  }
+
+  @Override
+  public BigDecimal getHoldings(String world, Currency currency) {
+    return holdings.getOrDefault(key(world, currency), BigDecimal.ZERO);
+  }
+
+  @Override
+  public BigDecimal getHoldings(Currency currency) {
+    return getHoldings(economy.defaultWorld(), currency);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount) {
+    return hasHoldings(amount, economy.getDefault(), economy.defaultWorld());
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, String world) {
+    return hasHoldings(amount, economy.getDefault(), world);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, Currency currency) {
+    return hasHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, Currency currency, String world) {
+    return getHoldings(world, currency).compareTo(amount) >= 0;
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount) {
+    return setHoldings(amount, economy.getDefault(), economy.defaultWorld());
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, String world) {
+    return setHoldings(amount, economy.getDefault(), world);
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, Currency currency) {
+    return setHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, Currency currency, String world) {
+    holdings.put(key(world, currency), amount);
+    return true;
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount) {
+    return addHoldings(amount, economy.getDefault(), economy.defaultWorld());
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, String world) {
+    return addHoldings(amount, economy.getDefault(), world);
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, Currency currency) {
+    return addHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, Currency currency, String world) {
+    holdings.merge(key(world, currency), amount, BigDecimal::add);
+    return true;
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount) {
+    return true;
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, String world) {
+    return true;
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, Currency currency) {
+    return true;
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, Currency currency, String world) {
+    return true;
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount) {
+    return removeHoldings(amount, economy.getDefault(), economy.defaultWorld());
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, String world) {
+    return removeHoldings(amount, economy.getDefault(), world);
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, Currency currency) {
+    return removeHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, Currency currency, String world) {
+    BigDecimal[] removed = new BigDecimal[1];
+    holdings.compute(key(world, currency), (key, current) -> {
+      BigDecimal balance = (current == null)? BigDecimal.ZERO : current;
+      if(balance.compareTo(amount) < 0) return current;
+
+      removed[0] = amount;
+      return balance.subtract(amount);
+    });
+    return removed[0] != null;
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount) {
+    return hasHoldings(amount);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, String world) {
+    return hasHoldings(amount, world);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, Currency currency) {
+    return hasHoldings(amount, currency);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, Currency currency, String world) {
+    return hasHoldings(amount, currency, world);
+  }
+}
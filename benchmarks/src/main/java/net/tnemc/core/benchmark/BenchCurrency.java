@@ -0,0 +1,79 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.Tier;
+
+import java.math.BigDecimal;
+import java.util.TreeMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class BenchCurrency implements Currency {
+
+  private final TreeMap<Integer, Tier> majorTiers = new TreeMap<>();
+  private final TreeMap<Integer, Tier> minorTiers = new TreeMap<>();
+
+  private final String name;
+
+  public BenchCurrency(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public String plural() {
+    return name + "s";
+  }
+
+  @Override
+  public String symbol() {
+    return "$";
+  }
+
+  @Override
+  public int decimalPlaces() {
+    return 2;
+  }
+
+  @Override
+  public boolean isDefault() {
+    return true;
+  }
+
+  @Override
+  public BigDecimal defaultBalance() {
+    return BigDecimal.ZERO;
+  }
+
+  @Override
+  public TreeMap<Integer, Tier> getMajorTiers() {
+    return majorTiers;
+  }
+
+  @Override
+  public TreeMap<Integer, Tier> getMinorTiers() {
+    return minorTiers;
+  }
+}
@@ -0,0 +1,326 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.Tier;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class BenchEconomy implements ExtendedEconomyAPI {
+
+  private final Map<UUID, BenchAccount> accounts = new ConcurrentHashMap<>();
+  private final Map<UUID, Transaction> transactions = new ConcurrentHashMap<>();
+  private final Set<TransactionType> types = new HashSet<>();
+
+  /**
+   * Counts calls to getAccount, which stands in for a provider round-trip.
+   */
+  private final LongAdder lookups = new LongAdder();
+
+  private final Currency currency = new BenchCurrency("Dollar");
+  private final String world;
+
+  public BenchEconomy(String world) {
+    this.world = world;
+  }
+
+  public String defaultWorld() {
+    return world;
+  }
+
+  public long lookups() {
+    return lookups.sum();
+  }
+
+  private UUID nameIdentifier(String identifier) {
+    try {
+      return UUID.fromString(identifier);
+    } catch(IllegalArgumentException ignore) {
+      return UUID.nameUUIDFromBytes(identifier.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Override
+  public String name() {
+    return "Benchmark";
+  }
+
+  @Override
+  public String version() {
+    return "0.1.0.11";
+  }
+
+  @Override
+  public boolean enabled() {
+    return true;
+  }
+
+  @Override
+  public String currencyDefaultPlural() {
+    return currency.plural();
+  }
+
+  @Override
+  public String currencyDefaultSingular() {
+    return currency.name();
+  }
+
+  @Override
+  public String currencyDefaultPlural(String world) {
+    return currency.plural();
+  }
+
+  @Override
+  public String currencyDefaultSingular(String world) {
+    return currency.name();
+  }
+
+  @Override
+  public boolean hasCurrency(String name) {
+    return currency.name().equalsIgnoreCase(name);
+  }
+
+  @Override
+  public boolean hasCurrency(String name, String world) {
+    return hasCurrency(name);
+  }
+
+  @Override
+  public boolean hasAccount(String identifier) {
+    return hasAccount(nameIdentifier(identifier));
+  }
+
+  @Override
+  public boolean hasAccount(UUID identifier) {
+    return accounts.containsKey(identifier);
+  }
+
+  @Override
+  public boolean createAccount(String identifier) {
+    return createIfNotExists(identifier) != null;
+  }
+
+  @Override
+  public boolean createAccount(UUID identifier) {
+    return createIfNotExists(identifier) != null;
+  }
+
+  @Override
+  public boolean deleteAccount(String identifier) {
+    return deleteAccount(nameIdentifier(identifier));
+  }
+
+  @Override
+  public boolean deleteAccount(UUID identifier) {
+    return accounts.remove(identifier) != null;
+  }
+
+  @Override
+  public String format(BigDecimal amount) {
+    return format(amount, currency);
+  }
+
+  @Override
+  public String format(BigDecimal amount, String world) {
+    return format(amount, currency);
+  }
+
+  @Override
+  public boolean purgeAccounts() {
+    accounts.clear();
+    return true;
+  }
+
+  @Override
+  public boolean purgeAccountsUnder(BigDecimal amount) {
+    accounts.values().removeIf(account -> account.getHoldings().compareTo(amount) < 0);
+    return true;
+  }
+
+  @Override
+  public Currency getDefault() {
+    return currency;
+  }
+
+  @Override
+  public Currency getDefault(String world) {
+    return currency;
+  }
+
+  @Override
+  public Set<Currency> getCurrencies() {
+    return Collections.singleton(currency);
+  }
+
+  @Override
+  public Set<Currency> getCurrencies(String world) {
+    return Collections.singleton(currency);
+  }
+
+  @Override
+  public Currency getCurrency(String name) {
+    return currency;
+  }
+
+  @Override
+  public Currency getCurrency(String name, String world) {
+    return currency;
+  }
+
+  @Override
+  public boolean hasTier(String name, Currency currency) {
+    return false;
+  }
+
+  @Override
+  public boolean hasTier(String name, Currency currency, String world) {
+    return false;
+  }
+
+  @Override
+  public Set<Tier> getTiers(Currency currency) {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Account getAccount(String identifier) {
+    return getAccount(nameIdentifier(identifier));
+  }
+
+  @Override
+  public Account getAccount(UUID identifier) {
+    lookups.increment();
+    return accounts.get(identifier);
+  }
+
+  @Override
+  public Account createIfNotExists(String identifier) {
+    UUID id = nameIdentifier(identifier);
+    return accounts.computeIfAbsent(id, key -> new BenchAccount(this, key, identifier));
+  }
+
+  @Override
+  public Account createIfNotExists(UUID identifier) {
+    return accounts.computeIfAbsent(identifier, key -> new BenchAccount(this, key, key.toString()));
+  }
+
+  @Override
+  public String format(BigDecimal amount, Currency currency) {
+    return currency.symbol() + amount.toPlainString();
+  }
+
+  @Override
+  public String format(BigDecimal amount, Currency currency, String world) {
+    return format(amount, currency);
+  }
+
+  @Override
+  public TransactionResult performTransaction(Transaction transaction) {
+    TransactionResult result = transaction.perform();
+    transactions.put(transaction.transactionID(), transaction);
+    return result;
+  }
+
+  @Override
+  public TransactionResult performTransaction(Transaction transaction, Account initiator, Account recipient) {
+    TransactionResult result = transaction.perform(initiator, recipient);
+    transactions.put(transaction.transactionID(), transaction);
+    return result;
+  }
+
+  @Override
+  public Optional<Transaction> getTransaction(UUID uuid) {
+    return Optional.ofNullable(transactions.get(uuid));
+  }
+
+  @Override
+  public boolean voidTransaction(UUID uuid) {
+    Transaction transaction = transactions.get(uuid);
+    return transaction != null && transaction.voidTransaction();
+  }
+
+  @Override
+  public Set<TransactionType> getTransactionTypes() {
+    return types;
+  }
+
+  @Override
+  public Map<UUID, Transaction> getTransactions() {
+    return transactions;
+  }
+
+  @Override
+  public Map<UUID, Transaction> getTransactions(String identifier) {
+    Map<UUID, Transaction> found = new HashMap<>();
+    for(Transaction transaction : transactions.values()) {
+      if(identifier.equals(transaction.initiator()) || identifier.equals(transaction.recipient())) {
+        found.put(transaction.transactionID(), transaction);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public boolean registerTransactionType(TransactionType type) {
+    return types.add(type);
+  }
+
+  @Override
+  public boolean registerTransactionResult(TransactionResult result) {
+    return true;
+  }
+
+  @Override
+  public boolean registerCurrency(Currency currency) {
+    return false;
+  }
+
+  @Override
+  public boolean registerCurrency(Currency currency, String world) {
+    return false;
+  }
+
+  @Override
+  public boolean registerTier(Tier tier, Currency currency) {
+    return false;
+  }
+
+  @Override
+  public boolean registerTier(Tier tier, Currency currency, String world) {
+    return false;
+  }
+}
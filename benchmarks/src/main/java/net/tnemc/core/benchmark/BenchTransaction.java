@@ -0,0 +1,128 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.currency.CurrencyEntry;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class BenchTransaction implements Transaction {
+
+  private final UUID transactionID = UUID.randomUUID();
+  private final long time = System.currentTimeMillis();
+
+  private final String initiator;
+  private final String recipient;
+  private final TransactionType type;
+
+  private CurrencyEntry initiatorBalance;
+  private CurrencyEntry recipientBalance;
+  private TransactionCharge initiatorCharge;
+  private TransactionCharge recipientCharge;
+  private boolean voided = false;
+
+  public BenchTransaction(String initiator, String recipient, TransactionCharge initiatorCharge,
+                          TransactionCharge recipientCharge, TransactionType type) {
+    this.initiator = initiator;
+    this.recipient = recipient;
+    this.initiatorCharge = initiatorCharge;
+    this.recipientCharge = recipientCharge;
+    this.type = type;
+  }
+
+  @Override
+  public String initiator() {
+    return initiator;
+  }
+
+  @Override
+  public String recipient() {
+    return recipient;
+  }
+
+  @Override
+  public CurrencyEntry initiatorBalance() {
+    return initiatorBalance;
+  }
+
+  @Override
+  public void setInitiatorBalance(CurrencyEntry entry) {
+    this.initiatorBalance = entry;
+  }
+
+  @Override
+  public CurrencyEntry recipientBalance() {
+    return recipientBalance;
+  }
+
+  @Override
+  public void setRecipientBalance(CurrencyEntry entry) {
+    this.recipientBalance = entry;
+  }
+
+  @Override
+  public TransactionCharge initiatorCharge() {
+    return initiatorCharge;
+  }
+
+  @Override
+  public void setInitiatorCharge(TransactionCharge charge) {
+    this.initiatorCharge = charge;
+  }
+
+  @Override
+  public TransactionCharge recipientCharge() {
+    return recipientCharge;
+  }
+
+  @Override
+  public void setRecipientCharge(TransactionCharge charge) {
+    this.recipientCharge = charge;
+  }
+
+  @Override
+  public boolean voided() {
+    return voided;
+  }
+
+  @Override
+  public void setVoided(boolean voided) {
+    this.voided = voided;
+  }
+
+  @Override
+  public UUID transactionID() {
+    return transactionID;
+  }
+
+  @Override
+  public TransactionType type() {
+    return type;
+  }
+
+  @Override
+  public long time() {
+    return time;
+  }
+}
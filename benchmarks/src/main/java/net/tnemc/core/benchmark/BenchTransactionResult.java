@@ -0,0 +1,57 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class BenchTransactionResult implements TransactionResult {
+
+  public static final BenchTransactionResult SUCCESS = new BenchTransactionResult("Success", true);
+  public static final BenchTransactionResult FAILED = new BenchTransactionResult("Failed", false);
+
+  private final String name;
+  private final boolean proceed;
+
+  private BenchTransactionResult(String name, boolean proceed) {
+    this.name = name;
+    this.proceed = proceed;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public String initiatorMessage() {
+    return "";
+  }
+
+  @Override
+  public String recipientMessage() {
+    return "";
+  }
+
+  @Override
+  public boolean proceed() {
+    return proceed;
+  }
+}
@@ -0,0 +1,55 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.transaction.TransactionAffected;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class BenchTransactionType implements TransactionType {
+
+  public static final BenchTransactionType PAY = new BenchTransactionType();
+
+  @Override
+  public String name() {
+    return "Pay";
+  }
+
+  @Override
+  public boolean console() {
+    return false;
+  }
+
+  @Override
+  public TransactionResult success() {
+    return BenchTransactionResult.SUCCESS;
+  }
+
+  @Override
+  public TransactionResult fail() {
+    return BenchTransactionResult.FAILED;
+  }
+
+  @Override
+  public TransactionAffected affected() {
+    return TransactionAffected.BOTH;
+  }
+}
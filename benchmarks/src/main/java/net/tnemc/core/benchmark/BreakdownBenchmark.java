@@ -0,0 +1,102 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.Tier;
+import net.tnemc.core.economy.currency.TierBreakdown;
+import net.tnemc.core.economy.memory.MemoryCurrency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Compares {@link TierBreakdown} against splitting an amount with {@link BigDecimal} division over the tier maps,
+ * the way item based currencies usually do it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BreakdownBenchmark {
+
+  private final BigDecimal amount = new BigDecimal("1234.56");
+
+  private Currency currency;
+  private TierBreakdown breakdown;
+  private long[] counts;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    currency = new MemoryCurrency("Dollar", "Dollars", "$", 2, true, BigDecimal.ZERO);
+    FormatBenchmark.tier(currency, "Hundred", "Hundreds", true, 100);
+    FormatBenchmark.tier(currency, "Fifty", "Fifties", true, 50);
+    FormatBenchmark.tier(currency, "Twenty", "Twenties", true, 20);
+    FormatBenchmark.tier(currency, "Ten", "Tens", true, 10);
+    FormatBenchmark.tier(currency, "Five", "Fives", true, 5);
+    FormatBenchmark.tier(currency, "One", "Ones", true, 1);
+    FormatBenchmark.tier(currency, "Quarter", "Quarters", false, 25);
+    FormatBenchmark.tier(currency, "Dime", "Dimes", false, 10);
+    FormatBenchmark.tier(currency, "Nickel", "Nickels", false, 5);
+    FormatBenchmark.tier(currency, "Penny", "Pennies", false, 1);
+    breakdown = TierBreakdown.compile(currency);
+    counts = new long[breakdown.size()];
+  }
+
+  @Benchmark
+  public long[] naive() {
+    long[] result = new long[currency.getMajorTiers().size() + currency.getMinorTiers().size()];
+    BigDecimal remaining = amount.setScale(currency.decimalPlaces(), RoundingMode.HALF_UP);
+    int i = 0;
+    for(Map.Entry<Integer, Tier> entry : currency.getMajorTiers().descendingMap().entrySet()) {
+      BigDecimal[] division = remaining.divideAndRemainder(new BigDecimal(entry.getKey()));
+      result[i++] = division[0].longValue();
+      remaining = division[1];
+    }
+    for(Map.Entry<Integer, Tier> entry : currency.getMinorTiers().descendingMap().entrySet()) {
+      BigDecimal[] division = remaining.divideAndRemainder(BigDecimal.valueOf(entry.getKey(), currency.decimalPlaces()));
+      result[i++] = division[0].longValue();
+      remaining = division[1];
+    }
+    return result;
+  }
+
+  @Benchmark
+  public long[] compiled() {
+    breakdown.split(amount, counts);
+    return counts;
+  }
+}
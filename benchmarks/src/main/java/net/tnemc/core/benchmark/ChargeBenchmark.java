@@ -0,0 +1,123 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.ReserveHarness;
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.memory.MemoryEconomy;
+import net.tnemc.core.economy.transaction.charge.ImmutableTransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionChargeType;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Compares mutable and immutable charges on the transaction hot path. Run with {@code -prof gc}, the immutable
+ * variants should report close to zero bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChargeBenchmark {
+
+  private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+  private Account initiator;
+  private Account recipient;
+
+  private BenchTransaction mutable;
+  private BenchTransaction mutableBack;
+  private BenchTransaction immutable;
+  private BenchTransaction immutableBack;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    MemoryEconomy economy = new MemoryEconomy(EconomyState.WORLD);
+    ReserveHarness.install(economy, EconomyState.WORLD);
+
+    initiator = economy.createIfNotExists(UUID.randomUUID());
+    recipient = economy.createIfNotExists(UUID.randomUUID());
+    initiator.setHoldings(new BigDecimal("1000000.00"), EconomyState.WORLD);
+    recipient.setHoldings(new BigDecimal("1000000.00"), EconomyState.WORLD);
+
+    Currency currency = economy.getDefault();
+    String from = initiator.identifier().toString();
+    String to = recipient.identifier().toString();
+
+    //Each benchmark performs a transaction and its mirror image, so the balances don't drift.
+    mutable = transaction(from, to, new TransactionCharge(EconomyState.WORLD, currency, AMOUNT, TransactionChargeType.LOSE),
+                          new TransactionCharge(EconomyState.WORLD, currency, AMOUNT, TransactionChargeType.GAIN));
+    mutableBack = transaction(to, from, new TransactionCharge(EconomyState.WORLD, currency, AMOUNT, TransactionChargeType.LOSE),
+                              new TransactionCharge(EconomyState.WORLD, currency, AMOUNT, TransactionChargeType.GAIN));
+
+    ImmutableTransactionCharge lose = new ImmutableTransactionCharge(EconomyState.WORLD, currency, AMOUNT, TransactionChargeType.LOSE);
+    immutable = transaction(from, to, lose, lose.reversed());
+    immutableBack = transaction(to, from, lose, lose.reversed());
+  }
+
+  private static BenchTransaction transaction(String from, String to, TransactionCharge initiatorCharge, TransactionCharge recipientCharge) {
+    return new BenchTransaction(from, to, initiatorCharge, recipientCharge, BenchTransactionType.PAY);
+  }
+
+  @Benchmark
+  public boolean chargeMutable() {
+    charge(mutable, initiator, recipient);
+    return charge(mutableBack, recipient, initiator);
+  }
+
+  @Benchmark
+  public boolean chargeImmutable() {
+    charge(immutable, initiator, recipient);
+    return charge(immutableBack, recipient, initiator);
+  }
+
+  private static boolean charge(BenchTransaction transaction, Account from, Account to) {
+    return TransactionType.charge(from, transaction.initiatorCharge(), to, transaction.recipientCharge());
+  }
+
+  @Benchmark
+  public TransactionCharge reverseMutable() {
+    return mutable.initiatorCharge().copy(true);
+  }
+
+  @Benchmark
+  public TransactionCharge reverseImmutable() {
+    return immutable.initiatorCharge().copy(true);
+  }
+}
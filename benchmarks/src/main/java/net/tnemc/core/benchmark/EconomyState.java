@@ -0,0 +1,75 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.ReserveHarness;
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.memory.MemoryEconomy;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+@State(Scope.Benchmark)
+public class EconomyState {
+
+  public static final String WORLD = "world";
+
+  @Param({ "1000" })
+  public int accounts;
+
+  /**
+   * The provider to measure, either the {@link BenchEconomy} baseline or Reserve's {@link MemoryEconomy}.
+   */
+  @Param({ "bench", "memory" })
+  public String provider;
+
+  public ExtendedEconomyAPI economy;
+  public UUID[] identifiers;
+  public String[] names;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    economy = ("memory".equals(provider))? new MemoryEconomy(WORLD) : new BenchEconomy(WORLD);
+    ReserveHarness.install(economy, WORLD);
+
+    identifiers = new UUID[accounts];
+    names = new String[accounts];
+    for(int i = 0; i < accounts; i++) {
+      names[i] = "Player" + i;
+      identifiers[i] = economy.createIfNotExists(names[i]).identifier();
+      economy.getAccount(identifiers[i]).setHoldings(new BigDecimal("1000000.00"));
+    }
+  }
+
+  public int index() {
+    return ThreadLocalRandom.current().nextInt(accounts);
+  }
+
+  public UUID identifier() {
+    return identifiers[index()];
+  }
+}
@@ -0,0 +1,141 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.CurrencyFormatter;
+import net.tnemc.core.economy.currency.Tier;
+import net.tnemc.core.economy.memory.MemoryCurrency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Compares the compiled {@link CurrencyFormatter} against formatting from the {@link Currency} on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+  private final BigDecimal amount = new BigDecimal("1234.56");
+
+  private Currency currency;
+  private CurrencyFormatter formatter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    currency = new MemoryCurrency("Dollar", "Dollars", "$", 2, true, BigDecimal.ZERO);
+    tier(currency, "Hundred", "Hundreds", true, 100);
+    tier(currency, "Ten", "Tens", true, 10);
+    tier(currency, "One", "Ones", true, 1);
+    tier(currency, "Quarter", "Quarters", false, 25);
+    tier(currency, "Penny", "Pennies", false, 1);
+    formatter = CurrencyFormatter.compile(currency);
+  }
+
+  static void tier(Currency currency, String singular, String plural, boolean major, int weight) {
+    Tier tier = new Tier() {
+      @Override
+      public String singular() {
+        return singular;
+      }
+
+      @Override
+      public String plural() {
+        return plural;
+      }
+
+      @Override
+      public boolean isMajor() {
+        return major;
+      }
+
+      @Override
+      public int weight() {
+        return weight;
+      }
+    };
+    ((major)? currency.getMajorTiers() : currency.getMinorTiers()).put(weight, tier);
+  }
+
+  /**
+   * The format {@link net.tnemc.core.economy.memory.MemoryEconomy} used before it moved to {@link CurrencyFormatter}.
+   */
+  @Benchmark
+  public String naive() {
+    return currency.symbol() + amount.setScale(currency.decimalPlaces(), RoundingMode.HALF_UP).toPlainString();
+  }
+
+  @Benchmark
+  public String compiled() {
+    return formatter.format(amount);
+  }
+
+  /**
+   * Breaks the amount down by walking the tier maps and dividing {@link BigDecimal}s on every call.
+   */
+  @Benchmark
+  public String naiveTiers() {
+    BigDecimal remaining = amount.setScale(currency.decimalPlaces(), RoundingMode.HALF_UP);
+    StringBuilder builder = new StringBuilder();
+    for(Map.Entry<Integer, Tier> entry : currency.getMajorTiers().descendingMap().entrySet()) {
+      remaining = append(builder, remaining, new BigDecimal(entry.getKey()), entry.getValue());
+    }
+    for(Map.Entry<Integer, Tier> entry : currency.getMinorTiers().descendingMap().entrySet()) {
+      remaining = append(builder, remaining, BigDecimal.valueOf(entry.getKey(), currency.decimalPlaces()), entry.getValue());
+    }
+    return builder.toString();
+  }
+
+  private static BigDecimal append(StringBuilder builder, BigDecimal remaining, BigDecimal weight, Tier tier) {
+    BigDecimal[] division = remaining.divideAndRemainder(weight);
+    if(division[0].signum() > 0) {
+      if(builder.length() > 0) {
+        builder.append(", ");
+      }
+      long count = division[0].longValue();
+      builder.append(count).append(' ').append((count == 1)? tier.singular() : tier.plural());
+    }
+    return division[1];
+  }
+
+  @Benchmark
+  public String compiledTiers() {
+    return formatter.formatTiers(amount);
+  }
+}
@@ -0,0 +1,90 @@
+package net.tnemc.core.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class HoldingsBenchmark {
+
+  private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+  @Benchmark
+  public BigDecimal getHoldings(EconomyState state) {
+    return state.economy.getHoldings(state.identifier(), EconomyState.WORLD);
+  }
+
+  @Benchmark
+  public boolean hasHoldings(EconomyState state) {
+    return state.economy.hasHoldings(state.identifier(), AMOUNT, EconomyState.WORLD);
+  }
+
+  @Benchmark
+  public boolean addHoldings(EconomyState state) {
+    return state.economy.addHoldings(state.identifier(), AMOUNT, EconomyState.WORLD);
+  }
+
+  @Benchmark
+  public boolean removeHoldings(EconomyState state) {
+    return state.economy.removeHoldings(state.identifier(), AMOUNT, EconomyState.WORLD);
+  }
+
+  @Benchmark
+  public long getHoldingsMinor(EconomyState state) {
+    return state.economy.getHoldingsMinor(state.identifier(), EconomyState.WORLD, null);
+  }
+
+  @Benchmark
+  public boolean addHoldingsMinor(EconomyState state) {
+    return state.economy.addHoldingsMinor(state.identifier(), 1L, EconomyState.WORLD, null);
+  }
+
+  @Benchmark
+  public boolean transferHoldings(EconomyState state) {
+    UUID from = state.identifier();
+    UUID to = state.identifier();
+    return state.economy.transferHoldings(from, to, AMOUNT, EconomyState.WORLD);
+  }
+
+  @Threads(8)
+  public static class Threads8 extends HoldingsBenchmark {
+  }
+
+  @Threads(32)
+  public static class Threads32 extends HoldingsBenchmark {
+  }
+}
@@ -0,0 +1,69 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionChargeType;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class TransactionBenchmark {
+
+  private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+  /**
+   * A fresh {@link Transaction} is built for every invocation since performing one records the
+   * balances on its charges.
+   */
+  @Benchmark
+  public TransactionResult perform(EconomyState state) {
+    String initiator = state.identifier().toString();
+    String recipient = state.identifier().toString();
+    TransactionCharge initiatorCharge = new TransactionCharge(EconomyState.WORLD, state.economy.getDefault(), AMOUNT, TransactionChargeType.LOSE);
+    TransactionCharge recipientCharge = new TransactionCharge(EconomyState.WORLD, state.economy.getDefault(), AMOUNT, TransactionChargeType.GAIN);
+    return new BenchTransaction(initiator, recipient, initiatorCharge, recipientCharge, BenchTransactionType.PAY).perform();
+  }
+
+  @Threads(8)
+  public static class Threads8 extends TransactionBenchmark {
+  }
+
+  @Threads(32)
+  public static class Threads32 extends TransactionBenchmark {
+  }
+}
@@ -0,0 +1,101 @@
+package net.tnemc.core.benchmark;
+
+import net.tnemc.core.ReserveHarness;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionChargeType;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class TransactionLookupBenchmark {
+
+  private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+
+  @State(Scope.Benchmark)
+  public static class CountingState {
+
+    public BenchEconomy economy;
+    public String[] identifiers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      economy = new BenchEconomy(EconomyState.WORLD);
+      ReserveHarness.install(economy, EconomyState.WORLD);
+
+      identifiers = new String[1000];
+      for(int i = 0; i < identifiers.length; i++) {
+        UUID identifier = economy.createIfNotExists("Player" + i).identifier();
+        economy.getAccount(identifier).setHoldings(new BigDecimal("1000000.00"));
+        identifiers[i] = identifier.toString();
+      }
+    }
+
+    public String identifier() {
+      return identifiers[ThreadLocalRandom.current().nextInt(identifiers.length)];
+    }
+  }
+
+  /**
+   * Reported next to the perform throughput, dividing the two gives the getAccount calls per transaction. Each
+   * affected account is looked up once, so a transaction between two players should report two.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Lookups {
+    public long lookups;
+  }
+
+  @Benchmark
+  public TransactionResult perform(CountingState state, Lookups counters) {
+    TransactionCharge initiatorCharge = new TransactionCharge(EconomyState.WORLD, state.economy.getDefault(), AMOUNT, TransactionChargeType.LOSE);
+    TransactionCharge recipientCharge = new TransactionCharge(EconomyState.WORLD, state.economy.getDefault(), AMOUNT, TransactionChargeType.GAIN);
+    BenchTransaction transaction = new BenchTransaction(state.identifier(), state.identifier(), initiatorCharge, recipientCharge, BenchTransactionType.PAY);
+
+    long before = state.economy.lookups();
+    TransactionResult result = transaction.perform();
+    counters.lookups += state.economy.lookups() - before;
+    return result;
+  }
+}
@@ -0,0 +1,121 @@
+package net.tnemc.core.benchmark;
+
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.Economy_Vault;
+import org.bukkit.OfflinePlayer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class VaultBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class VaultState {
+
+    public Economy_Vault vault;
+    public OfflinePlayer[] players;
+
+    @Setup(Level.Trial)
+    public void setup(EconomyState economy) {
+      vault = new Economy_Vault(Reserve.instance());
+      players = new OfflinePlayer[economy.accounts];
+      for(int i = 0; i < players.length; i++) {
+        players[i] = player(economy, i);
+      }
+    }
+
+    public OfflinePlayer player() {
+      return players[ThreadLocalRandom.current().nextInt(players.length)];
+    }
+
+    /**
+     * Only getUniqueId and getName are used by the Vault bridge, so a proxy is enough here.
+     */
+    private static OfflinePlayer player(final EconomyState economy, final int index) {
+      return (OfflinePlayer)Proxy.newProxyInstance(OfflinePlayer.class.getClassLoader(), new Class<?>[] { OfflinePlayer.class }, new InvocationHandler() {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+          switch(method.getName()) {
+            case "getUniqueId":
+              return economy.identifiers[index];
+            case "getName":
+              return economy.names[index];
+            case "hashCode":
+              return index;
+            case "equals":
+              return proxy == args[0];
+            default:
+              throw new UnsupportedOperationException(method.getName());
+          }
+        }
+      });
+    }
+  }
+
+  @Benchmark
+  public double getBalance(VaultState state) {
+    return state.vault.getBalance(state.player(), EconomyState.WORLD);
+  }
+
+  @Benchmark
+  public boolean has(VaultState state) {
+    return state.vault.has(state.player(), EconomyState.WORLD, 0.01);
+  }
+
+  @Benchmark
+  public EconomyResponse withdrawDeposit(VaultState state) {
+    OfflinePlayer player = state.player();
+    state.vault.withdrawPlayer(player, EconomyState.WORLD, 0.01);
+    return state.vault.depositPlayer(player, EconomyState.WORLD, 0.01);
+  }
+
+  @Threads(8)
+  public static class Threads8 extends VaultBenchmark {
+  }
+
+  @Threads(32)
+  public static class Threads32 extends VaultBenchmark {
+  }
+}
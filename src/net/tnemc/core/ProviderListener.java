@@ -0,0 +1,32 @@
+package net.tnemc.core;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public interface ProviderListener<T> {
+
+  /**
+   * Called after the active provider has been swapped. Callers that keep their own reference to a provider should
+   * replace it here.
+   * @param previous The provider that was active before, or null if there was none.
+   * @param current The provider that is now active, or null if there is none.
+   */
+  void providerChanged(T previous, T current);
+}
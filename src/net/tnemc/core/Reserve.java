@@ -5,19 +5,49 @@ import net.tnemc.core.chat.ChatAPI;
 import net.tnemc.core.command.CommandManager;
 import net.tnemc.core.command.TNECommand;
 import net.tnemc.core.command.reserve.ReserveCommand;
+import net.tnemc.core.configuration.ConfigNodes;
 import net.tnemc.core.economy.EconomyAPI;
 import net.tnemc.core.economy.Economy_Vault;
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.PurgeJob;
+import net.tnemc.core.economy.cache.CachedEconomyAPI;
+import net.tnemc.core.economy.cache.CachedExtendedEconomyAPI;
+import net.tnemc.core.economy.cache.HoldingsCache;
+import net.tnemc.core.economy.leaderboard.Leaderboards;
+import net.tnemc.core.economy.memory.MemoryCurrency;
+import net.tnemc.core.economy.memory.MemoryEconomy;
+import net.tnemc.core.economy.storage.EconomyStorage;
+import net.tnemc.core.economy.storage.MappedEconomyStorage;
+import net.tnemc.core.economy.storage.WriteBehindFlusher;
+import net.tnemc.core.economy.transaction.journal.TransactionJournal;
+import net.tnemc.core.economy.transaction.pipeline.TransactionPipeline;
+import net.tnemc.core.identifier.IdentifierIndex;
+import net.tnemc.core.identifier.IdentifierListener;
 import net.tnemc.core.permissions.PermissionsAPI;
 import net.tnemc.core.utils.Metrics;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Created by creatorfromhell on 8/9/2017.
@@ -47,47 +77,209 @@ public class Reserve extends JavaPlugin {
 
   protected CommandManager commandManager;
 
+  private ExecutorService economyExecutor;
+
+  private TransactionJournal journal;
+
+  private TransactionPipeline transactionPipeline;
+
+  private IdentifierIndex identifiers;
+
+  private EconomyStorage storage;
+
+  private WriteBehindFlusher flusher;
+
+  private volatile PurgeJob purgeJob;
+  private BukkitTask purgeTask;
+
   private LinkedHashMap<String, EconomyAPI> registeredEconomies = new LinkedHashMap<>();
   private LinkedHashMap<String, PermissionsAPI> registeredPermissions = new LinkedHashMap<>();
   private LinkedHashMap<String, ChatAPI> registeredChats = new LinkedHashMap<>();
-  private String ecoProvider = null;
-  private String permissionsProvider = null;
+  private List<ProviderListener<EconomyAPI>> economyListeners = new CopyOnWriteArrayList<>();
+  private List<ProviderListener<PermissionsAPI>> permissionsListeners = new CopyOnWriteArrayList<>();
+
+  //The active providers are resolved once when they change, so the hot paths only perform a volatile read.
+  private volatile EconomyAPI economy = null;
+  private volatile PermissionsAPI permissions = null;
   private String chatProvider = null;
 
   public String defaultWorld = "Default";
 
+  public Reserve() {
+    super();
+  }
+
+  /**
+   * Used by {@link #standalone(JavaPluginLoader, PluginDescriptionFile, File, String, EconomyAPI)}, Bukkit only
+   * allows this constructor outside of a plugin class loader.
+   */
+  Reserve(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+    super(loader, description, dataFolder, file);
+  }
+
+  /**
+   * Creates an instance outside of a running server, for tests and benchmarks. The instance isn't loaded or enabled,
+   * so only the active economy provider and the default world are set up, and it becomes {@link #instance()}.
+   * @param loader The {@link JavaPluginLoader} of the server the instance pretends to run on.
+   * @param description The {@link PluginDescriptionFile} of the instance.
+   * @param dataFolder The data folder of the instance.
+   * @param world The name of the default world.
+   * @param economy The {@link EconomyAPI} to register as the active provider.
+   * @return The created instance.
+   */
+  static Reserve standalone(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder,
+                            String world, EconomyAPI economy) {
+    Reserve reserve = new Reserve(loader, description, dataFolder, new File(dataFolder, "Reserve.jar"));
+    reserve.defaultWorld = world;
+    reserve.registeredEconomies.put(economy.name(), economy);
+    reserve.swapEconomy(economy);
+    instance = reserve;
+    return reserve;
+  }
+
   public void onLoad() {
     instance = this;
 
     ConfigurationManager.initialize(this);
+
+    //Settings are loaded here rather than in onEnable since providers may register during their own onLoad.
+    if (!ConfigurationManager.loadSettings()){
+      // Failed to load configuration. You decide what to do.
+    }
   }
 
   public void onEnable() {
     commandManager = new CommandManager();
 
-    if (!ConfigurationManager.loadSettings()){
-      // Failed to load configuration. You decide what to do.
-    }
     if(Bukkit.getWorlds().size() >= 1) {
       defaultWorld = Bukkit.getServer().getWorlds().get(0).getName();
     } else {
       defaultWorld = "world";
     }
+
+    int threads = Math.max(1, ConfigurationManager.getInt(ConfigNodes.ECONOMY_THREADS));
+    economyExecutor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      private final AtomicInteger count = new AtomicInteger();
+
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Reserve-Economy-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+
+    if(ConfigurationManager.getBoolean(ConfigNodes.JOURNAL_ENABLED)) {
+      try {
+        journal = new TransactionJournal(new File(getDataFolder(), "journal"),
+                                         ConfigurationManager.getInt(ConfigNodes.JOURNAL_SEGMENT_SIZE) * 1024L * 1024L);
+      } catch(IOException e) {
+        getLogger().warning("Unable to open the transaction journal: " + e.getMessage());
+      }
+    }
+
+    transactionPipeline = new TransactionPipeline(Math.max(1, ConfigurationManager.getInt(ConfigNodes.TRANSACTIONS_SHARDS)),
+                                                  Math.max(1, ConfigurationManager.getInt(ConfigNodes.TRANSACTIONS_QUEUE_SIZE)));
+
+    identifiers = new IdentifierIndex(new File(getDataFolder(), "identifiers.txt"));
+    try {
+      identifiers.load();
+    } catch(IOException e) {
+      getLogger().warning("Unable to load the identifier index: " + e.getMessage());
+    }
+    //Players that are already online after a reload won't join again.
+    for(Player player : Bukkit.getOnlinePlayers()) {
+      identifiers.update(player.getUniqueId(), player.getName());
+    }
+    getServer().getPluginManager().registerEvents(new IdentifierListener(identifiers), this);
+
+    long interval = Math.max(1, ConfigurationManager.getInt(ConfigNodes.IDENTIFIERS_SAVE_INTERVAL)) * 20L;
+    getServer().getScheduler().runTaskTimerAsynchronously(this, this::saveIdentifiers, interval, interval);
+
     registerCommand(new String[] { "reserve", "rsv" }, new ReserveCommand(this));
 
+    if(ConfigurationManager.getBoolean(ConfigNodes.ECONOMY_FALLBACK)) {
+      //Tasks run once the server has finished loading, so every other plugin has had its chance to register.
+      getServer().getScheduler().runTask(this, () -> {
+        if(!economyProvided()) {
+          registerProvider(fallbackEconomy());
+        }
+      });
+    }
+
     new Metrics(this);
   }
 
+  public void onDisable() {
+    getServer().getScheduler().cancelTasks(this);
+    if(purgeJob != null) {
+      purgeJob.cancel();
+    }
+
+    //Asynchronous operations still change balances, so they have to finish before the balances are drained.
+    if(economyExecutor != null) {
+      economyExecutor.shutdown();
+      try {
+        if(!economyExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+          int dropped = economyExecutor.shutdownNow().size();
+          getLogger().warning("Asynchronous economy operations didn't finish in time, " + dropped + " were dropped.");
+        }
+      } catch(InterruptedException e) {
+        economyExecutor.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    //The pipeline writes to the journal, so it's drained first.
+    if(transactionPipeline != null) {
+      transactionPipeline.shutdown();
+    }
+
+    if(identifiers != null) {
+      saveIdentifiers();
+    }
+
+    //The pipeline has drained by now, so the drained balances include every transaction it performed.
+    if(flusher != null) {
+      try {
+        flusher.close();
+      } catch(IOException e) {
+        getLogger().warning("Unable to save balances: " + e.getMessage());
+      }
+      try {
+        storage.close();
+      } catch(IOException e) {
+        getLogger().warning("Unable to close the balance storage: " + e.getMessage());
+      }
+    }
+
+    if(journal != null) {
+      try {
+        journal.close();
+      } catch(IOException e) {
+        getLogger().warning("Unable to close the transaction journal: " + e.getMessage());
+      }
+    }
+  }
+
   public static Reserve instance() {
     return instance;
   }
 
   public void registerProvider(EconomyAPI provider) {
     getLogger().info("Economy Provider registered: " + provider.name());
-    registeredEconomies.put(provider.name(), provider);
+    if(ConfigurationManager.getBoolean(ConfigNodes.CACHE_ENABLED)) {
+      provider = cached(provider);
+    }
+    EconomyAPI replaced = registeredEconomies.put(provider.name(), provider);
+    //The active provider is looked up by name, so replacing its registration replaces it as well.
+    if(replaced != null && replaced == economy) {
+      swapEconomy(provider);
+    }
     if(provider.enabled()) {
-      ecoProvider = provider.name();
-      if(provider.vault() && getServer().getPluginManager().getPlugin("Vault") != null) {
+      swapEconomy(provider);
+      //The Vault bridge follows provider swaps itself, so it only needs to be hooked once.
+      if(vaultEconomy == null && provider.vault() && getServer().getPluginManager().getPlugin("Vault") != null) {
         vaultEconomy = new Economy_Vault(this);
         setupVault();
       }
@@ -96,10 +288,10 @@ public class Reserve extends JavaPlugin {
 
   public void registerProvider(PermissionsAPI provider) {
     getLogger().info("Permissions Provider registered: " + provider.name());
-    if(provider.enabled()) {
-      permissionsProvider = provider.name();
+    PermissionsAPI replaced = registeredPermissions.put(provider.name(), provider);
+    if(provider.enabled() || (replaced != null && replaced == permissions)) {
+      swapPermissions(provider);
     }
-    registeredPermissions.put(provider.name(), provider);
   }
 
   public void registerProvider(ChatAPI provider) {
@@ -123,11 +315,55 @@ public class Reserve extends JavaPlugin {
   }
 
   public void setEconomy(String name) {
-    ecoProvider = name;
+    swapEconomy(registeredEconomies.get(name));
   }
 
   public void setPermissions(String name) {
-    permissionsProvider = name;
+    swapPermissions(registeredPermissions.get(name));
+  }
+
+  private synchronized void swapEconomy(EconomyAPI provider) {
+    EconomyAPI previous = economy;
+    economy = provider;
+    if(previous != provider) {
+      for(ProviderListener<EconomyAPI> listener : economyListeners) {
+        listener.providerChanged(previous, provider);
+      }
+    }
+  }
+
+  private synchronized void swapPermissions(PermissionsAPI provider) {
+    PermissionsAPI previous = permissions;
+    permissions = provider;
+    if(previous != provider) {
+      for(ProviderListener<PermissionsAPI> listener : permissionsListeners) {
+        listener.providerChanged(previous, provider);
+      }
+    }
+  }
+
+  /**
+   * Registers a listener that is called whenever the active economy provider changes.
+   * @param listener The {@link ProviderListener} to register.
+   */
+  public void addEconomyListener(ProviderListener<EconomyAPI> listener) {
+    economyListeners.add(listener);
+  }
+
+  public void removeEconomyListener(ProviderListener<EconomyAPI> listener) {
+    economyListeners.remove(listener);
+  }
+
+  /**
+   * Registers a listener that is called whenever the active permissions provider changes.
+   * @param listener The {@link ProviderListener} to register.
+   */
+  public void addPermissionsListener(ProviderListener<PermissionsAPI> listener) {
+    permissionsListeners.add(listener);
+  }
+
+  public void removePermissionsListener(ProviderListener<PermissionsAPI> listener) {
+    permissionsListeners.remove(listener);
   }
 
   public void setChat(String name) {
@@ -135,19 +371,134 @@ public class Reserve extends JavaPlugin {
   }
 
   public EconomyAPI economy() {
-    return registeredEconomies.get(ecoProvider);
+    return economy;
   }
 
   public PermissionsAPI permissions() {
-    return registeredPermissions.get(permissionsProvider);
+    return permissions;
+  }
+
+  public ExecutorService economyExecutor() {
+    return economyExecutor;
+  }
+
+  /**
+   * @return The {@link TransactionJournal} opened by Reserve, or null if the journal is disabled. Providers may
+   * append their own transactions to it.
+   */
+  public TransactionJournal journal() {
+    return journal;
+  }
+
+  /**
+   * @return The {@link TransactionPipeline} that performs transactions off the calling thread.
+   */
+  public TransactionPipeline transactionPipeline() {
+    return transactionPipeline;
+  }
+
+  /**
+   * @return The {@link IdentifierIndex} that maps the names of players that have joined to their {@link java.util.UUID}s.
+   * Providers may use it to resolve name based calls without an offline player lookup.
+   */
+  public IdentifierIndex identifiers() {
+    return identifiers;
+  }
+
+  /**
+   * Creates Reserve's own economy. If storage is enabled, its balances are loaded from disk and changed balances are
+   * written behind in the background.
+   */
+  private MemoryEconomy fallbackEconomy() {
+    if(ConfigurationManager.getBoolean(ConfigNodes.STORAGE_ENABLED)) {
+      try {
+        storage = new MappedEconomyStorage(new File(getDataFolder(), "balances.dat"),
+                                           ConfigurationManager.getInt(ConfigNodes.STORAGE_COLUMNS));
+      } catch(IOException e) {
+        getLogger().warning("Unable to open the balance storage, balances won't be saved: " + e.getMessage());
+      }
+    }
+
+    MemoryCurrency currency = new MemoryCurrency("Dollar", "Dollars", "$", 2, true, BigDecimal.ZERO);
+    if(storage == null) {
+      return new MemoryEconomy(defaultWorld, currency, journal);
+    }
+
+    flusher = new WriteBehindFlusher(storage,
+                                     Math.max(1, ConfigurationManager.getInt(ConfigNodes.STORAGE_SAVE_INTERVAL)) * 1000L,
+                                     ConfigurationManager.getInt(ConfigNodes.STORAGE_FLUSH_THRESHOLD),
+                                     ConfigurationManager.getInt(ConfigNodes.STORAGE_BATCH_SIZE));
+    MemoryEconomy economy = new MemoryEconomy(defaultWorld, currency, journal, flusher);
+    try {
+      economy.load();
+    } catch(IOException e) {
+      getLogger().warning("Unable to load balances: " + e.getMessage());
+    }
+    return economy;
+  }
+
+  private void saveIdentifiers() {
+    try {
+      identifiers.save();
+    } catch(IOException e) {
+      getLogger().warning("Unable to save the identifier index: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Starts purging accounts of the current economy provider in chunks, one chunk per tick.
+   * @param under Accounts holding less than this amount are purged. Null purges every account.
+   * @return The {@link PurgeJob} that was started.
+   * @throws IllegalStateException If a purge is already running, or the economy provider can't be purged in chunks.
+   */
+  public synchronized PurgeJob startPurge(BigDecimal under) {
+    if(purgeJob != null && !purgeJob.finished()) {
+      throw new IllegalStateException("A purge is already running.");
+    }
+    if(!(economy instanceof ExtendedEconomyAPI) || ((ExtendedEconomyAPI)economy).accountPage(null, 1) == null) {
+      throw new IllegalStateException("The economy provider doesn't support purging accounts in chunks.");
+    }
+
+    final PurgeJob job = new PurgeJob((ExtendedEconomyAPI)economy, under,
+                                      ConfigurationManager.getInt(ConfigNodes.PURGE_CHUNK_SIZE));
+    purgeJob = job;
+    purgeTask = getServer().getScheduler().runTaskTimer(this, () -> {
+      job.run();
+      if(job.finished()) {
+        stopPurgeTask();
+      }
+    }, 1L, 1L);
+    return job;
+  }
+
+  private synchronized void stopPurgeTask() {
+    if(purgeTask != null) {
+      purgeTask.cancel();
+      purgeTask = null;
+    }
+  }
+
+  /**
+   * @return The most recently started {@link PurgeJob}, which may have finished, or null if none was started.
+   */
+  public PurgeJob purgeJob() {
+    return purgeJob;
+  }
+
+  /**
+   * @return The {@link Leaderboards} of the current economy provider, or null if it doesn't keep any.
+   */
+  public Leaderboards leaderboards() {
+    EconomyAPI economy = economy();
+    return (economy instanceof ExtendedEconomyAPI)? ((ExtendedEconomyAPI)economy).leaderboards() : null;
   }
 
   public boolean economyProvided() {
-    return ecoProvider != null;
+    return economy != null;
   }
 
   public boolean permissionsProvided() {
-    return permissionsProvider != null;
+    return permissions != null;
   }
 
   public boolean chatProvided() {
@@ -185,6 +536,15 @@ public class Reserve extends JavaPlugin {
     return false;
   }
 
+  private EconomyAPI cached(EconomyAPI provider) {
+    HoldingsCache cache = new HoldingsCache(ConfigurationManager.getInt(ConfigNodes.CACHE_TTL),
+                                            ConfigurationManager.getInt(ConfigNodes.CACHE_SIZE));
+    if(provider instanceof ExtendedEconomyAPI) {
+      return new CachedExtendedEconomyAPI((ExtendedEconomyAPI)provider, cache);
+    }
+    return new CachedEconomyAPI(provider, cache);
+  }
+
   private void setupVault() {
     getServer().getServicesManager().register(Economy.class, vaultEconomy, this, ServicePriority.Highest);
     getLogger().info("Hooked into Vault");
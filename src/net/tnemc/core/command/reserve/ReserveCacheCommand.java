@@ -0,0 +1,88 @@
+package net.tnemc.core.command.reserve;
+
+import net.tnemc.core.Reserve;
+import net.tnemc.core.command.TNECommand;
+import net.tnemc.core.economy.EconomyAPI;
+import net.tnemc.core.economy.cache.CachedEconomyAPI;
+import net.tnemc.core.economy.cache.HoldingsCache;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class ReserveCacheCommand extends TNECommand {
+
+  public ReserveCacheCommand(Reserve plugin) {
+    super(plugin);
+  }
+
+  @Override
+  public String getName() {
+    return "cache";
+  }
+
+  @Override
+  public String[] getAliases() {
+    return new String[0];
+  }
+
+  @Override
+  public String getNode() {
+    return "reserve.admin.cache";
+  }
+
+  @Override
+  public boolean console() {
+    return true;
+  }
+
+  @Override
+  public String getHelp() {
+    return ChatColor.GOLD + "/reserve cache [clear] " + ChatColor.WHITE + "- Displays, or clears, the balance cache statistics.";
+  }
+
+  @Override
+  public boolean execute(CommandSender sender, String command, String[] arguments) {
+    EconomyAPI api = Reserve.instance().economy();
+    if(!(api instanceof CachedEconomyAPI)) {
+      sender.sendMessage(ChatColor.WHITE + "The balance cache is currently disabled.");
+      return false;
+    }
+
+    HoldingsCache cache = ((CachedEconomyAPI)api).cache();
+    if(arguments.length > 0 && arguments[0].equalsIgnoreCase("clear")) {
+      cache.clear();
+      cache.resetStatistics();
+      sender.sendMessage(ChatColor.WHITE + "Successfully cleared the balance cache.");
+      return true;
+    }
+
+    long hits = cache.hits();
+    long lookups = hits + cache.misses();
+    String ratio = (lookups == 0)? "0" : String.format("%.2f", (hits * 100.0) / lookups);
+    sender.sendMessage(ChatColor.WHITE + "Balance Cache: " + ChatColor.GREEN + api.name());
+    sender.sendMessage(ChatColor.WHITE + " Cached Balances: " + ChatColor.GREEN + cache.size());
+    sender.sendMessage(ChatColor.WHITE + " Hits: " + ChatColor.GREEN + hits + ChatColor.WHITE + " Misses: " + ChatColor.GREEN + cache.misses());
+    sender.sendMessage(ChatColor.WHITE + " Hit Ratio: " + ChatColor.GREEN + ratio + "%");
+    sender.sendMessage(ChatColor.WHITE + " Evictions: " + ChatColor.GREEN + cache.evictions());
+    return true;
+  }
+}
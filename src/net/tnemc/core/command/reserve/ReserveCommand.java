@@ -27,9 +27,11 @@ public class ReserveCommand extends TNECommand {
 
   public ReserveCommand(Reserve plugin) {
     super(plugin);
+    subCommands.add(new ReserveCacheCommand(plugin));
     subCommands.add(new ReserveEconomyCommand(plugin));
     subCommands.add(new ReserveLoadedCommand(plugin));
     subCommands.add(new ReservePermissionsCommand(plugin));
+    subCommands.add(new ReservePurgeCommand(plugin));
     subCommands.add(new ReserveSetCommand(plugin));
   }
 
@@ -0,0 +1,112 @@
+package net.tnemc.core.command.reserve;
+
+import net.tnemc.core.Reserve;
+import net.tnemc.core.command.TNECommand;
+import net.tnemc.core.economy.PurgeJob;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class ReservePurgeCommand extends TNECommand {
+
+  public ReservePurgeCommand(Reserve plugin) {
+    super(plugin);
+  }
+
+  @Override
+  public String getName() {
+    return "purge";
+  }
+
+  @Override
+  public String[] getAliases() {
+    return new String[0];
+  }
+
+  @Override
+  public String getNode() {
+    return "reserve.admin.purge";
+  }
+
+  @Override
+  public boolean console() {
+    return true;
+  }
+
+  @Override
+  public String getHelp() {
+    return ChatColor.GOLD + "/reserve purge <start [under]|status|cancel> " + ChatColor.WHITE + "- Purges accounts, optionally only those holding less than an amount, without freezing the server.";
+  }
+
+  @Override
+  public boolean execute(CommandSender sender, String command, String[] arguments) {
+    String action = (arguments.length > 0)? arguments[0].toLowerCase() : "status";
+    PurgeJob job = Reserve.instance().purgeJob();
+
+    switch(action) {
+      case "start":
+        BigDecimal under = null;
+        if(arguments.length > 1) {
+          try {
+            under = new BigDecimal(arguments[1]);
+          } catch(NumberFormatException e) {
+            sender.sendMessage(ChatColor.RED + arguments[1] + " isn't a valid amount.");
+            return false;
+          }
+        }
+
+        try {
+          Reserve.instance().startPurge(under);
+        } catch(IllegalStateException e) {
+          sender.sendMessage(ChatColor.RED + e.getMessage());
+          return false;
+        }
+        sender.sendMessage(ChatColor.WHITE + "Started purging accounts" + ((under == null)? "." : " holding less than " + under.toPlainString() + "."));
+        return true;
+      case "cancel":
+        if(job == null || !job.cancel()) {
+          sender.sendMessage(ChatColor.RED + "There is no purge running.");
+          return false;
+        }
+        sender.sendMessage(ChatColor.WHITE + "Cancelled the purge after " + job.scanned() + " accounts.");
+        return true;
+      case "status":
+        if(job == null) {
+          sender.sendMessage(ChatColor.WHITE + "No purge has been started.");
+          return true;
+        }
+        long seconds = (System.currentTimeMillis() - job.started()) / 1000;
+        sender.sendMessage(ChatColor.WHITE + "Purge: " + ChatColor.GREEN + job.state().name().toLowerCase()
+                           + ChatColor.WHITE + " (" + seconds + "s)");
+        sender.sendMessage(ChatColor.WHITE + " Checked: " + ChatColor.GREEN + job.scanned() + ChatColor.WHITE + " Purged: " + ChatColor.GREEN + job.purged());
+        if(job.failure() != null) {
+          sender.sendMessage(ChatColor.WHITE + " Failure: " + ChatColor.RED + job.failure());
+        }
+        return true;
+      default:
+        help(sender);
+        return false;
+    }
+  }
+}
@@ -14,7 +14,79 @@ public enum ConfigNodes {
 			"vault-support",
 			"true",
 			"# Should Reserve hook into vault automatically (legacy support, however may cause issues)"
-	);
+	),
+	ECONOMY_THREADS(
+			"economy-threads",
+			"2",
+			"# The number of threads Reserve uses to run asynchronous economy calls for providers that don't supply their own executor."
+	),
+	ECONOMY_FALLBACK(
+			"economy-fallback",
+			"false",
+			"# Should Reserve provide its own in-memory economy if no other economy provider registers? Its balances are saved to disk unless storage.enabled is false."
+	),
+	TRANSACTIONS_HEADER("transactions", "", ""),
+	TRANSACTIONS_SHARDS(
+			"transactions.shards",
+			"4",
+			"# The number of threads transactions submitted to Reserve's pipeline are spread across. Transactions of the same initiator always run on the same thread."),
+	TRANSACTIONS_QUEUE_SIZE(
+			"transactions.queue-size",
+			"10000",
+			"# The number of transactions each thread may have waiting before new ones are rejected."),
+	JOURNAL_HEADER("journal", "", ""),
+	JOURNAL_ENABLED(
+			"journal.enabled",
+			"false",
+			"# Should transactions performed by Reserve's fallback economy be written to a journal on disk instead of kept in memory?"),
+	JOURNAL_SEGMENT_SIZE(
+			"journal.segment-size",
+			"16",
+			"# The size, in megabytes, after which the journal starts a new file."),
+	STORAGE_HEADER("storage", "", ""),
+	STORAGE_ENABLED(
+			"storage.enabled",
+			"true",
+			"# Should balances of Reserve's fallback economy be saved to disk?"),
+	STORAGE_SAVE_INTERVAL(
+			"storage.save-interval",
+			"5",
+			"# How often, in seconds, changed balances are written to disk."),
+	STORAGE_FLUSH_THRESHOLD(
+			"storage.flush-threshold",
+			"1000",
+			"# The number of changed balances that causes them to be written right away rather than at the next interval."),
+	STORAGE_BATCH_SIZE(
+			"storage.batch-size",
+			"500",
+			"# The maximum number of balances written to storage at once."),
+	STORAGE_COLUMNS(
+			"storage.columns",
+			"8",
+			"# The number of world and currency combinations each account has room for at first. Only used when the storage file is first created, it grows as more are used."),
+	PURGE_HEADER("purge", "", ""),
+	PURGE_CHUNK_SIZE(
+			"purge.chunk-size",
+			"250",
+			"# The number of accounts /reserve purge checks each tick."),
+	IDENTIFIERS_HEADER("identifiers", "", ""),
+	IDENTIFIERS_SAVE_INTERVAL(
+			"identifiers.save-interval",
+			"300",
+			"# How often, in seconds, Reserve saves the names of players that joined since the last save."),
+	CACHE_HEADER("cache", "", ""),
+	CACHE_ENABLED(
+			"cache.enabled",
+			"false",
+			"# Should Reserve cache balances returned by the economy provider?"),
+	CACHE_TTL(
+			"cache.ttl",
+			"1000",
+			"# How long, in milliseconds, a cached balance stays valid for."),
+	CACHE_SIZE(
+			"cache.size",
+			"10000",
+			"# The maximum number of balances to keep cached.");
 
 
 	private final String Root;
@@ -1,6 +1,7 @@
 package net.tnemc.core.economy;
 
 import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.CurrencyUnits;
 import net.tnemc.core.economy.transaction.charge.TransactionCharge;
 import net.tnemc.core.economy.transaction.charge.TransactionChargeType;
 import org.bukkit.World;
@@ -309,6 +310,67 @@ public interface Account {
    */
   boolean canRemoveHoldings(BigDecimal amount, Currency currency, String world);
 
+  /**
+   * Used to get the holdings of this account in minor units, e.g. cents for a currency with two decimal places.
+   * Providers that store balances as minor units should override the minor unit methods, the defaults bridge to the
+   * {@link BigDecimal} methods.
+   * @param currency The {@link Currency} object associated with the balance.
+   * @param world The name of the {@link World} associated with the balance.
+   * @return The holdings of this account in minor units of the specified currency, or 0 if no currency was specified.
+   */
+  default long getHoldingsMinor(Currency currency, String world) {
+    if(currency == null) return 0L;
+    return CurrencyUnits.toMinor(getHoldings(world, currency), currency.decimalPlaces());
+  }
+
+  /**
+   * Used to determine if this account has at least an amount of funds in minor units.
+   * @param amount The amount in minor units you wish to use for this check.
+   * @param currency The {@link Currency} object associated with the amount.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return True if this account has at least the specified amount, otherwise false.
+   */
+  default boolean hasHoldingsMinor(long amount, Currency currency, String world) {
+    if(currency == null) return false;
+    return getHoldingsMinor(currency, world) >= amount;
+  }
+
+  /**
+   * Used to set the funds of this account in minor units.
+   * @param amount The amount in minor units you wish to set this account's holdings to.
+   * @param currency The {@link Currency} object associated with the amount.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return True if the holdings were set, otherwise false.
+   */
+  default boolean setHoldingsMinor(long amount, Currency currency, String world) {
+    if(currency == null) return false;
+    return setHoldings(CurrencyUnits.fromMinor(amount, currency.decimalPlaces()), currency, world);
+  }
+
+  /**
+   * Used to add funds in minor units to this account.
+   * @param amount The amount in minor units you wish to add to this account.
+   * @param currency The {@link Currency} object associated with the amount.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return True if the funds were added, otherwise false.
+   */
+  default boolean addHoldingsMinor(long amount, Currency currency, String world) {
+    if(currency == null) return false;
+    return addHoldings(CurrencyUnits.fromMinor(amount, currency.decimalPlaces()), currency, world);
+  }
+
+  /**
+   * Used to remove funds in minor units from this account.
+   * @param amount The amount in minor units you wish to remove from this account.
+   * @param currency The {@link Currency} object associated with the amount.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return True if the funds were removed, otherwise false.
+   */
+  default boolean removeHoldingsMinor(long amount, Currency currency, String world) {
+    if(currency == null) return false;
+    return removeHoldings(CurrencyUnits.fromMinor(amount, currency.decimalPlaces()), currency, world);
+  }
+
   /**
    * Used to handle an {@link TransactionCharge}. This is mostly a shorthand method.
    * @param charge The {@link TransactionCharge} to handle.
@@ -321,6 +383,17 @@ public interface Account {
     return addHoldings(charge.getEntry().getAmount(), charge.getCurrency(), charge.getWorld());
   }
 
+  /**
+   * Used to check and handle a {@link TransactionCharge} in a single step. Implementations should make this atomic,
+   * so the account can't change between the check and the charge. The default simply composes canCharge and
+   * handleCharge.
+   * @param charge The {@link TransactionCharge} to handle.
+   * @return True if the charge was handled, otherwise false and the account is left untouched.
+   */
+  default boolean tryCharge(TransactionCharge charge) {
+    return canCharge(charge) && handleCharge(charge);
+  }
+
   /**
    * Used to determine if a call to handleCharge would be successful. This method does not affect an account's funds.
    * @param charge The {@link TransactionCharge} to handle.
@@ -0,0 +1,171 @@
+package net.tnemc.core.economy;
+
+import net.tnemc.core.Reserve;
+import net.tnemc.core.identifier.IdentifierIndex;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public final class AccountLocks {
+
+  /**
+   * The number of lock stripes, must be a power of two.
+   */
+  private static final int STRIPES = 256;
+
+  private static final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+  static {
+    for(int i = 0; i < STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  private AccountLocks() {
+  }
+
+  /**
+   * Finds the lock stripe that guards the specified account identifier. A {@link UUID}, its string form, and the
+   * names Reserve's {@link IdentifierIndex} resolves to it all share a stripe. Other names share the stripe of their
+   * lower case form.
+   * @param identifier The identifier of the account. This may be a {@link java.util.UUID}, or a player's name.
+   * @return The index of the lock stripe.
+   */
+  public static int stripe(Object identifier) {
+    int hash = key(identifier).hashCode();
+    hash ^= (hash >>> 16);
+    return hash & (STRIPES - 1);
+  }
+
+  private static Object key(Object identifier) {
+    if(!(identifier instanceof String)) {
+      return identifier;
+    }
+
+    final String name = (String)identifier;
+    UUID parsed = IdentifierIndex.parse(name);
+    if(parsed != null) {
+      return parsed;
+    }
+    Reserve reserve = Reserve.instance();
+    IdentifierIndex identifiers = (reserve != null)? reserve.identifiers() : null;
+    UUID resolved = (identifiers != null)? identifiers.resolve(name) : null;
+    return (resolved != null)? resolved : name.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Returns the lock stripe that guards the specified account identifier. Providers may hold this lock while mutating
+   * an account so that their updates are serialized with the transfers performed by Reserve. They must not take it
+   * from inside a transfer or {@link ExtendedEconomyAPI#performTransaction}, where Reserve already holds the stripes of both
+   * accounts, since taking the stripe of a third account there breaks the stripe order.
+   * @param identifier The identifier of the account. This may be a {@link java.util.UUID}, or a player's name.
+   * @return The {@link ReentrantLock} that guards the account.
+   */
+  public static ReentrantLock lock(Object identifier) {
+    return locks[stripe(identifier)];
+  }
+
+  /**
+   * Transfers holdings between two accounts while holding the locks of both. The locks are always acquired in stripe
+   * order, so two transfers running in opposite directions can never deadlock. If the deposit fails, or throws, the
+   * withdrawn holdings are returned to the sender before the locks are released, and the exception is rethrown.
+   *
+   * Note: the locks only serialize transfers and pipeline transactions routed through Reserve. Reads don't take them,
+   * so a balance read during a transfer may see the holdings withdrawn from the sender but not yet deposited into the
+   * receiver. The withdraw, deposit and refund actions must not take stripe locks themselves.
+   *
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param withdraw Removes the holdings from the sender.
+   * @param deposit Adds the holdings to the receiver.
+   * @param refund Returns the holdings to the sender if the deposit failed.
+   * @return The {@link TransferResult} of the transfer.
+   */
+  public static TransferResult transfer(Object fromIdentifier, Object toIdentifier, BooleanSupplier withdraw,
+                                        BooleanSupplier deposit, BooleanSupplier refund) {
+    return locked(fromIdentifier, toIdentifier, () -> {
+      if(!withdraw.getAsBoolean()) {
+        return TransferResult.WITHDRAW_FAILED;
+      }
+
+      try {
+        if(deposit.getAsBoolean()) {
+          return TransferResult.SUCCESS;
+        }
+      } catch(RuntimeException e) {
+        //The withdrawal already happened, so the holdings are returned before the failure is passed on.
+        try {
+          refund.getAsBoolean();
+        } catch(RuntimeException refundFailure) {
+          e.addSuppressed(refundFailure);
+        }
+        throw e;
+      }
+      return (refund.getAsBoolean())? TransferResult.ROLLED_BACK : TransferResult.ROLLBACK_FAILED;
+    });
+  }
+
+  /**
+   * Runs an action while holding the locks of two accounts, acquired in stripe order.
+   * @param first The identifier of the first account, or null if there is no first account.
+   * @param second The identifier of the second account, or null if there is no second account.
+   * @param action The action to run.
+   * @param <T> The type returned by the action.
+   * @return The value returned by the action.
+   */
+  public static <T> T locked(Object first, Object second, Supplier<T> action) {
+    int firstStripe = (first != null)? stripe(first) : -1;
+    int secondStripe = (second != null)? stripe(second) : -1;
+    if(firstStripe == -1) {
+      firstStripe = secondStripe;
+    } else if(secondStripe == -1) {
+      secondStripe = firstStripe;
+    }
+
+    if(firstStripe == -1) {
+      return action.get();
+    }
+
+    ReentrantLock lower = locks[Math.min(firstStripe, secondStripe)];
+    ReentrantLock upper = locks[Math.max(firstStripe, secondStripe)];
+
+    lower.lock();
+    try {
+      if(upper != lower) {
+        upper.lock();
+      }
+      try {
+        return action.get();
+      } finally {
+        if(upper != lower) {
+          upper.unlock();
+        }
+      }
+    } finally {
+      lower.unlock();
+    }
+  }
+}
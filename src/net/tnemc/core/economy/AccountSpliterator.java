@@ -0,0 +1,183 @@
+package net.tnemc.core.economy;
+
+import net.tnemc.core.economy.currency.Currency;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * A {@link Spliterator} over the accounts of an {@link ExtendedEconomyAPI}, walked with
+ * {@link ExtendedEconomyAPI#accountPage(UUID, int)}. Only one page of identifiers is held at a time, and accounts are
+ * resolved as they're traversed. Splitting hands the next page off to another spliterator, so a parallel stream
+ * works through the accounts a page per thread.
+ */
+public class AccountSpliterator implements Spliterator<Account> {
+
+  public static final int DEFAULT_CHUNK = 256;
+
+  private final ExtendedEconomyAPI economy;
+  private final Predicate<Account> filter;
+  private final int chunk;
+
+  /**
+   * The identifiers being traversed, and the position within them.
+   */
+  private List<UUID> page;
+  private int index = 0;
+
+  /**
+   * The last identifier paged, or null before the first page. Pages after this are still unclaimed.
+   */
+  private UUID cursor;
+
+  /**
+   * Whether this spliterator may page past {@link #page}. Spliterators created by {@link #trySplit()} only cover the
+   * page they were handed.
+   */
+  private boolean paging;
+
+  /**
+   * @param economy The economy whose accounts should be traversed.
+   * @param filter The accounts to include, or null to include every account.
+   * @param chunk How many identifiers to page at a time.
+   */
+  public AccountSpliterator(ExtendedEconomyAPI economy, Predicate<Account> filter, int chunk) {
+    if(chunk <= 0) throw new IllegalArgumentException("chunk must be positive");
+    this.economy = economy;
+    this.filter = filter;
+    this.chunk = chunk;
+    this.paging = true;
+  }
+
+  private AccountSpliterator(ExtendedEconomyAPI economy, Predicate<Account> filter, int chunk, List<UUID> page) {
+    this.economy = economy;
+    this.filter = filter;
+    this.chunk = chunk;
+    this.page = page;
+    this.paging = false;
+  }
+
+  /**
+   * Creates a filter matching accounts that hold a non-zero balance of a currency in a world.
+   * @param economy The economy the currency is resolved through.
+   * @param world The world, or null for the default world.
+   * @param currency The name of the currency, or null for the default currency of the world.
+   * @return The filter, or null if both world and currency are null.
+   */
+  public static Predicate<Account> holding(ExtendedEconomyAPI economy, String world, String currency) {
+    if(world == null && currency == null) return null;
+
+    Currency resolved = (currency == null)? economy.getDefault(world)
+                                          : (world == null)? economy.getCurrency(currency) : economy.getCurrency(currency, world);
+    if(resolved == null) return account -> false;
+
+    if(world != null) {
+      //Compare in minor units, which providers storing minor units answer without a BigDecimal.
+      return account -> account.getHoldingsMinor(resolved, world) != 0;
+    }
+    return account -> {
+      BigDecimal holdings = account.getHoldings(resolved);
+      return holdings != null && holdings.signum() != 0;
+    };
+  }
+
+  /**
+   * Fetches the next page of identifiers if the current one is used up.
+   * @return True if there's an identifier left to traverse.
+   */
+  private boolean fill() {
+    while(page == null || index >= page.size()) {
+      if(!paging) return false;
+
+      List<UUID> next = economy.accountPage(cursor, chunk);
+      if(next == null || next.isEmpty()) {
+        paging = false;
+        page = null;
+        return false;
+      }
+      cursor = next.get(next.size() - 1);
+      if(next.size() < chunk) paging = false;
+      page = next;
+      index = 0;
+    }
+    return true;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Account> action) {
+    while(fill()) {
+      Account account = economy.account(page.get(index++));
+      if(account != null && (filter == null || filter.test(account))) {
+        action.accept(account);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super Account> action) {
+    while(fill()) {
+      Account account = economy.account(page.get(index++));
+      if(account != null && (filter == null || filter.test(account))) {
+        action.accept(account);
+      }
+    }
+  }
+
+  @Override
+  public Spliterator<Account> trySplit() {
+    if(!paging) {
+      //A handed off page is split in half, down to single accounts.
+      int remaining = (page == null)? 0 : page.size() - index;
+      if(remaining < 2) return null;
+
+      int middle = index + remaining / 2;
+      List<UUID> prefix = page.subList(index, middle);
+      index = middle;
+      return new AccountSpliterator(economy, filter, chunk, prefix);
+    }
+    if(!fill()) return null;
+
+    //Hand off what's left of the current page, and page on from the cursor ourselves.
+    List<UUID> prefix = page.subList(index, page.size());
+    page = null;
+    index = 0;
+    return new AccountSpliterator(economy, filter, chunk, prefix);
+  }
+
+  @Override
+  public long estimateSize() {
+    if(paging) return Long.MAX_VALUE;
+    return (page == null)? 0 : page.size() - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | DISTINCT | NONNULL;
+  }
+}
@@ -1,12 +1,19 @@
 package net.tnemc.core.economy;
 
+import net.tnemc.core.Reserve;
 import net.tnemc.core.economy.currency.Currency;
 
 import org.bukkit.OfflinePlayer;
 import org.bukkit.World;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Created by creatorfromhell on 2/26/2018.
@@ -52,6 +59,15 @@ public interface EconomyAPI {
     return true;
   }
 
+  /**
+   * @return Whether an account identified by a player's name is the same account as the one identified by their
+   * {@link java.util.UUID}. If true, Reserve's Vault implementation resolves the names of known players to their
+   * {@link java.util.UUID}, otherwise names are passed to this implementation unchanged.
+   */
+  default boolean sharedNameAccounts() {
+    return false;
+  }
+
   /**
    * Used to get the plural name of the default currency.
    * @return The plural name of the default currency.
@@ -884,6 +900,249 @@ public interface EconomyAPI {
    */
   boolean canRemoveHoldings(UUID identifier, BigDecimal amount, String world, String currency);
 
+  /**
+   * Used to get the balances of multiple accounts in one call. Implementations backed by a database should override
+   * this with a single bulk query, the default simply calls getHoldings for each account.
+   * @param identifiers The identifiers of the accounts that are associated with this call.
+   * @return A {@link Map} containing the balance of each account, keyed by the account's identifier.
+   */
+  default Map<UUID, BigDecimal> getHoldings(Collection<UUID> identifiers) {
+    Map<UUID, BigDecimal> holdings = new HashMap<>();
+    for(UUID identifier : identifiers) {
+      holdings.put(identifier, getHoldings(identifier));
+    }
+    return holdings;
+  }
+
+  /**
+   * Used to get the balances of multiple accounts in one call. Implementations backed by a database should override
+   * this with a single bulk query, the default simply calls getHoldings for each account.
+   * @param identifiers The identifiers of the accounts that are associated with this call.
+   * @param world The name of the {@link World} associated with the balances.
+   * @return A {@link Map} containing the balance of each account, keyed by the account's identifier.
+   */
+  default Map<UUID, BigDecimal> getHoldings(Collection<UUID> identifiers, String world) {
+    Map<UUID, BigDecimal> holdings = new HashMap<>();
+    for(UUID identifier : identifiers) {
+      holdings.put(identifier, getHoldings(identifier, world));
+    }
+    return holdings;
+  }
+
+  /**
+   * Used to get the balances of multiple accounts in one call. Implementations backed by a database should override
+   * this with a single bulk query, the default simply calls getHoldings for each account.
+   * @param identifiers The identifiers of the accounts that are associated with this call.
+   * @param world The name of the {@link World} associated with the balances.
+   * @param currency The {@link Currency} associated with the balances.
+   * @return A {@link Map} containing the balance of each account, keyed by the account's identifier.
+   */
+  default Map<UUID, BigDecimal> getHoldings(Collection<UUID> identifiers, String world, String currency) {
+    Map<UUID, BigDecimal> holdings = new HashMap<>();
+    for(UUID identifier : identifiers) {
+      holdings.put(identifier, getHoldings(identifier, world, currency));
+    }
+    return holdings;
+  }
+
+  /**
+   * Used to apply holdings changes to multiple accounts in one call. A positive amount is added to the account, a
+   * negative amount is removed from it. Implementations backed by a database should override this with a single
+   * batched update, the default simply calls addHoldings or removeHoldings for each account.
+   * @param deltas A {@link Map} of the amount to apply to each account, keyed by the account's identifier.
+   * @return A {@link Map} containing whether or not the change was applied to each account, keyed by the account's
+   * identifier.
+   */
+  default Map<UUID, Boolean> applyHoldings(Map<UUID, BigDecimal> deltas) {
+    Map<UUID, Boolean> results = new HashMap<>();
+    for(Map.Entry<UUID, BigDecimal> entry : deltas.entrySet()) {
+      BigDecimal amount = entry.getValue();
+      boolean applied = true;
+      if(amount.signum() > 0) {
+        applied = addHoldings(entry.getKey(), amount);
+      } else if(amount.signum() < 0) {
+        applied = removeHoldings(entry.getKey(), amount.negate());
+      }
+      results.put(entry.getKey(), applied);
+    }
+    return results;
+  }
+
+  /**
+   * Used to apply holdings changes to multiple accounts in one call. A positive amount is added to the account, a
+   * negative amount is removed from it. Implementations backed by a database should override this with a single
+   * batched update, the default simply calls addHoldings or removeHoldings for each account.
+   * @param deltas A {@link Map} of the amount to apply to each account, keyed by the account's identifier.
+   * @param world The name of the {@link World} associated with the balances.
+   * @return A {@link Map} containing whether or not the change was applied to each account, keyed by the account's
+   * identifier.
+   */
+  default Map<UUID, Boolean> applyHoldings(Map<UUID, BigDecimal> deltas, String world) {
+    Map<UUID, Boolean> results = new HashMap<>();
+    for(Map.Entry<UUID, BigDecimal> entry : deltas.entrySet()) {
+      BigDecimal amount = entry.getValue();
+      boolean applied = true;
+      if(amount.signum() > 0) {
+        applied = addHoldings(entry.getKey(), amount, world);
+      } else if(amount.signum() < 0) {
+        applied = removeHoldings(entry.getKey(), amount.negate(), world);
+      }
+      results.put(entry.getKey(), applied);
+    }
+    return results;
+  }
+
+  /**
+   * Used to apply holdings changes to multiple accounts in one call. A positive amount is added to the account, a
+   * negative amount is removed from it. Implementations backed by a database should override this with a single
+   * batched update, the default simply calls addHoldings or removeHoldings for each account.
+   * @param deltas A {@link Map} of the amount to apply to each account, keyed by the account's identifier.
+   * @param world The name of the {@link World} associated with the balances.
+   * @param currency The {@link Currency} associated with the balances.
+   * @return A {@link Map} containing whether or not the change was applied to each account, keyed by the account's
+   * identifier.
+   */
+  default Map<UUID, Boolean> applyHoldings(Map<UUID, BigDecimal> deltas, String world, String currency) {
+    Map<UUID, Boolean> results = new HashMap<>();
+    for(Map.Entry<UUID, BigDecimal> entry : deltas.entrySet()) {
+      BigDecimal amount = entry.getValue();
+      boolean applied = true;
+      if(amount.signum() > 0) {
+        applied = addHoldings(entry.getKey(), amount, world, currency);
+      } else if(amount.signum() < 0) {
+        applied = removeHoldings(entry.getKey(), amount.negate(), world, currency);
+      }
+      results.put(entry.getKey(), applied);
+    }
+    return results;
+  }
+
+  /**
+   * Used to transfer funds from one account to another as a single operation. If the holdings cannot be deposited
+   * into the receiving account they are returned to the sending account, so funds are never lost part way through.
+   *
+   * Implementations that can perform the transfer atomically in their storage, such as within a single database
+   * transaction, should override this. The default implementation serializes transfers between the same accounts
+   * using {@link AccountLocks}.
+   *
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to transfer.
+   * @return The {@link TransferResult} of the transfer.
+   */
+  default TransferResult transfer(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    return AccountLocks.transfer(fromIdentifier, toIdentifier,
+        () -> removeHoldings(fromIdentifier, amount),
+        () -> addHoldings(toIdentifier, amount),
+        () -> addHoldings(fromIdentifier, amount));
+  }
+
+  /**
+   * Used to transfer funds from one account to another as a single operation. If the holdings cannot be deposited
+   * into the receiving account they are returned to the sending account, so funds are never lost part way through.
+   *
+   * Implementations that can perform the transfer atomically in their storage, such as within a single database
+   * transaction, should override this. The default implementation serializes transfers between the same accounts
+   * using {@link AccountLocks}.
+   *
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to transfer.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return The {@link TransferResult} of the transfer.
+   */
+  default TransferResult transfer(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    return AccountLocks.transfer(fromIdentifier, toIdentifier,
+        () -> removeHoldings(fromIdentifier, amount, world),
+        () -> addHoldings(toIdentifier, amount, world),
+        () -> addHoldings(fromIdentifier, amount, world));
+  }
+
+  /**
+   * Used to transfer funds from one account to another as a single operation. If the holdings cannot be deposited
+   * into the receiving account they are returned to the sending account, so funds are never lost part way through.
+   *
+   * Implementations that can perform the transfer atomically in their storage, such as within a single database
+   * transaction, should override this. The default implementation serializes transfers between the same accounts
+   * using {@link AccountLocks}.
+   *
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to transfer.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return The {@link TransferResult} of the transfer.
+   */
+  default TransferResult transfer(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    return AccountLocks.transfer(fromIdentifier, toIdentifier,
+        () -> removeHoldings(fromIdentifier, amount, world, currency),
+        () -> addHoldings(toIdentifier, amount, world, currency),
+        () -> addHoldings(fromIdentifier, amount, world, currency));
+  }
+
+  /**
+   * Used to transfer funds from one account to another as a single operation. If the holdings cannot be deposited
+   * into the receiving account they are returned to the sending account, so funds are never lost part way through.
+   *
+   * Implementations that can perform the transfer atomically in their storage, such as within a single database
+   * transaction, should override this. The default implementation serializes transfers between the same accounts
+   * using {@link AccountLocks}.
+   *
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to transfer.
+   * @return The {@link TransferResult} of the transfer.
+   */
+  default TransferResult transfer(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    return AccountLocks.transfer(fromIdentifier, toIdentifier,
+        () -> removeHoldings(fromIdentifier, amount),
+        () -> addHoldings(toIdentifier, amount),
+        () -> addHoldings(fromIdentifier, amount));
+  }
+
+  /**
+   * Used to transfer funds from one account to another as a single operation. If the holdings cannot be deposited
+   * into the receiving account they are returned to the sending account, so funds are never lost part way through.
+   *
+   * Implementations that can perform the transfer atomically in their storage, such as within a single database
+   * transaction, should override this. The default implementation serializes transfers between the same accounts
+   * using {@link AccountLocks}.
+   *
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to transfer.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return The {@link TransferResult} of the transfer.
+   */
+  default TransferResult transfer(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    return AccountLocks.transfer(fromIdentifier, toIdentifier,
+        () -> removeHoldings(fromIdentifier, amount, world),
+        () -> addHoldings(toIdentifier, amount, world),
+        () -> addHoldings(fromIdentifier, amount, world));
+  }
+
+  /**
+   * Used to transfer funds from one account to another as a single operation. If the holdings cannot be deposited
+   * into the receiving account they are returned to the sending account, so funds are never lost part way through.
+   *
+   * Implementations that can perform the transfer atomically in their storage, such as within a single database
+   * transaction, should override this. The default implementation serializes transfers between the same accounts
+   * using {@link AccountLocks}.
+   *
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to transfer.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return The {@link TransferResult} of the transfer.
+   */
+  default TransferResult transfer(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    return AccountLocks.transfer(fromIdentifier, toIdentifier,
+        () -> removeHoldings(fromIdentifier, amount, world, currency),
+        () -> addHoldings(toIdentifier, amount, world, currency),
+        () -> addHoldings(fromIdentifier, amount, world, currency));
+  }
+
   /**
    * Used to transfer funds from one account to another.
    *
@@ -894,7 +1153,7 @@ public interface EconomyAPI {
    * @return True if the funds were transferred.
    */
   default boolean transferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount) {
-    return removeHoldings(fromIdentifier, amount) && addHoldings(toIdentifier, amount);
+    return transfer(fromIdentifier, toIdentifier, amount).successful();
   }
 
   /**
@@ -906,7 +1165,7 @@ public interface EconomyAPI {
    * @return True if the funds were transferred.
    */
   default boolean transferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
-    return removeHoldings(fromIdentifier, amount, world) && addHoldings(toIdentifier, amount, world);
+    return transfer(fromIdentifier, toIdentifier, amount, world).successful();
   }
 
   /**
@@ -919,7 +1178,7 @@ public interface EconomyAPI {
    * @return True if the funds were transferred.
    */
   default boolean transferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
-    return removeHoldings(fromIdentifier, amount, world, currency) && addHoldings(toIdentifier, amount, world, currency);
+    return transfer(fromIdentifier, toIdentifier, amount, world, currency).successful();
   }
 
   /**
@@ -930,7 +1189,7 @@ public interface EconomyAPI {
    * @return True if the funds were transferred.
    */
   default boolean transferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
-    return removeHoldings(fromIdentifier, amount) && addHoldings(toIdentifier, amount);
+    return transfer(fromIdentifier, toIdentifier, amount).successful();
   }
 
   /**
@@ -942,7 +1201,7 @@ public interface EconomyAPI {
    * @return True if the funds were transferred.
    */
   default boolean transferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
-    return removeHoldings(fromIdentifier, amount, world) && addHoldings(toIdentifier, amount, world);
+    return transfer(fromIdentifier, toIdentifier, amount, world).successful();
   }
 
   /**
@@ -955,7 +1214,7 @@ public interface EconomyAPI {
    * @return True if the funds were transferred.
    */
   default boolean transferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
-    return removeHoldings(fromIdentifier, amount, world, currency) && addHoldings(toIdentifier, amount, world, currency);
+    return transfer(fromIdentifier, toIdentifier, amount, world, currency).successful();
   }
 
   /**
@@ -1042,6 +1301,689 @@ public interface EconomyAPI {
     return canRemoveHoldings(fromIdentifier, amount, world, currency) && canAddHoldings(toIdentifier, amount, world, currency);
   }
 
+  /**
+   * The {@link Executor} used to perform the asynchronous variants of the holdings methods. Implementations that
+   * manage their own threads, or use a connection pool with its own workers, should override this. Calls made before
+   * Reserve has been enabled, such as from a provider's onLoad, run on the {@link ForkJoinPool#commonPool()}.
+   * @return The {@link Executor} used for asynchronous calls.
+   */
+  default Executor executor() {
+    Reserve reserve = Reserve.instance();
+    Executor executor = (reserve != null)? reserve.economyExecutor() : null;
+    return (executor != null)? executor : ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Used to get the balance of an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @return A {@link CompletableFuture} that completes with the balance of the account.
+   */
+  default CompletableFuture<BigDecimal> getHoldingsAsync(String identifier) {
+    return CompletableFuture.supplyAsync(() -> getHoldings(identifier), executor());
+  }
+
+  /**
+   * Used to get the balance of an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @return A {@link CompletableFuture} that completes with the balance of the account.
+   */
+  default CompletableFuture<BigDecimal> getHoldingsAsync(UUID identifier) {
+    return CompletableFuture.supplyAsync(() -> getHoldings(identifier), executor());
+  }
+
+  /**
+   * Used to get the balance of an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param world The name of the {@link World} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with the balance of the account.
+   */
+  default CompletableFuture<BigDecimal> getHoldingsAsync(String identifier, String world) {
+    return CompletableFuture.supplyAsync(() -> getHoldings(identifier, world), executor());
+  }
+
+  /**
+   * Used to get the balance of an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param world The name of the {@link World} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with the balance of the account.
+   */
+  default CompletableFuture<BigDecimal> getHoldingsAsync(UUID identifier, String world) {
+    return CompletableFuture.supplyAsync(() -> getHoldings(identifier, world), executor());
+  }
+
+  /**
+   * Used to get the balance of an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param world The name of the {@link World} associated with the balance.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with the balance of the account.
+   */
+  default CompletableFuture<BigDecimal> getHoldingsAsync(String identifier, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> getHoldings(identifier, world, currency), executor());
+  }
+
+  /**
+   * Used to get the balance of an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param world The name of the {@link World} associated with the balance.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with the balance of the account.
+   */
+  default CompletableFuture<BigDecimal> getHoldingsAsync(UUID identifier, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> getHoldings(identifier, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if an account has at least an amount of funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to use for this check.
+   * @return A {@link CompletableFuture} that completes with true if the account has at least the specified amount of funds, otherwise false.
+   */
+  default CompletableFuture<Boolean> hasHoldingsAsync(String identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> hasHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if an account has at least an amount of funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to use for this check.
+   * @return A {@link CompletableFuture} that completes with true if the account has at least the specified amount of funds, otherwise false.
+   */
+  default CompletableFuture<Boolean> hasHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> hasHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if an account has at least an amount of funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to use for this check.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the account has at least the specified amount of funds, otherwise false.
+   */
+  default CompletableFuture<Boolean> hasHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> hasHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if an account has at least an amount of funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to use for this check.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the account has at least the specified amount of funds, otherwise false.
+   */
+  default CompletableFuture<Boolean> hasHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> hasHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if an account has at least an amount of funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to use for this check.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the account has at least the specified amount of funds, otherwise false.
+   */
+  default CompletableFuture<Boolean> hasHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> hasHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if an account has at least an amount of funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to use for this check.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the account has at least the specified amount of funds, otherwise false.
+   */
+  default CompletableFuture<Boolean> hasHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> hasHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to set the funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to set this accounts's funds to.
+   * @return A {@link CompletableFuture} that completes with true if the funds were set for the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> setHoldingsAsync(String identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> setHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to set the funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to set this accounts's funds to.
+   * @return A {@link CompletableFuture} that completes with true if the funds were set for the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> setHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> setHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to set the funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to set this accounts's funds to.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were set for the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> setHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> setHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to set the funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to set this accounts's funds to.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were set for the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> setHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> setHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to set the funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to set this accounts's funds to.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were set for the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> setHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> setHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to set the funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to set this accounts's funds to.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were set for the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> setHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> setHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to add funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @return A {@link CompletableFuture} that completes with true if the funds were added to the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> addHoldingsAsync(String identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> addHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to add funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @return A {@link CompletableFuture} that completes with true if the funds were added to the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> addHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> addHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to add funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were added to the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> addHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> addHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to add funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were added to the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> addHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> addHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to add funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were added to the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> addHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> addHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to add funds to an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were added to the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> addHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> addHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding addHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding addHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canAddHoldingsAsync(String identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> canAddHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding addHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding addHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canAddHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> canAddHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding addHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding addHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canAddHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> canAddHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding addHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding addHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canAddHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> canAddHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding addHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding addHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canAddHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> canAddHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding addHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to add to this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding addHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canAddHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> canAddHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to remove funds from an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if the funds were removed from the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> removeHoldingsAsync(String identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> removeHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to remove funds from an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if the funds were removed from the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> removeHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> removeHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to remove funds from an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were removed from the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> removeHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> removeHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to remove funds from an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were removed from the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> removeHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> removeHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to remove funds from an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were removed from the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> removeHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> removeHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to remove funds from an account.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were removed from the account, otherwise false.
+   */
+  default CompletableFuture<Boolean> removeHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> removeHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding removeHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding removeHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canRemoveHoldingsAsync(String identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> canRemoveHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding removeHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding removeHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canRemoveHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> canRemoveHoldings(identifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding removeHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding removeHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canRemoveHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> canRemoveHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding removeHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding removeHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canRemoveHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> canRemoveHoldings(identifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding removeHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding removeHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canRemoveHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> canRemoveHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding removeHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding removeHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canRemoveHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> canRemoveHoldings(identifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to transfer funds from one account to another.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if the funds were transferred.
+   */
+  default CompletableFuture<Boolean> transferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> transferHoldings(fromIdentifier, toIdentifier, amount), executor());
+  }
+
+  /**
+   * Used to transfer funds from one account to another.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were transferred.
+   */
+  default CompletableFuture<Boolean> transferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> transferHoldings(fromIdentifier, toIdentifier, amount, world), executor());
+  }
+
+  /**
+   * Used to transfer funds from one account to another.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were transferred.
+   */
+  default CompletableFuture<Boolean> transferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> transferHoldings(fromIdentifier, toIdentifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to transfer funds from one account to another.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if the funds were transferred.
+   */
+  default CompletableFuture<Boolean> transferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> transferHoldings(fromIdentifier, toIdentifier, amount), executor());
+  }
+
+  /**
+   * Used to transfer funds from one account to another.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if the funds were transferred.
+   */
+  default CompletableFuture<Boolean> transferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> transferHoldings(fromIdentifier, toIdentifier, amount, world), executor());
+  }
+
+  /**
+   * Used to transfer funds from one account to another.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if the funds were transferred.
+   */
+  default CompletableFuture<Boolean> transferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> transferHoldings(fromIdentifier, toIdentifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding transferHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding transferHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canTransferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> canTransferHoldings(fromIdentifier, toIdentifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding transferHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding transferHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canTransferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> canTransferHoldings(fromIdentifier, toIdentifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding transferHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding transferHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canTransferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> canTransferHoldings(fromIdentifier, toIdentifier, amount, world, currency), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding transferHoldings method would be successful. This method does not
+   * affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding transferHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canTransferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    return CompletableFuture.supplyAsync(() -> canTransferHoldings(fromIdentifier, toIdentifier, amount), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding transferHoldings method would be successful.
+   * This method does not affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding transferHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canTransferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    return CompletableFuture.supplyAsync(() -> canTransferHoldings(fromIdentifier, toIdentifier, amount, world), executor());
+  }
+
+  /**
+   * Used to determine if a call to the corresponding transferHoldings method would be successful.
+   * This method does not affect an account's funds.
+   * This call is performed asynchronously on the {@link Executor} returned by {@link #executor()}.
+   * @param fromIdentifier The identifier of the account that the holdings will be coming from.
+   * @param toIdentifier The identifier of the account that the holdings will be going to.
+   * @param amount The amount you wish to remove from this account.
+   * @param world The name of the {@link World} associated with the amount.
+   * @param currency The {@link Currency} associated with the balance.
+   * @return A {@link CompletableFuture} that completes with true if a call to the corresponding transferHoldings method would return true, otherwise false.
+   */
+  default CompletableFuture<Boolean> canTransferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    return CompletableFuture.supplyAsync(() -> canTransferHoldings(fromIdentifier, toIdentifier, amount, world, currency), executor());
+  }
   /**
    * Formats a monetary amount into a more text-friendly version.
    * @param amount The amount of currency to format.
@@ -2,12 +2,17 @@ package net.tnemc.core.economy;
 
 import net.milkbowl.vault.economy.Economy;
 import net.milkbowl.vault.economy.EconomyResponse;
+import net.tnemc.core.ProviderListener;
 import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.CurrencyUnits;
+import net.tnemc.core.identifier.IdentifierIndex;
 import org.bukkit.OfflinePlayer;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Created by creatorfromhell on 3/5/2018.
@@ -31,12 +36,27 @@ import java.util.List;
  **/
 public class Economy_Vault implements Economy {
 
+  /**
+   * Marks {@link #decimalPlaces} as not yet looked up from the provider.
+   */
+  private static final int UNRESOLVED = Integer.MIN_VALUE;
+
   private Reserve plugin = null;
-  private EconomyAPI economyAPI = null;
+  private volatile EconomyAPI economyAPI = null;
+  private volatile int decimalPlaces = UNRESOLVED;
 
   public Economy_Vault(Reserve plugin) {
     this.plugin = plugin;
     this.economyAPI = plugin.economy();
+    plugin.addEconomyListener(new ProviderListener<EconomyAPI>() {
+      @Override
+      public void providerChanged(EconomyAPI previous, EconomyAPI current) {
+        if(current != null) {
+          economyAPI = current;
+          decimalPlaces = UNRESOLVED;
+        }
+      }
+    });
   }
 
   @Override
@@ -56,12 +76,13 @@ public class Economy_Vault implements Economy {
 
   @Override
   public int fractionalDigits() {
-    return 2;
+    int places = decimalPlaces();
+    return (places < 0)? 2 : places;
   }
 
   @Override
   public String format(double amount) {
-    return economyAPI.format(new BigDecimal(amount + ""), plugin.defaultWorld);
+    return economyAPI.format(toBigDecimal(amount), plugin.defaultWorld);
   }
 
   @Override
@@ -76,7 +97,8 @@ public class Economy_Vault implements Economy {
 
   @Override
   public boolean hasAccount(String username) {
-    return economyAPI.hasAccount(username);
+    UUID identifier = identifier(username);
+    return (identifier != null)? economyAPI.hasAccount(identifier) : economyAPI.hasAccount(username);
   }
 
   @Override
@@ -86,7 +108,7 @@ public class Economy_Vault implements Economy {
 
   @Override
   public boolean hasAccount(String username, String world) {
-    return economyAPI.hasAccount(username);
+    return hasAccount(username);
   }
 
   @Override
@@ -101,17 +123,25 @@ public class Economy_Vault implements Economy {
 
   @Override
   public double getBalance(OfflinePlayer offlinePlayer) {
-    return getBalance(offlinePlayer.getName(), plugin.defaultWorld);
+    return getBalance(offlinePlayer, plugin.defaultWorld);
   }
 
   @Override
   public double getBalance(String username, String world) {
+    UUID identifier = identifier(username);
+    if(identifier != null) {
+      return getBalance(identifier, world);
+    }
     return economyAPI.getHoldings(username, world).doubleValue();
   }
 
   @Override
   public double getBalance(OfflinePlayer offlinePlayer, String world) {
-    return getBalance(offlinePlayer.getName(), world);
+    return getBalance(offlinePlayer.getUniqueId(), world);
+  }
+
+  private double getBalance(UUID identifier, String world) {
+    return economyAPI.getHoldings(identifier, world).doubleValue();
   }
 
   @Override
@@ -121,17 +151,21 @@ public class Economy_Vault implements Economy {
 
   @Override
   public boolean has(OfflinePlayer offlinePlayer, double amount) {
-    return has(offlinePlayer.getName(), plugin.defaultWorld, amount);
+    return has(offlinePlayer, plugin.defaultWorld, amount);
   }
 
   @Override
   public boolean has(String username, String world, double amount) {
-    return economyAPI.hasHoldings(username, new BigDecimal(amount + ""), world);
+    UUID identifier = identifier(username);
+    if(identifier != null) {
+      return economyAPI.hasHoldings(identifier, toBigDecimal(amount), world);
+    }
+    return economyAPI.hasHoldings(username, toBigDecimal(amount), world);
   }
 
   @Override
   public boolean has(OfflinePlayer offlinePlayer, String world, double amount) {
-    return has(offlinePlayer.getName(), world, amount);
+    return economyAPI.hasHoldings(offlinePlayer.getUniqueId(), toBigDecimal(amount), world);
   }
 
   @Override
@@ -141,31 +175,17 @@ public class Economy_Vault implements Economy {
 
   @Override
   public EconomyResponse withdrawPlayer(OfflinePlayer offlinePlayer, double amount) {
-    return withdrawPlayer(offlinePlayer.getName(), plugin.defaultWorld, amount);
+    return withdrawPlayer(offlinePlayer, plugin.defaultWorld, amount);
   }
 
   @Override
   public EconomyResponse withdrawPlayer(String username, String world, double amount) {
-    if(!hasAccount(username)) {
-      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "That account does not exist!");
-    }
-
-    if(amount < 0) {
-      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot withdraw negative amounts.");
-    }
-
-    if(!has(username, world, amount)) {
-      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Insufficient funds!");
-    }
-    if(economyAPI.removeHoldings(username, new BigDecimal(amount + ""), world)) {
-      return new EconomyResponse(amount, getBalance(username, world), EconomyResponse.ResponseType.SUCCESS, "");
-    }
-    return new EconomyResponse(amount, getBalance(username, world), EconomyResponse.ResponseType.FAILURE, "Unable to complete transaction!");
+    return withdraw(identifier(username), username, world, amount);
   }
 
   @Override
   public EconomyResponse withdrawPlayer(OfflinePlayer offlinePlayer, String world, double amount) {
-    return withdrawPlayer(offlinePlayer.getName(), world, amount);
+    return withdraw(offlinePlayer.getUniqueId(), null, world, amount);
   }
 
   @Override
@@ -175,27 +195,69 @@ public class Economy_Vault implements Economy {
 
   @Override
   public EconomyResponse depositPlayer(OfflinePlayer offlinePlayer, double amount) {
-    return depositPlayer(offlinePlayer.getName(), plugin.defaultWorld, amount);
+    return depositPlayer(offlinePlayer, plugin.defaultWorld, amount);
   }
 
   @Override
   public EconomyResponse depositPlayer(String username, String world, double amount) {
-    if(!hasAccount(username)) {
+    return deposit(identifier(username), username, world, amount);
+  }
+
+  @Override
+  public EconomyResponse depositPlayer(OfflinePlayer offlinePlayer, String world, double amount) {
+    return deposit(offlinePlayer.getUniqueId(), null, world, amount);
+  }
+
+  /**
+   * Withdraws from an account identified by its {@link UUID}, or by its name if the {@link UUID} isn't known. The
+   * response reports the amount after it was rounded to the currency, since that is what was withdrawn.
+   */
+  private EconomyResponse withdraw(UUID identifier, String username, String world, double amount) {
+    if(amount < 0) {
+      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot withdraw negative amounts.");
+    }
+
+    if(!((identifier != null)? economyAPI.hasAccount(identifier) : economyAPI.hasAccount(username))) {
       return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "That account does not exist!");
     }
 
+    BigDecimal value = toBigDecimal(amount);
+    boolean has = (identifier != null)? economyAPI.hasHoldings(identifier, value, world)
+                                      : economyAPI.hasHoldings(username, value, world);
+    if(!has) {
+      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Insufficient funds!");
+    }
+
+    boolean removed = (identifier != null)? economyAPI.removeHoldings(identifier, value, world)
+                                          : economyAPI.removeHoldings(username, value, world);
+    return response(removed, value, identifier, username, world);
+  }
+
+  /**
+   * Deposits into an account identified by its {@link UUID}, or by its name if the {@link UUID} isn't known. The
+   * response reports the amount after it was rounded to the currency, since that is what was deposited.
+   */
+  private EconomyResponse deposit(UUID identifier, String username, String world, double amount) {
     if(amount < 0) {
       return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "Cannot deposit negative amounts.");
     }
-    if(economyAPI.addHoldings(username, new BigDecimal(amount + ""), world)) {
-      return new EconomyResponse(amount, getBalance(username, world), EconomyResponse.ResponseType.SUCCESS, "");
+
+    if(!((identifier != null)? economyAPI.hasAccount(identifier) : economyAPI.hasAccount(username))) {
+      return new EconomyResponse(0, 0, EconomyResponse.ResponseType.FAILURE, "That account does not exist!");
     }
-    return new EconomyResponse(amount, getBalance(username, world), EconomyResponse.ResponseType.FAILURE, "Unable to complete transaction!");
+
+    BigDecimal value = toBigDecimal(amount);
+    boolean added = (identifier != null)? economyAPI.addHoldings(identifier, value, world)
+                                        : economyAPI.addHoldings(username, value, world);
+    return response(added, value, identifier, username, world);
   }
 
-  @Override
-  public EconomyResponse depositPlayer(OfflinePlayer offlinePlayer, String world, double amount) {
-    return depositPlayer(offlinePlayer.getName(), world, amount);
+  private EconomyResponse response(boolean success, BigDecimal value, UUID identifier, String username, String world) {
+    double balance = (identifier != null)? getBalance(identifier, world) : economyAPI.getHoldings(username, world).doubleValue();
+    if(success) {
+      return new EconomyResponse(value.doubleValue(), balance, EconomyResponse.ResponseType.SUCCESS, "");
+    }
+    return new EconomyResponse(value.doubleValue(), balance, EconomyResponse.ResponseType.FAILURE, "Unable to complete transaction!");
   }
 
   @Override
@@ -260,7 +322,8 @@ public class Economy_Vault implements Economy {
 
   @Override
   public boolean createPlayerAccount(String username) {
-    return economyAPI.createAccount(username);
+    UUID identifier = identifier(username);
+    return (identifier != null)? economyAPI.createAccount(identifier) : economyAPI.createAccount(username);
   }
 
   @Override
@@ -270,11 +333,51 @@ public class Economy_Vault implements Economy {
 
   @Override
   public boolean createPlayerAccount(String username, String world) {
-    return economyAPI.createAccount(username);
+    return createPlayerAccount(username);
   }
 
   @Override
   public boolean createPlayerAccount(OfflinePlayer offlinePlayer, String world) {
     return economyAPI.createAccount(offlinePlayer.getUniqueId());
   }
-}
\ No newline at end of file
+
+  /**
+   * Looks up the number of decimal places of the provider's default currency once, rather than on every call.
+   * @return The number of decimal places, or -1 if the provider doesn't expose its currencies.
+   */
+  private int decimalPlaces() {
+    int places = decimalPlaces;
+    if(places == UNRESOLVED) {
+      places = -1;
+      if(economyAPI instanceof ExtendedEconomyAPI) {
+        Currency currency = ((ExtendedEconomyAPI)economyAPI).getDefault();
+        if(currency == null) {
+          //The provider hasn't loaded its currencies yet, so try again on the next call.
+          return -1;
+        }
+        places = currency.decimalPlaces();
+      }
+      decimalPlaces = places;
+    }
+    return places;
+  }
+
+  /**
+   * Vault identifies players by name in its older methods. If the provider declares that names and
+   * {@link UUID}s identify the same accounts, names of players that have joined are resolved through Reserve's
+   * {@link IdentifierIndex}, so those calls reach the same account as the {@link OfflinePlayer} methods.
+   * @param username The name of the player.
+   * @return The {@link UUID} of the player, or null if the name should be passed to the provider unchanged.
+   */
+  private UUID identifier(String username) {
+    if(!economyAPI.sharedNameAccounts()) {
+      return null;
+    }
+    IdentifierIndex identifiers = plugin.identifiers();
+    return (identifiers == null)? null : identifiers.resolve(username);
+  }
+
+  private BigDecimal toBigDecimal(double amount) {
+    return CurrencyUnits.toBigDecimal(amount, decimalPlaces());
+  }
+}
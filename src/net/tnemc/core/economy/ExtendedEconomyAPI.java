@@ -1,17 +1,27 @@
 package net.tnemc.core.economy;
 
+import net.tnemc.core.economy.cache.AccountHandleCache;
 import net.tnemc.core.economy.currency.Currency;
 import net.tnemc.core.economy.currency.Tier;
+import net.tnemc.core.economy.currency.TierBreakdown;
+import net.tnemc.core.economy.leaderboard.Leaderboards;
 import net.tnemc.core.economy.transaction.Transaction;
 import net.tnemc.core.economy.transaction.result.TransactionResult;
+import net.tnemc.core.economy.transaction.store.TransactionStore;
 import net.tnemc.core.economy.transaction.type.TransactionType;
 import org.bukkit.World;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by creatorfromhell on 10/16/2017.
@@ -100,6 +110,16 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   Set<Tier> getTiers(Currency currency);
 
+  /**
+   * Returns a {@link TierBreakdown} that splits amounts of the specified {@link Currency} into counts of its
+   * {@link Tier tiers}. Implementations should return one compiled when the currency was registered.
+   * @param currency The {@link Currency} whose amounts should be split.
+   * @return The {@link TierBreakdown} of the {@link Currency}.
+   */
+  default TierBreakdown breakdown(Currency currency) {
+    return TierBreakdown.compile(currency);
+  }
+
   /**
    * Attempts to retrieve an account by the specified identifier. This method should be used for non-player accounts.
    * @param identifier The of the account.
@@ -114,6 +134,86 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   Account getAccount(UUID identifier);
 
+  /**
+   * Returns the {@link AccountHandleCache} that the default methods of this interface resolve accounts through.
+   * Providers that return one must call {@link #accountDeleted(String)} or {@link #accountDeleted(UUID)} from their
+   * deleteAccount methods, and {@link #accountsPurged()} from their purge methods.
+   * @return The {@link AccountHandleCache} of this implementation, or null if accounts shouldn't be cached.
+   */
+  default AccountHandleCache accountCache() {
+    return null;
+  }
+
+  /**
+   * Resolves an account through {@link #accountCache()}, falling back to {@link #getAccount(String)}.
+   * @param identifier The identifier of the account.
+   * @return The instance of the account if it exists, otherwise null.
+   */
+  default Account account(String identifier) {
+    AccountHandleCache cache = accountCache();
+    if(cache == null) {
+      return getAccount(identifier);
+    }
+    Account account = cache.get(identifier);
+    if(account == null) {
+      long stamp = cache.stamp();
+      account = getAccount(identifier);
+      cache.put(stamp, identifier, account);
+    }
+    return account;
+  }
+
+  /**
+   * Resolves an account through {@link #accountCache()}, falling back to {@link #getAccount(UUID)}.
+   * @param identifier The {@link UUID} of the account.
+   * @return The instance of the account if it exists, otherwise null.
+   */
+  default Account account(UUID identifier) {
+    AccountHandleCache cache = accountCache();
+    if(cache == null) {
+      return getAccount(identifier);
+    }
+    Account account = cache.get(identifier);
+    if(account == null) {
+      long stamp = cache.stamp();
+      account = getAccount(identifier);
+      cache.put(stamp, identifier, account);
+    }
+    return account;
+  }
+
+  /**
+   * Drops the cached handle of a deleted account, so {@link #account(String)} resolves it again.
+   * @param identifier The identifier of the deleted account.
+   */
+  default void accountDeleted(String identifier) {
+    AccountHandleCache cache = accountCache();
+    if(cache != null) {
+      cache.invalidate(identifier);
+    }
+  }
+
+  /**
+   * Drops the cached handle of a deleted account, so {@link #account(UUID)} resolves it again.
+   * @param identifier The {@link UUID} of the deleted account.
+   */
+  default void accountDeleted(UUID identifier) {
+    AccountHandleCache cache = accountCache();
+    if(cache != null) {
+      cache.invalidate(identifier);
+    }
+  }
+
+  /**
+   * Drops every cached handle after accounts have been purged.
+   */
+  default void accountsPurged() {
+    AccountHandleCache cache = accountCache();
+    if(cache != null) {
+      cache.clear();
+    }
+  }
+
   /**
    * This is a shortcut method that combines getAccount with createAccount. This method should be used for non-player
    * Accounts.
@@ -130,6 +230,56 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   Account createIfNotExists(UUID identifier);
 
+  /**
+   * Returns a page of account identifiers, in the natural order of {@link UUID}. Paging by the last identifier rather
+   * than an offset keeps pages stable while accounts are created or deleted, and lets callers walk every account
+   * with bounded memory.
+   * @param after The last identifier of the previous page, or null to start with the first account.
+   * @param limit The maximum number of identifiers to return.
+   * @return The identifiers of up to limit accounts following after, an empty {@link List} once every account has
+   * been returned, or null if this implementation can't enumerate its accounts.
+   */
+  default List<UUID> accountPage(UUID after, int limit) {
+    return null;
+  }
+
+  /**
+   * Creates a {@link Spliterator} over this economy's accounts. The default pages through {@link #accountPage(UUID, int)}
+   * with an {@link AccountSpliterator}, and so traverses nothing if this implementation can't enumerate its accounts.
+   * @param world The world to filter by, or null.
+   * @param currency The name of the currency to filter by, or null.
+   * @return A {@link Spliterator} over the accounts holding a balance of currency in world, or over every account
+   * if both are null.
+   */
+  default Spliterator<Account> accountSpliterator(String world, String currency) {
+    return new AccountSpliterator(this, AccountSpliterator.holding(this, world, currency), AccountSpliterator.DEFAULT_CHUNK);
+  }
+
+  /**
+   * @return A sequential {@link Stream} over every account. Call {@link Stream#parallel()} to traverse it a page per
+   * thread.
+   */
+  default Stream<Account> accounts() {
+    return accounts(null, null);
+  }
+
+  /**
+   * @param world The world to filter by, or null.
+   * @param currency The name of the currency to filter by, or null.
+   * @return A sequential {@link Stream} over the accounts holding a balance of currency in world.
+   */
+  default Stream<Account> accounts(String world, String currency) {
+    return StreamSupport.stream(accountSpliterator(world, currency), false);
+  }
+
+  /**
+   * @return The {@link Leaderboards} this implementation keeps up to date as balances change, or null if it doesn't
+   * keep any. Callers without leaderboards can still rank accounts by sorting {@link #accounts(String, String)}.
+   */
+  default Leaderboards leaderboards() {
+    return null;
+  }
+
   /**
    * Determines whether or not a player is able to access this account.
    *
@@ -139,7 +289,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean isAccessor(String identifier, String accessor) {
-    return getAccount(identifier).isAccessor(getAccount(accessor));
+    return account(identifier).isAccessor(account(accessor));
   }
 
   /**
@@ -151,7 +301,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean isAccessor(String identifier, UUID accessor) {
-    return getAccount(identifier).isAccessor(getAccount(accessor));
+    return account(identifier).isAccessor(account(accessor));
   }
 
   /**
@@ -163,7 +313,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean isAccessor(UUID identifier, String accessor) {
-    return getAccount(identifier).isAccessor(getAccount(accessor));
+    return account(identifier).isAccessor(account(accessor));
   }
 
   /**
@@ -175,7 +325,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean isAccessor(UUID identifier, UUID accessor) {
-    return getAccount(identifier).isAccessor(getAccount(accessor));
+    return account(identifier).isAccessor(account(accessor));
   }
 
   /**
@@ -187,7 +337,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canWithdraw(String identifier, String accessor) {
-    return getAccount(identifier).canWithdraw(getAccount(accessor));
+    return account(identifier).canWithdraw(account(accessor));
   }
 
   /**
@@ -199,7 +349,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canWithdraw(String identifier, UUID accessor) {
-    return getAccount(identifier).canWithdraw(getAccount(accessor));
+    return account(identifier).canWithdraw(account(accessor));
   }
 
   /**
@@ -211,7 +361,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canWithdraw(UUID identifier, String accessor) {
-    return getAccount(identifier).canWithdraw(getAccount(accessor));
+    return account(identifier).canWithdraw(account(accessor));
   }
 
   /**
@@ -223,7 +373,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canWithdraw(UUID identifier, UUID accessor) {
-    return getAccount(identifier).canWithdraw(getAccount(accessor));
+    return account(identifier).canWithdraw(account(accessor));
   }
 
   /**
@@ -235,7 +385,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canDeposit(String identifier, String accessor) {
-    return getAccount(identifier).canDeposit(getAccount(accessor));
+    return account(identifier).canDeposit(account(accessor));
   }
 
   /**
@@ -247,7 +397,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canDeposit(String identifier, UUID accessor) {
-    return getAccount(identifier).canDeposit(getAccount(accessor));
+    return account(identifier).canDeposit(account(accessor));
   }
 
   /**
@@ -259,7 +409,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canDeposit(UUID identifier, String accessor) {
-    return getAccount(identifier).canDeposit(getAccount(accessor));
+    return account(identifier).canDeposit(account(accessor));
   }
 
   /**
@@ -271,7 +421,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canDeposit(UUID identifier, UUID accessor) {
-    return getAccount(identifier).canDeposit(getAccount(accessor));
+    return account(identifier).canDeposit(account(accessor));
   }
 
   /**
@@ -282,7 +432,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default BigDecimal getHoldings(String identifier) {
-    return getAccount(identifier).getHoldings();
+    return account(identifier).getHoldings();
   }
 
   /**
@@ -293,7 +443,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default BigDecimal getHoldings(UUID identifier) {
-    return getAccount(identifier).getHoldings();
+    return account(identifier).getHoldings();
   }
 
   /**
@@ -305,7 +455,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default BigDecimal getHoldings(String identifier, String world) {
-    return getAccount(identifier).getHoldings(world);
+    return account(identifier).getHoldings(world);
   }
 
   /**
@@ -317,7 +467,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default BigDecimal getHoldings(UUID identifier, String world) {
-    return getAccount(identifier).getHoldings(world);
+    return account(identifier).getHoldings(world);
   }
 
   /**
@@ -330,7 +480,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default BigDecimal getHoldings(String identifier, String world, String currency) {
-    return getAccount(identifier).getHoldings(world, getCurrency(currency, world));
+    return account(identifier).getHoldings(world, getCurrency(currency, world));
   }
 
   /**
@@ -343,7 +493,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default BigDecimal getHoldings(UUID identifier, String world, String currency) {
-    return getAccount(identifier).getHoldings(world, getCurrency(currency, world));
+    return account(identifier).getHoldings(world, getCurrency(currency, world));
   }
 
   /**
@@ -355,7 +505,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean hasHoldings(String identifier, BigDecimal amount) {
-    return getAccount(identifier).hasHoldings(amount);
+    return account(identifier).hasHoldings(amount);
   }
 
   /**
@@ -367,7 +517,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean hasHoldings(UUID identifier, BigDecimal amount) {
-    return getAccount(identifier).hasHoldings(amount);
+    return account(identifier).hasHoldings(amount);
   }
 
   /**
@@ -380,7 +530,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean hasHoldings(String identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).hasHoldings(amount, world);
+    return account(identifier).hasHoldings(amount, world);
   }
 
   /**
@@ -393,7 +543,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean hasHoldings(UUID identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).hasHoldings(amount, world);
+    return account(identifier).hasHoldings(amount, world);
   }
 
   /**
@@ -407,7 +557,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean hasHoldings(String identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).hasHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).hasHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -421,7 +571,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean hasHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).hasHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).hasHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -433,7 +583,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean setHoldings(String identifier, BigDecimal amount) {
-    return getAccount(identifier).setHoldings(amount);
+    return account(identifier).setHoldings(amount);
   }
 
   /**
@@ -445,7 +595,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean setHoldings(UUID identifier, BigDecimal amount) {
-    return getAccount(identifier).setHoldings(amount);
+    return account(identifier).setHoldings(amount);
   }
 
   /**
@@ -458,7 +608,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean setHoldings(String identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).setHoldings(amount, world);
+    return account(identifier).setHoldings(amount, world);
   }
 
   /**
@@ -471,7 +621,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean setHoldings(UUID identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).setHoldings(amount, world);
+    return account(identifier).setHoldings(amount, world);
   }
 
   /**
@@ -485,7 +635,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean setHoldings(String identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).setHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).setHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -499,7 +649,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean setHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).setHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).setHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -511,7 +661,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean addHoldings(String identifier, BigDecimal amount) {
-    return getAccount(identifier).addHoldings(amount);
+    return account(identifier).addHoldings(amount);
   }
 
   /**
@@ -523,7 +673,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean addHoldings(UUID identifier, BigDecimal amount) {
-    return getAccount(identifier).addHoldings(amount);
+    return account(identifier).addHoldings(amount);
   }
 
   /**
@@ -536,7 +686,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean addHoldings(String identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).addHoldings(amount, world);
+    return account(identifier).addHoldings(amount, world);
   }
 
   /**
@@ -549,7 +699,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean addHoldings(UUID identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).addHoldings(amount, world);
+    return account(identifier).addHoldings(amount, world);
   }
 
   /**
@@ -563,7 +713,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean addHoldings(String identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).addHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).addHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -577,7 +727,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean addHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).addHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).addHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -590,7 +740,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canAddHoldings(String identifier, BigDecimal amount) {
-    return getAccount(identifier).canAddHoldings(amount);
+    return account(identifier).canAddHoldings(amount);
   }
 
   /**
@@ -603,7 +753,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canAddHoldings(UUID identifier, BigDecimal amount) {
-    return getAccount(identifier).canAddHoldings(amount);
+    return account(identifier).canAddHoldings(amount);
   }
 
   /**
@@ -617,7 +767,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canAddHoldings(String identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).canAddHoldings(amount, world);
+    return account(identifier).canAddHoldings(amount, world);
   }
 
   /**
@@ -631,7 +781,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canAddHoldings(UUID identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).canAddHoldings(amount, world);
+    return account(identifier).canAddHoldings(amount, world);
   }
 
   /**
@@ -646,7 +796,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canAddHoldings(String identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).canAddHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).canAddHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -661,7 +811,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canAddHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).canAddHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).canAddHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -673,7 +823,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean removeHoldings(String identifier, BigDecimal amount) {
-    return getAccount(identifier).removeHoldings(amount);
+    return account(identifier).removeHoldings(amount);
   }
 
   /**
@@ -685,7 +835,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean removeHoldings(UUID identifier, BigDecimal amount) {
-    return getAccount(identifier).removeHoldings(amount);
+    return account(identifier).removeHoldings(amount);
   }
 
   /**
@@ -698,7 +848,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean removeHoldings(String identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).removeHoldings(amount, world);
+    return account(identifier).removeHoldings(amount, world);
   }
 
   /**
@@ -711,7 +861,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean removeHoldings(UUID identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).removeHoldings(amount, world);
+    return account(identifier).removeHoldings(amount, world);
   }
 
   /**
@@ -725,7 +875,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean removeHoldings(String identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).removeHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).removeHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -739,7 +889,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean removeHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).removeHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).removeHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -752,7 +902,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canRemoveHoldings(String identifier, BigDecimal amount) {
-    return getAccount(identifier).canRemoveHoldings(amount);
+    return account(identifier).canRemoveHoldings(amount);
   }
 
   /**
@@ -765,7 +915,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canRemoveHoldings(UUID identifier, BigDecimal amount) {
-    return getAccount(identifier).canRemoveHoldings(amount);
+    return account(identifier).canRemoveHoldings(amount);
   }
 
   /**
@@ -779,7 +929,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canRemoveHoldings(String identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).canRemoveHoldings(amount, world);
+    return account(identifier).canRemoveHoldings(amount, world);
   }
 
   /**
@@ -793,7 +943,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canRemoveHoldings(UUID identifier, BigDecimal amount, String world) {
-    return getAccount(identifier).canRemoveHoldings(amount, world);
+    return account(identifier).canRemoveHoldings(amount, world);
   }
 
   /**
@@ -808,7 +958,7 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canRemoveHoldings(String identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).canRemoveHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).canRemoveHoldings(amount, getCurrency(currency, world), world);
   }
 
   /**
@@ -823,7 +973,122 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   @Override
   default boolean canRemoveHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
-    return getAccount(identifier).canRemoveHoldings(amount, getCurrency(currency, world), world);
+    return account(identifier).canRemoveHoldings(amount, getCurrency(currency, world), world);
+  }
+
+  /**
+   * Used to get the balances of multiple accounts in one call. The {@link Currency} is resolved once for the whole
+   * batch, instead of once per account.
+   *
+   * @param identifiers The identifiers of the accounts that are associated with this call.
+   * @param world       The name of the {@link World} associated with the balances.
+   * @param currency    The {@link Currency} associated with the balances.
+   * @return A {@link Map} containing the balance of each account, keyed by the account's identifier.
+   */
+  @Override
+  default Map<UUID, BigDecimal> getHoldings(Collection<UUID> identifiers, String world, String currency) {
+    Currency cur = getCurrency(currency, world);
+    Map<UUID, BigDecimal> holdings = new HashMap<>();
+    for(UUID identifier : identifiers) {
+      holdings.put(identifier, account(identifier).getHoldings(world, cur));
+    }
+    return holdings;
+  }
+
+  /**
+   * Used to apply holdings changes to multiple accounts in one call. The {@link Currency} is resolved once for the
+   * whole batch, instead of once per account.
+   *
+   * @param deltas   A {@link Map} of the amount to apply to each account, keyed by the account's identifier.
+   * @param world    The name of the {@link World} associated with the balances.
+   * @param currency The {@link Currency} associated with the balances.
+   * @return A {@link Map} containing whether or not the change was applied to each account, keyed by the account's
+   * identifier.
+   */
+  @Override
+  default Map<UUID, Boolean> applyHoldings(Map<UUID, BigDecimal> deltas, String world, String currency) {
+    Currency cur = getCurrency(currency, world);
+    Map<UUID, Boolean> results = new HashMap<>();
+    for(Map.Entry<UUID, BigDecimal> entry : deltas.entrySet()) {
+      BigDecimal amount = entry.getValue();
+      boolean applied = true;
+      if(amount.signum() > 0) {
+        applied = account(entry.getKey()).addHoldings(amount, cur, world);
+      } else if(amount.signum() < 0) {
+        applied = account(entry.getKey()).removeHoldings(amount.negate(), cur, world);
+      }
+      results.put(entry.getKey(), applied);
+    }
+    return results;
+  }
+
+  /**
+   * Used to get the balance of an account in minor units, e.g. cents for a currency with two decimal places.
+   *
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param world      The name of the {@link World} associated with the balance.
+   * @param currency   The {@link Currency} associated with the balance.
+   * @return The balance of the account in minor units, or 0 if the currency doesn't exist.
+   */
+  default long getHoldingsMinor(UUID identifier, String world, String currency) {
+    Currency resolved = getCurrency(currency, world);
+    return (resolved != null)? account(identifier).getHoldingsMinor(resolved, world) : 0L;
+  }
+
+  /**
+   * Used to determine if an account has at least an amount of funds in minor units.
+   *
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount     The amount in minor units you wish to use for this check.
+   * @param world      The name of the {@link World} associated with the amount.
+   * @param currency   The {@link Currency} associated with the balance.
+   * @return True if the account has at least the specified amount of funds, otherwise false.
+   */
+  default boolean hasHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    Currency resolved = getCurrency(currency, world);
+    return resolved != null && account(identifier).hasHoldingsMinor(amount, resolved, world);
+  }
+
+  /**
+   * Used to set the funds of an account in minor units.
+   *
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount     The amount in minor units you wish to set this account's holdings to.
+   * @param world      The name of the {@link World} associated with the amount.
+   * @param currency   The {@link Currency} associated with the balance.
+   * @return True if the holdings were set for the account, otherwise false.
+   */
+  default boolean setHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    Currency resolved = getCurrency(currency, world);
+    return resolved != null && account(identifier).setHoldingsMinor(amount, resolved, world);
+  }
+
+  /**
+   * Used to add funds in minor units to an account.
+   *
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount     The amount in minor units you wish to add to this account.
+   * @param world      The name of the {@link World} associated with the amount.
+   * @param currency   The {@link Currency} associated with the balance.
+   * @return True if the funds were added to the account, otherwise false.
+   */
+  default boolean addHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    Currency resolved = getCurrency(currency, world);
+    return resolved != null && account(identifier).addHoldingsMinor(amount, resolved, world);
+  }
+
+  /**
+   * Used to remove funds in minor units from an account.
+   *
+   * @param identifier The identifier of the account that is associated with this call.
+   * @param amount     The amount in minor units you wish to remove from this account.
+   * @param world      The name of the {@link World} associated with the amount.
+   * @param currency   The {@link Currency} associated with the balance.
+   * @return True if the funds were removed from the account, otherwise false.
+   */
+  default boolean removeHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    Currency resolved = getCurrency(currency, world);
+    return resolved != null && account(identifier).removeHoldingsMinor(amount, resolved, world);
   }
 
   /**
@@ -871,6 +1136,19 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   TransactionResult performTransaction(Transaction transaction);
 
+  /**
+   * Performs a {@link Transaction} whose accounts have already been resolved, for instance by the
+   * {@link net.tnemc.core.economy.transaction.pipeline.TransactionPipeline}. Implementations should charge these
+   * accounts through {@link Transaction#perform(Account, Account)} rather than looking them up again.
+   * @param transaction The {@link Transaction} to perform.
+   * @param initiator The initiator's {@link Account}, or null if the initiator isn't affected.
+   * @param recipient The recipient's {@link Account}, or null if the recipient isn't affected.
+   * @return The {@link TransactionResult} of the {@link Transaction}.
+   */
+  default TransactionResult performTransaction(Transaction transaction, Account initiator, Account recipient) {
+    return performTransaction(transaction);
+  }
+
   /**
    * Attempts to get the {@link Transaction} associated with the specified {@link UUID}.
    * @param uuid The {@link UUID} of the {@link Transaction}.
@@ -913,6 +1191,18 @@ public interface ExtendedEconomyAPI extends EconomyAPI {
    */
   Map<UUID, Transaction> getTransactions(String identifier);
 
+  /**
+   * Returns the indexed {@link TransactionStore} of this {@link ExtendedEconomyAPI} implementation, if it has one.
+   * Unlike {@link #getTransactions(String)}, the store can answer per-account, per-type and time range queries
+   * without scanning every recorded transaction.
+   *
+   * @return An {@link Optional} containing the {@link TransactionStore}, or an empty {@link Optional} if this
+   * implementation doesn't provide one.
+   */
+  default Optional<TransactionStore> transactionStore() {
+    return Optional.empty();
+  }
+
   /**
    * Register a custom {@link TransactionType}.
    * @param type The {@link TransactionType type} to register.
@@ -0,0 +1,158 @@
+package net.tnemc.core.economy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Purges accounts in chunks rather than in one blocking call. Each call to {@link #run()} pages through the next chunk
+ * of accounts with {@link ExtendedEconomyAPI#accountPage(UUID, int)}, so the job is meant to be run repeatedly by a
+ * scheduler, yielding to the server between chunks. The job doubles as its own progress handle.
+ */
+public class PurgeJob implements Runnable {
+
+  public enum State {
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+  }
+
+  private final ExtendedEconomyAPI economy;
+  private final BigDecimal under;
+  private final int chunkSize;
+  private final long started = System.currentTimeMillis();
+
+  private final AtomicLong scanned = new AtomicLong();
+  private final AtomicLong purged = new AtomicLong();
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.RUNNING);
+  private volatile String failure;
+  private UUID cursor = null;
+
+  /**
+   * @param economy The {@link ExtendedEconomyAPI} to purge accounts from. It must support
+   * {@link ExtendedEconomyAPI#accountPage(UUID, int)}.
+   * @param under Accounts holding less than this amount in the default world and currency are purged. Null purges every
+   * account.
+   * @param chunkSize The number of accounts checked per call to {@link #run()}.
+   */
+  public PurgeJob(ExtendedEconomyAPI economy, BigDecimal under, int chunkSize) {
+    this.economy = economy;
+    this.under = under;
+    this.chunkSize = Math.max(1, chunkSize);
+  }
+
+  /**
+   * Checks the next chunk of accounts. Does nothing once the job has finished.
+   */
+  @Override
+  public synchronized void run() {
+    if(state.get() != State.RUNNING) return;
+
+    try {
+      List<UUID> page = economy.accountPage(cursor, chunkSize);
+      if(page == null) {
+        fail(economy.name() + " can't enumerate its accounts.");
+        return;
+      }
+
+      for(UUID identifier : page) {
+        if(state.get() != State.RUNNING) return;
+
+        scanned.incrementAndGet();
+        Account account = economy.getAccount(identifier);
+        if(account != null && (under == null || account.getHoldings().compareTo(under) < 0)
+           && economy.deleteAccount(identifier)) {
+          economy.accountDeleted(identifier);
+          purged.incrementAndGet();
+        }
+        cursor = identifier;
+      }
+
+      if(page.size() < chunkSize) {
+        state.compareAndSet(State.RUNNING, State.COMPLETED);
+      }
+    } catch(RuntimeException e) {
+      fail((e.getMessage() != null)? e.getMessage() : e.toString());
+    }
+  }
+
+  private void fail(String message) {
+    failure = message;
+    state.compareAndSet(State.RUNNING, State.FAILED);
+  }
+
+  /**
+   * Stops the job after the account it is currently checking. Has no effect once the job has finished.
+   * @return True if the job was cancelled, false if it had already finished.
+   */
+  public boolean cancel() {
+    return state.compareAndSet(State.RUNNING, State.CANCELLED);
+  }
+
+  public State state() {
+    return state.get();
+  }
+
+  public boolean finished() {
+    return state.get() != State.RUNNING;
+  }
+
+  /**
+   * @return The number of accounts checked so far.
+   */
+  public long scanned() {
+    return scanned.get();
+  }
+
+  /**
+   * @return The number of accounts deleted so far.
+   */
+  public long purged() {
+    return purged.get();
+  }
+
+  /**
+   * @return The amount under which accounts are purged, or null if every account is purged.
+   */
+  public BigDecimal under() {
+    return under;
+  }
+
+  /**
+   * @return The time the job was created, in milliseconds since the epoch.
+   */
+  public long started() {
+    return started;
+  }
+
+  /**
+   * @return The reason the job failed, or null if it hasn't failed.
+   */
+  public String failure() {
+    return failure;
+  }
+}
@@ -0,0 +1,58 @@
+package net.tnemc.core.economy;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public enum TransferResult {
+
+  /**
+   * The holdings were withdrawn from the sender and deposited into the receiver.
+   */
+  SUCCESS(true),
+
+  /**
+   * The holdings could not be withdrawn from the sender, so neither account was changed.
+   */
+  WITHDRAW_FAILED(false),
+
+  /**
+   * The holdings could not be deposited into the receiver, and were returned to the sender.
+   */
+  ROLLED_BACK(false),
+
+  /**
+   * The holdings could not be deposited into the receiver, and returning them to the sender failed as well. This
+   * should be logged by the caller since the funds are no longer accounted for.
+   */
+  ROLLBACK_FAILED(false);
+
+  private final boolean successful;
+
+  TransferResult(boolean successful) {
+    this.successful = successful;
+  }
+
+  /**
+   * @return True if the funds were transferred.
+   */
+  public boolean successful() {
+    return successful;
+  }
+}
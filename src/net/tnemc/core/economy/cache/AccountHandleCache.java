@@ -0,0 +1,268 @@
+package net.tnemc.core.economy.cache;
+
+import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.identifier.IdentifierIndex;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * A bounded cache of {@link Account} handles, keyed by the {@link UUID} of each account. Names are resolved through
+ * Reserve's {@link IdentifierIndex}, so a name follows its current owner. Names the index doesn't know are remembered
+ * as an alias of the account they were resolved to, and an alias is only used while that account's display name
+ * still matches it. A handle is only ever cached once, and invalidating either form of the identifier removes it. Handles are held through
+ * {@link SoftReference}s, so the garbage collector may reclaim them under memory pressure.
+ *
+ * Providers that load accounts from storage opt in by returning an instance from
+ * {@link net.tnemc.core.economy.ExtendedEconomyAPI#accountCache()}, after which the default methods of
+ * {@link net.tnemc.core.economy.ExtendedEconomyAPI} resolve each identifier once rather than once per call.
+ */
+public class AccountHandleCache {
+
+  private final Map<UUID, Handle> entries = new ConcurrentHashMap<>();
+  private final Map<String, UUID> aliases = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Account> collected = new ReferenceQueue<>();
+
+  /**
+   * Incremented by every invalidation, so a handle resolved before an account was deleted isn't cached afterwards.
+   */
+  private final AtomicLong stamp = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private final int maxSize;
+
+  /**
+   * @param maxSize The maximum number of handles to keep cached.
+   */
+  public AccountHandleCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @param identifier The identifier of the account. This may be the string form of a {@link UUID}, or a name.
+   * @return The cached {@link Account}, or null if it isn't cached or has been collected.
+   */
+  public Account get(String identifier) {
+    UUID id = IdentifierIndex.parse(identifier);
+    if(id == null) {
+      id = resolve(identifier);
+    }
+    if(id != null) {
+      return get(id);
+    }
+
+    //Aliases aren't kept up to date with renames, so one is dropped once its account goes by another name.
+    final String alias = alias(identifier);
+    UUID aliased = aliases.get(alias);
+    Handle handle = (aliased != null)? entries.get(aliased) : null;
+    Account account = (handle != null)? handle.get() : null;
+    if(account != null && identifier.equalsIgnoreCase(account.displayName())) {
+      hits.increment();
+      return account;
+    }
+    if(aliased != null) {
+      aliases.remove(alias, aliased);
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * @param identifier The {@link UUID} of the account.
+   * @return The cached {@link Account}, or null if it isn't cached or has been collected.
+   */
+  public Account get(UUID identifier) {
+    Handle handle = entries.get(identifier);
+    if(handle != null) {
+      Account account = handle.get();
+      if(account != null) {
+        hits.increment();
+        return account;
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * @return The current invalidation stamp, which should be captured before resolving an account from the provider
+   * and passed to {@link #put(long, UUID, Account)}.
+   */
+  public long stamp() {
+    return stamp.get();
+  }
+
+  /**
+   * Used to cache an account that has just been resolved by the provider.
+   * @param stamp The value of {@link #stamp()} before the account was resolved.
+   * @param identifier The identifier the account was resolved from.
+   * @param account The {@link Account}. Null values aren't cached, so unknown accounts are looked up again.
+   */
+  public void put(long stamp, String identifier, Account account) {
+    if(identifier == null || account == null || account.identifier() == null) return;
+
+    if(IdentifierIndex.parse(identifier) == null && resolve(identifier) == null) {
+      aliases.put(alias(identifier), account.identifier());
+    }
+    put(stamp, account.identifier(), account);
+  }
+
+  /**
+   * Used to cache an account that has just been resolved by the provider.
+   * @param stamp The value of {@link #stamp()} before the account was resolved.
+   * @param identifier The {@link UUID} the account was resolved from.
+   * @param account The {@link Account}. Null values aren't cached, so unknown accounts are looked up again.
+   */
+  public void put(long stamp, UUID identifier, Account account) {
+    if(identifier == null || account == null || stamp != this.stamp.get()) return;
+
+    expunge();
+    if(entries.size() >= maxSize) {
+      evict();
+    }
+    Handle handle = new Handle(identifier, account, collected);
+    entries.put(identifier, handle);
+
+    //An invalidation raced with this put, so the account may already have been deleted.
+    if(stamp != this.stamp.get()) {
+      entries.remove(identifier, handle);
+    }
+  }
+
+  /**
+   * Removes an account's handle, whether it is identified by its {@link UUID} or one of its names.
+   * @param identifier The identifier of the account. This may be the string form of a {@link UUID}, or a name.
+   */
+  public void invalidate(String identifier) {
+    if(identifier == null) return;
+
+    stamp.incrementAndGet();
+    UUID id = IdentifierIndex.parse(identifier);
+    if(id == null) {
+      UUID aliased = aliases.remove(alias(identifier));
+      if(aliased != null) {
+        entries.remove(aliased);
+      }
+      id = resolve(identifier);
+    }
+    if(id != null) {
+      entries.remove(id);
+    }
+  }
+
+  /**
+   * Removes an account's handle. Names that were aliased to it resolve to nothing until they are cached again.
+   * @param identifier The {@link UUID} of the account.
+   */
+  public void invalidate(UUID identifier) {
+    if(identifier == null) return;
+
+    stamp.incrementAndGet();
+    entries.remove(identifier);
+  }
+
+  /**
+   * Removes every cached handle.
+   */
+  public void clear() {
+    stamp.incrementAndGet();
+    entries.clear();
+    aliases.clear();
+    expunge();
+  }
+
+  /**
+   * Resolves a name to the {@link UUID} of the player using it, through Reserve's {@link IdentifierIndex}.
+   */
+  private static UUID resolve(String name) {
+    Reserve reserve = Reserve.instance();
+    IdentifierIndex identifiers = (reserve != null)? reserve.identifiers() : null;
+    return (identifiers != null)? identifiers.resolve(name) : null;
+  }
+
+  private static String alias(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Drops the entries whose accounts have been collected.
+   */
+  private void expunge() {
+    Handle handle;
+    while((handle = (Handle)collected.poll()) != null) {
+      entries.remove(handle.identifier, handle);
+    }
+  }
+
+  /**
+   * Makes room for a new handle by dropping entries until the cache is below its maximum size. Aliases of dropped
+   * handles are harmless, but they are cleared once they outnumber the handles, so they can't grow without bound.
+   */
+  private void evict() {
+    Iterator<Handle> handles = entries.values().iterator();
+    while(entries.size() >= maxSize && handles.hasNext()) {
+      handles.next();
+      handles.remove();
+      evictions.increment();
+    }
+    if(aliases.size() >= maxSize) {
+      aliases.clear();
+    }
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  private static final class Handle extends SoftReference<Account> {
+    private final UUID identifier;
+
+    Handle(UUID identifier, Account account, ReferenceQueue<Account> queue) {
+      super(account, queue);
+      this.identifier = identifier;
+    }
+  }
+}
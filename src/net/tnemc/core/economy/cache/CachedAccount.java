@@ -0,0 +1,356 @@
+package net.tnemc.core.economy.cache;
+
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class CachedAccount implements Account {
+
+  private final Account account;
+  private final Object lookup;
+  private final HoldingsCache cache;
+
+  /**
+   * Wraps an {@link Account} so that changing its holdings invalidates the cached balances of the account.
+   * @param account The {@link Account} to wrap.
+   * @param lookup The identifier the account was retrieved with. This may be a {@link UUID}, or a name.
+   * @param cache The {@link HoldingsCache} to invalidate.
+   */
+  public CachedAccount(Account account, Object lookup, HoldingsCache cache) {
+    this.account = account;
+    this.lookup = lookup;
+    this.cache = cache;
+  }
+
+  /**
+   * @return The wrapped {@link Account}.
+   */
+  public Account account() {
+    return account;
+  }
+
+  /**
+   * Providers may expect the {@link Account} objects passed to them to be their own implementation, so wrapped
+   * accounts are unwrapped before being handed back.
+   */
+  static Account unwrap(Account account) {
+    return (account instanceof CachedAccount)? ((CachedAccount)account).account : account;
+  }
+
+  private void invalidate() {
+    cache.invalidate(lookup);
+    cache.invalidate(account.displayName());
+    cache.invalidate(account.identifier());
+  }
+
+  @Override
+  public UUID identifier() {
+    return this.account.identifier();
+  }
+
+  @Override
+  public String displayName() {
+    return this.account.displayName();
+  }
+
+  @Override
+  public boolean playerAccount() {
+    return this.account.playerAccount();
+  }
+
+  @Override
+  public boolean isAccessor(Account account) {
+    return this.account.isAccessor(unwrap(account));
+  }
+
+  @Override
+  public boolean canWithdraw(Account account) {
+    return this.account.canWithdraw(unwrap(account));
+  }
+
+  @Override
+  public boolean canDeposit(Account account) {
+    return this.account.canDeposit(unwrap(account));
+  }
+
+  @Override
+  public boolean canRemoveAccessor(Account account) {
+    return this.account.canRemoveAccessor(unwrap(account));
+  }
+
+  @Override
+  public boolean canAddAccessor(Account account) {
+    return this.account.canAddAccessor(unwrap(account));
+  }
+
+  @Override
+  public BigDecimal getHoldings() {
+    return this.account.getHoldings();
+  }
+
+  @Override
+  public BigDecimal getHoldings(String world) {
+    return this.account.getHoldings(world);
+  }
+
+  @Override
+  public BigDecimal getHoldings(String world, Currency currency) {
+    return this.account.getHoldings(world, currency);
+  }
+
+  @Override
+  public BigDecimal getHoldings(Currency currency) {
+    return this.account.getHoldings(currency);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount) {
+    return this.account.hasHoldings(amount);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, String world) {
+    return this.account.hasHoldings(amount, world);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, Currency currency) {
+    return this.account.hasHoldings(amount, currency);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, Currency currency, String world) {
+    return this.account.hasHoldings(amount, currency, world);
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount) {
+    try {
+      return this.account.setHoldings(amount);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, String world) {
+    try {
+      return this.account.setHoldings(amount, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, Currency currency) {
+    try {
+      return this.account.setHoldings(amount, currency);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, Currency currency, String world) {
+    try {
+      return this.account.setHoldings(amount, currency, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount) {
+    try {
+      return this.account.addHoldings(amount);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, String world) {
+    try {
+      return this.account.addHoldings(amount, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, Currency currency) {
+    try {
+      return this.account.addHoldings(amount, currency);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, Currency currency, String world) {
+    try {
+      return this.account.addHoldings(amount, currency, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount) {
+    return this.account.canAddHoldings(amount);
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, String world) {
+    return this.account.canAddHoldings(amount, world);
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, Currency currency) {
+    return this.account.canAddHoldings(amount, currency);
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, Currency currency, String world) {
+    return this.account.canAddHoldings(amount, currency, world);
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount) {
+    try {
+      return this.account.removeHoldings(amount);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, String world) {
+    try {
+      return this.account.removeHoldings(amount, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, Currency currency) {
+    try {
+      return this.account.removeHoldings(amount, currency);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, Currency currency, String world) {
+    try {
+      return this.account.removeHoldings(amount, currency, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount) {
+    return this.account.canRemoveHoldings(amount);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, String world) {
+    return this.account.canRemoveHoldings(amount, world);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, Currency currency) {
+    return this.account.canRemoveHoldings(amount, currency);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, Currency currency, String world) {
+    return this.account.canRemoveHoldings(amount, currency, world);
+  }
+
+  @Override
+  public long getHoldingsMinor(Currency currency, String world) {
+    return this.account.getHoldingsMinor(currency, world);
+  }
+
+  @Override
+  public boolean hasHoldingsMinor(long amount, Currency currency, String world) {
+    return this.account.hasHoldingsMinor(amount, currency, world);
+  }
+
+  @Override
+  public boolean setHoldingsMinor(long amount, Currency currency, String world) {
+    try {
+      return this.account.setHoldingsMinor(amount, currency, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean addHoldingsMinor(long amount, Currency currency, String world) {
+    try {
+      return this.account.addHoldingsMinor(amount, currency, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean removeHoldingsMinor(long amount, Currency currency, String world) {
+    try {
+      return this.account.removeHoldingsMinor(amount, currency, world);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean handleCharge(TransactionCharge charge) {
+    try {
+      return this.account.handleCharge(charge);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean tryCharge(TransactionCharge charge) {
+    try {
+      return this.account.tryCharge(charge);
+    } finally {
+      invalidate();
+    }
+  }
+
+  @Override
+  public boolean canCharge(TransactionCharge charge) {
+    return this.account.canCharge(charge);
+  }
+}
@@ -0,0 +1,1113 @@
+package net.tnemc.core.economy.cache;
+
+import net.tnemc.core.economy.EconomyAPI;
+import net.tnemc.core.economy.TransferResult;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class CachedEconomyAPI implements EconomyAPI {
+
+  protected final EconomyAPI provider;
+  protected final HoldingsCache cache;
+
+  /**
+   * Wraps an {@link EconomyAPI} provider, caching the result of getHoldings until it expires or the account's holdings
+   * are changed through this instance. Changes made to the provider directly are only picked up once the cached
+   * balance expires.
+   * @param provider The {@link EconomyAPI} provider to wrap.
+   * @param cache The {@link HoldingsCache} to store balances in.
+   */
+  public CachedEconomyAPI(EconomyAPI provider, HoldingsCache cache) {
+    this.provider = provider;
+    this.cache = cache;
+  }
+
+  /**
+   * @return The wrapped {@link EconomyAPI} provider.
+   */
+  public EconomyAPI provider() {
+    return provider;
+  }
+
+  /**
+   * @return The {@link HoldingsCache} used by this instance.
+   */
+  public HoldingsCache cache() {
+    return cache;
+  }
+
+  @Override
+  public String name() {
+    return provider.name();
+  }
+
+  @Override
+  public String version() {
+    return provider.version();
+  }
+
+  @Override
+  public boolean enabled() {
+    return provider.enabled();
+  }
+
+  @Override
+  public boolean vault() {
+    return provider.vault();
+  }
+
+  @Override
+  public boolean sharedNameAccounts() {
+    return provider.sharedNameAccounts();
+  }
+
+  @Override
+  public String currencyDefaultPlural() {
+    return provider.currencyDefaultPlural();
+  }
+
+  @Override
+  public String currencyDefaultSingular() {
+    return provider.currencyDefaultSingular();
+  }
+
+  @Override
+  public String currencyDefaultPlural(String world) {
+    return provider.currencyDefaultPlural(world);
+  }
+
+  @Override
+  public String currencyDefaultSingular(String world) {
+    return provider.currencyDefaultSingular(world);
+  }
+
+  @Override
+  public boolean hasCurrency(String name) {
+    return provider.hasCurrency(name);
+  }
+
+  @Override
+  public boolean hasCurrency(String name, String world) {
+    return provider.hasCurrency(name, world);
+  }
+
+  @Override
+  public boolean hasAccount(String identifier) {
+    return provider.hasAccount(identifier);
+  }
+
+  @Override
+  public boolean hasAccount(UUID identifier) {
+    return provider.hasAccount(identifier);
+  }
+
+  @Override
+  public boolean createAccount(String identifier) {
+    try {
+      return provider.createAccount(identifier);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean createAccount(UUID identifier) {
+    try {
+      return provider.createAccount(identifier);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean deleteAccount(String identifier) {
+    try {
+      return provider.deleteAccount(identifier);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean deleteAccount(UUID identifier) {
+    try {
+      return provider.deleteAccount(identifier);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean isAccessor(String identifier, String accessor) {
+    return provider.isAccessor(identifier, accessor);
+  }
+
+  @Override
+  public boolean isAccessor(String identifier, UUID accessor) {
+    return provider.isAccessor(identifier, accessor);
+  }
+
+  @Override
+  public boolean isAccessor(UUID identifier, String accessor) {
+    return provider.isAccessor(identifier, accessor);
+  }
+
+  @Override
+  public boolean isAccessor(UUID identifier, UUID accessor) {
+    return provider.isAccessor(identifier, accessor);
+  }
+
+  @Override
+  public boolean canWithdraw(String identifier, String accessor) {
+    return provider.canWithdraw(identifier, accessor);
+  }
+
+  @Override
+  public boolean canWithdraw(String identifier, UUID accessor) {
+    return provider.canWithdraw(identifier, accessor);
+  }
+
+  @Override
+  public boolean canWithdraw(UUID identifier, String accessor) {
+    return provider.canWithdraw(identifier, accessor);
+  }
+
+  @Override
+  public boolean canWithdraw(UUID identifier, UUID accessor) {
+    return provider.canWithdraw(identifier, accessor);
+  }
+
+  @Override
+  public boolean canDeposit(String identifier, String accessor) {
+    return provider.canDeposit(identifier, accessor);
+  }
+
+  @Override
+  public boolean canDeposit(String identifier, UUID accessor) {
+    return provider.canDeposit(identifier, accessor);
+  }
+
+  @Override
+  public boolean canDeposit(UUID identifier, String accessor) {
+    return provider.canDeposit(identifier, accessor);
+  }
+
+  @Override
+  public boolean canDeposit(UUID identifier, UUID accessor) {
+    return provider.canDeposit(identifier, accessor);
+  }
+
+  @Override
+  public BigDecimal getHoldings(String identifier) {
+    BigDecimal cached = cache.get(identifier, null, null);
+    if(cached != null) return cached;
+
+    long stamp = cache.stamp();
+    BigDecimal holdings = provider.getHoldings(identifier);
+    cache.put(stamp, identifier, null, null, holdings);
+    return holdings;
+  }
+
+  @Override
+  public BigDecimal getHoldings(UUID identifier) {
+    BigDecimal cached = cache.get(identifier, null, null);
+    if(cached != null) return cached;
+
+    long stamp = cache.stamp();
+    BigDecimal holdings = provider.getHoldings(identifier);
+    cache.put(stamp, identifier, null, null, holdings);
+    return holdings;
+  }
+
+  @Override
+  public BigDecimal getHoldings(String identifier, String world) {
+    BigDecimal cached = cache.get(identifier, world, null);
+    if(cached != null) return cached;
+
+    long stamp = cache.stamp();
+    BigDecimal holdings = provider.getHoldings(identifier, world);
+    cache.put(stamp, identifier, world, null, holdings);
+    return holdings;
+  }
+
+  @Override
+  public BigDecimal getHoldings(UUID identifier, String world) {
+    BigDecimal cached = cache.get(identifier, world, null);
+    if(cached != null) return cached;
+
+    long stamp = cache.stamp();
+    BigDecimal holdings = provider.getHoldings(identifier, world);
+    cache.put(stamp, identifier, world, null, holdings);
+    return holdings;
+  }
+
+  @Override
+  public BigDecimal getHoldings(String identifier, String world, String currency) {
+    BigDecimal cached = cache.get(identifier, world, currency);
+    if(cached != null) return cached;
+
+    long stamp = cache.stamp();
+    BigDecimal holdings = provider.getHoldings(identifier, world, currency);
+    cache.put(stamp, identifier, world, currency, holdings);
+    return holdings;
+  }
+
+  @Override
+  public BigDecimal getHoldings(UUID identifier, String world, String currency) {
+    BigDecimal cached = cache.get(identifier, world, currency);
+    if(cached != null) return cached;
+
+    long stamp = cache.stamp();
+    BigDecimal holdings = provider.getHoldings(identifier, world, currency);
+    cache.put(stamp, identifier, world, currency, holdings);
+    return holdings;
+  }
+
+  @Override
+  public boolean hasHoldings(String identifier, BigDecimal amount) {
+    return provider.hasHoldings(identifier, amount);
+  }
+
+  @Override
+  public boolean hasHoldings(UUID identifier, BigDecimal amount) {
+    return provider.hasHoldings(identifier, amount);
+  }
+
+  @Override
+  public boolean hasHoldings(String identifier, BigDecimal amount, String world) {
+    return provider.hasHoldings(identifier, amount, world);
+  }
+
+  @Override
+  public boolean hasHoldings(UUID identifier, BigDecimal amount, String world) {
+    return provider.hasHoldings(identifier, amount, world);
+  }
+
+  @Override
+  public boolean hasHoldings(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.hasHoldings(identifier, amount, world, currency);
+  }
+
+  @Override
+  public boolean hasHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.hasHoldings(identifier, amount, world, currency);
+  }
+
+  @Override
+  public boolean setHoldings(String identifier, BigDecimal amount) {
+    try {
+      return provider.setHoldings(identifier, amount);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean setHoldings(UUID identifier, BigDecimal amount) {
+    try {
+      return provider.setHoldings(identifier, amount);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean setHoldings(String identifier, BigDecimal amount, String world) {
+    try {
+      return provider.setHoldings(identifier, amount, world);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean setHoldings(UUID identifier, BigDecimal amount, String world) {
+    try {
+      return provider.setHoldings(identifier, amount, world);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean setHoldings(String identifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.setHoldings(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean setHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.setHoldings(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean addHoldings(String identifier, BigDecimal amount) {
+    try {
+      return provider.addHoldings(identifier, amount);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean addHoldings(UUID identifier, BigDecimal amount) {
+    try {
+      return provider.addHoldings(identifier, amount);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean addHoldings(String identifier, BigDecimal amount, String world) {
+    try {
+      return provider.addHoldings(identifier, amount, world);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean addHoldings(UUID identifier, BigDecimal amount, String world) {
+    try {
+      return provider.addHoldings(identifier, amount, world);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean addHoldings(String identifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.addHoldings(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean addHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.addHoldings(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean canAddHoldings(String identifier, BigDecimal amount) {
+    return provider.canAddHoldings(identifier, amount);
+  }
+
+  @Override
+  public boolean canAddHoldings(UUID identifier, BigDecimal amount) {
+    return provider.canAddHoldings(identifier, amount);
+  }
+
+  @Override
+  public boolean canAddHoldings(String identifier, BigDecimal amount, String world) {
+    return provider.canAddHoldings(identifier, amount, world);
+  }
+
+  @Override
+  public boolean canAddHoldings(UUID identifier, BigDecimal amount, String world) {
+    return provider.canAddHoldings(identifier, amount, world);
+  }
+
+  @Override
+  public boolean canAddHoldings(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.canAddHoldings(identifier, amount, world, currency);
+  }
+
+  @Override
+  public boolean canAddHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.canAddHoldings(identifier, amount, world, currency);
+  }
+
+  @Override
+  public boolean removeHoldings(String identifier, BigDecimal amount) {
+    try {
+      return provider.removeHoldings(identifier, amount);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(UUID identifier, BigDecimal amount) {
+    try {
+      return provider.removeHoldings(identifier, amount);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(String identifier, BigDecimal amount, String world) {
+    try {
+      return provider.removeHoldings(identifier, amount, world);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(UUID identifier, BigDecimal amount, String world) {
+    try {
+      return provider.removeHoldings(identifier, amount, world);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(String identifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.removeHoldings(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean removeHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.removeHoldings(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean canRemoveHoldings(String identifier, BigDecimal amount) {
+    return provider.canRemoveHoldings(identifier, amount);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(UUID identifier, BigDecimal amount) {
+    return provider.canRemoveHoldings(identifier, amount);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(String identifier, BigDecimal amount, String world) {
+    return provider.canRemoveHoldings(identifier, amount, world);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(UUID identifier, BigDecimal amount, String world) {
+    return provider.canRemoveHoldings(identifier, amount, world);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.canRemoveHoldings(identifier, amount, world, currency);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.canRemoveHoldings(identifier, amount, world, currency);
+  }
+
+  @Override
+  public Map<UUID, BigDecimal> getHoldings(Collection<UUID> identifiers) {
+    return provider.getHoldings(identifiers);
+  }
+
+  @Override
+  public Map<UUID, BigDecimal> getHoldings(Collection<UUID> identifiers, String world) {
+    return provider.getHoldings(identifiers, world);
+  }
+
+  @Override
+  public Map<UUID, BigDecimal> getHoldings(Collection<UUID> identifiers, String world, String currency) {
+    return provider.getHoldings(identifiers, world, currency);
+  }
+
+  @Override
+  public Map<UUID, Boolean> applyHoldings(Map<UUID, BigDecimal> deltas) {
+    try {
+      return provider.applyHoldings(deltas);
+    } finally {
+      for(UUID identifier : deltas.keySet()) {
+        cache.invalidate(identifier);
+      }
+    }
+  }
+
+  @Override
+  public Map<UUID, Boolean> applyHoldings(Map<UUID, BigDecimal> deltas, String world) {
+    try {
+      return provider.applyHoldings(deltas, world);
+    } finally {
+      for(UUID identifier : deltas.keySet()) {
+        cache.invalidate(identifier);
+      }
+    }
+  }
+
+  @Override
+  public Map<UUID, Boolean> applyHoldings(Map<UUID, BigDecimal> deltas, String world, String currency) {
+    try {
+      return provider.applyHoldings(deltas, world, currency);
+    } finally {
+      for(UUID identifier : deltas.keySet()) {
+        cache.invalidate(identifier);
+      }
+    }
+  }
+
+  @Override
+  public TransferResult transfer(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    try {
+      return provider.transfer(fromIdentifier, toIdentifier, amount);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public TransferResult transfer(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    try {
+      return provider.transfer(fromIdentifier, toIdentifier, amount, world);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public TransferResult transfer(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.transfer(fromIdentifier, toIdentifier, amount, world, currency);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public TransferResult transfer(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    try {
+      return provider.transfer(fromIdentifier, toIdentifier, amount);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public TransferResult transfer(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    try {
+      return provider.transfer(fromIdentifier, toIdentifier, amount, world);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public TransferResult transfer(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.transfer(fromIdentifier, toIdentifier, amount, world, currency);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public boolean transferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    try {
+      return provider.transferHoldings(fromIdentifier, toIdentifier, amount);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public boolean transferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    try {
+      return provider.transferHoldings(fromIdentifier, toIdentifier, amount, world);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public boolean transferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.transferHoldings(fromIdentifier, toIdentifier, amount, world, currency);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public boolean transferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    try {
+      return provider.transferHoldings(fromIdentifier, toIdentifier, amount);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public boolean transferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    try {
+      return provider.transferHoldings(fromIdentifier, toIdentifier, amount, world);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public boolean transferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    try {
+      return provider.transferHoldings(fromIdentifier, toIdentifier, amount, world, currency);
+    } finally {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    }
+  }
+
+  @Override
+  public boolean canTransferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    return provider.canTransferHoldings(fromIdentifier, toIdentifier, amount);
+  }
+
+  @Override
+  public boolean canTransferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    return provider.canTransferHoldings(fromIdentifier, toIdentifier, amount, world);
+  }
+
+  @Override
+  public boolean canTransferHoldings(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    return provider.canTransferHoldings(fromIdentifier, toIdentifier, amount, world, currency);
+  }
+
+  @Override
+  public boolean canTransferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    return provider.canTransferHoldings(fromIdentifier, toIdentifier, amount);
+  }
+
+  @Override
+  public boolean canTransferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    return provider.canTransferHoldings(fromIdentifier, toIdentifier, amount, world);
+  }
+
+  @Override
+  public boolean canTransferHoldings(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    return provider.canTransferHoldings(fromIdentifier, toIdentifier, amount, world, currency);
+  }
+
+  @Override
+  public Executor executor() {
+    return provider.executor();
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> getHoldingsAsync(String identifier) {
+    BigDecimal cached = cache.get(identifier, null, null);
+    if(cached != null) return CompletableFuture.completedFuture(cached);
+
+    long stamp = cache.stamp();
+    return provider.getHoldingsAsync(identifier).thenApply(holdings -> {
+      cache.put(stamp, identifier, null, null, holdings);
+      return holdings;
+    });
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> getHoldingsAsync(UUID identifier) {
+    BigDecimal cached = cache.get(identifier, null, null);
+    if(cached != null) return CompletableFuture.completedFuture(cached);
+
+    long stamp = cache.stamp();
+    return provider.getHoldingsAsync(identifier).thenApply(holdings -> {
+      cache.put(stamp, identifier, null, null, holdings);
+      return holdings;
+    });
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> getHoldingsAsync(String identifier, String world) {
+    BigDecimal cached = cache.get(identifier, world, null);
+    if(cached != null) return CompletableFuture.completedFuture(cached);
+
+    long stamp = cache.stamp();
+    return provider.getHoldingsAsync(identifier, world).thenApply(holdings -> {
+      cache.put(stamp, identifier, world, null, holdings);
+      return holdings;
+    });
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> getHoldingsAsync(UUID identifier, String world) {
+    BigDecimal cached = cache.get(identifier, world, null);
+    if(cached != null) return CompletableFuture.completedFuture(cached);
+
+    long stamp = cache.stamp();
+    return provider.getHoldingsAsync(identifier, world).thenApply(holdings -> {
+      cache.put(stamp, identifier, world, null, holdings);
+      return holdings;
+    });
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> getHoldingsAsync(String identifier, String world, String currency) {
+    BigDecimal cached = cache.get(identifier, world, currency);
+    if(cached != null) return CompletableFuture.completedFuture(cached);
+
+    long stamp = cache.stamp();
+    return provider.getHoldingsAsync(identifier, world, currency).thenApply(holdings -> {
+      cache.put(stamp, identifier, world, currency, holdings);
+      return holdings;
+    });
+  }
+
+  @Override
+  public CompletableFuture<BigDecimal> getHoldingsAsync(UUID identifier, String world, String currency) {
+    BigDecimal cached = cache.get(identifier, world, currency);
+    if(cached != null) return CompletableFuture.completedFuture(cached);
+
+    long stamp = cache.stamp();
+    return provider.getHoldingsAsync(identifier, world, currency).thenApply(holdings -> {
+      cache.put(stamp, identifier, world, currency, holdings);
+      return holdings;
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasHoldingsAsync(String identifier, BigDecimal amount) {
+    return provider.hasHoldingsAsync(identifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return provider.hasHoldingsAsync(identifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return provider.hasHoldingsAsync(identifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return provider.hasHoldingsAsync(identifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.hasHoldingsAsync(identifier, amount, world, currency);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.hasHoldingsAsync(identifier, amount, world, currency);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> setHoldingsAsync(String identifier, BigDecimal amount) {
+    return provider.setHoldingsAsync(identifier, amount).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> setHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return provider.setHoldingsAsync(identifier, amount).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> setHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return provider.setHoldingsAsync(identifier, amount, world).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> setHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return provider.setHoldingsAsync(identifier, amount, world).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> setHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.setHoldingsAsync(identifier, amount, world, currency).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> setHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.setHoldingsAsync(identifier, amount, world, currency).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> addHoldingsAsync(String identifier, BigDecimal amount) {
+    return provider.addHoldingsAsync(identifier, amount).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> addHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return provider.addHoldingsAsync(identifier, amount).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> addHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return provider.addHoldingsAsync(identifier, amount, world).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> addHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return provider.addHoldingsAsync(identifier, amount, world).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> addHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.addHoldingsAsync(identifier, amount, world, currency).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> addHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.addHoldingsAsync(identifier, amount, world, currency).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canAddHoldingsAsync(String identifier, BigDecimal amount) {
+    return provider.canAddHoldingsAsync(identifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canAddHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return provider.canAddHoldingsAsync(identifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canAddHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return provider.canAddHoldingsAsync(identifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canAddHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return provider.canAddHoldingsAsync(identifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canAddHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.canAddHoldingsAsync(identifier, amount, world, currency);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canAddHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.canAddHoldingsAsync(identifier, amount, world, currency);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeHoldingsAsync(String identifier, BigDecimal amount) {
+    return provider.removeHoldingsAsync(identifier, amount).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return provider.removeHoldingsAsync(identifier, amount).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return provider.removeHoldingsAsync(identifier, amount, world).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return provider.removeHoldingsAsync(identifier, amount, world).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.removeHoldingsAsync(identifier, amount, world, currency).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> removeHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.removeHoldingsAsync(identifier, amount, world, currency).whenComplete((result, throwable) -> cache.invalidate(identifier));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canRemoveHoldingsAsync(String identifier, BigDecimal amount) {
+    return provider.canRemoveHoldingsAsync(identifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canRemoveHoldingsAsync(UUID identifier, BigDecimal amount) {
+    return provider.canRemoveHoldingsAsync(identifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canRemoveHoldingsAsync(String identifier, BigDecimal amount, String world) {
+    return provider.canRemoveHoldingsAsync(identifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canRemoveHoldingsAsync(UUID identifier, BigDecimal amount, String world) {
+    return provider.canRemoveHoldingsAsync(identifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canRemoveHoldingsAsync(String identifier, BigDecimal amount, String world, String currency) {
+    return provider.canRemoveHoldingsAsync(identifier, amount, world, currency);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canRemoveHoldingsAsync(UUID identifier, BigDecimal amount, String world, String currency) {
+    return provider.canRemoveHoldingsAsync(identifier, amount, world, currency);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> transferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    return provider.transferHoldingsAsync(fromIdentifier, toIdentifier, amount).whenComplete((result, throwable) -> {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> transferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    return provider.transferHoldingsAsync(fromIdentifier, toIdentifier, amount, world).whenComplete((result, throwable) -> {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> transferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    return provider.transferHoldingsAsync(fromIdentifier, toIdentifier, amount, world, currency).whenComplete((result, throwable) -> {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> transferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    return provider.transferHoldingsAsync(fromIdentifier, toIdentifier, amount).whenComplete((result, throwable) -> {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> transferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    return provider.transferHoldingsAsync(fromIdentifier, toIdentifier, amount, world).whenComplete((result, throwable) -> {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> transferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    return provider.transferHoldingsAsync(fromIdentifier, toIdentifier, amount, world, currency).whenComplete((result, throwable) -> {
+      cache.invalidate(fromIdentifier);
+      cache.invalidate(toIdentifier);
+    });
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canTransferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount) {
+    return provider.canTransferHoldingsAsync(fromIdentifier, toIdentifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canTransferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world) {
+    return provider.canTransferHoldingsAsync(fromIdentifier, toIdentifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canTransferHoldingsAsync(String fromIdentifier, String toIdentifier, BigDecimal amount, String world, String currency) {
+    return provider.canTransferHoldingsAsync(fromIdentifier, toIdentifier, amount, world, currency);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canTransferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount) {
+    return provider.canTransferHoldingsAsync(fromIdentifier, toIdentifier, amount);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canTransferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world) {
+    return provider.canTransferHoldingsAsync(fromIdentifier, toIdentifier, amount, world);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> canTransferHoldingsAsync(UUID fromIdentifier, UUID toIdentifier, BigDecimal amount, String world, String currency) {
+    return provider.canTransferHoldingsAsync(fromIdentifier, toIdentifier, amount, world, currency);
+  }
+
+  @Override
+  public String format(BigDecimal amount) {
+    return provider.format(amount);
+  }
+
+  @Override
+  public String format(BigDecimal amount, String world) {
+    return provider.format(amount, world);
+  }
+
+  @Override
+  public String format(BigDecimal amount, String world, String currency) {
+    return provider.format(amount, world, currency);
+  }
+
+  @Override
+  public boolean purgeAccounts() {
+    try {
+      return provider.purgeAccounts();
+    } finally {
+      cache.clear();
+    }
+  }
+
+  @Override
+  public boolean purgeAccountsUnder(BigDecimal amount) {
+    try {
+      return provider.purgeAccountsUnder(amount);
+    } finally {
+      cache.clear();
+    }
+  }
+
+  @Override
+  public boolean supportTransactions() {
+    return provider.supportTransactions();
+  }
+}
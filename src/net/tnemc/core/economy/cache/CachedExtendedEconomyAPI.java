@@ -0,0 +1,341 @@
+package net.tnemc.core.economy.cache;
+
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.Tier;
+import net.tnemc.core.economy.currency.TierBreakdown;
+import net.tnemc.core.economy.leaderboard.Leaderboards;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+import net.tnemc.core.economy.transaction.store.TransactionStore;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class CachedExtendedEconomyAPI extends CachedEconomyAPI implements ExtendedEconomyAPI {
+
+  protected final ExtendedEconomyAPI extended;
+
+  /**
+   * Wraps an {@link ExtendedEconomyAPI} provider, caching the result of getHoldings until it expires or the account's
+   * holdings are changed through this instance. The {@link Account} objects it returns are wrapped as well, so changes
+   * made through them invalidate the cached balances too. Changes made to the provider directly are only picked up
+   * once the cached balance expires.
+   * @param provider The {@link ExtendedEconomyAPI} provider to wrap.
+   * @param cache The {@link HoldingsCache} to store balances in.
+   */
+  public CachedExtendedEconomyAPI(ExtendedEconomyAPI provider, HoldingsCache cache) {
+    super(provider, cache);
+    this.extended = provider;
+  }
+
+  /**
+   * Removes the cached balances of both parties of a {@link Transaction}.
+   * @param transaction The {@link Transaction} whose accounts should be invalidated.
+   */
+  protected void invalidate(Transaction transaction) {
+    invalidateIdentifier(transaction.initiator());
+    invalidateIdentifier(transaction.recipient());
+  }
+
+  private Account wrap(Account account, Object identifier) {
+    return (account == null)? null : new CachedAccount(account, identifier, cache);
+  }
+
+  private void invalidateIdentifier(String identifier) {
+    cache.invalidate(identifier);
+  }
+
+  @Override
+  public Currency getDefault() {
+    return extended.getDefault();
+  }
+
+  @Override
+  public Currency getDefault(String world) {
+    return extended.getDefault(world);
+  }
+
+  @Override
+  public Set<Currency> getCurrencies() {
+    return extended.getCurrencies();
+  }
+
+  @Override
+  public Set<Currency> getCurrencies(String world) {
+    return extended.getCurrencies(world);
+  }
+
+  @Override
+  public Currency getCurrency(String name) {
+    return extended.getCurrency(name);
+  }
+
+  @Override
+  public Currency getCurrency(String name, String world) {
+    return extended.getCurrency(name, world);
+  }
+
+  @Override
+  public boolean hasTier(String name, Currency currency) {
+    return extended.hasTier(name, currency);
+  }
+
+  @Override
+  public boolean hasTier(String name, Currency currency, String world) {
+    return extended.hasTier(name, currency, world);
+  }
+
+  @Override
+  public Set<Tier> getTiers(Currency currency) {
+    return extended.getTiers(currency);
+  }
+
+  //Accounts are resolved through the provider's handle cache, if it has one, and wrapped on the way out.
+  @Override
+  public Account getAccount(String identifier) {
+    return wrap(extended.account(identifier), identifier);
+  }
+
+  @Override
+  public Account getAccount(UUID identifier) {
+    return wrap(extended.account(identifier), identifier);
+  }
+
+  @Override
+  public boolean deleteAccount(String identifier) {
+    try {
+      return super.deleteAccount(identifier);
+    } finally {
+      extended.accountDeleted(identifier);
+    }
+  }
+
+  @Override
+  public boolean deleteAccount(UUID identifier) {
+    try {
+      return super.deleteAccount(identifier);
+    } finally {
+      extended.accountDeleted(identifier);
+    }
+  }
+
+  @Override
+  public boolean purgeAccounts() {
+    try {
+      return super.purgeAccounts();
+    } finally {
+      extended.accountsPurged();
+    }
+  }
+
+  @Override
+  public boolean purgeAccountsUnder(BigDecimal amount) {
+    try {
+      return super.purgeAccountsUnder(amount);
+    } finally {
+      extended.accountsPurged();
+    }
+  }
+
+  @Override
+  public void accountDeleted(String identifier) {
+    extended.accountDeleted(identifier);
+  }
+
+  @Override
+  public void accountDeleted(UUID identifier) {
+    extended.accountDeleted(identifier);
+  }
+
+  @Override
+  public void accountsPurged() {
+    extended.accountsPurged();
+  }
+
+  @Override
+  public Account createIfNotExists(String identifier) {
+    return wrap(extended.createIfNotExists(identifier), identifier);
+  }
+
+  @Override
+  public Account createIfNotExists(UUID identifier) {
+    return wrap(extended.createIfNotExists(identifier), identifier);
+  }
+
+  @Override
+  public String format(BigDecimal amount, Currency currency) {
+    return extended.format(amount, currency);
+  }
+
+  @Override
+  public String format(BigDecimal amount, Currency currency, String world) {
+    return extended.format(amount, currency, world);
+  }
+
+  @Override
+  public TransactionResult performTransaction(Transaction transaction) {
+    try {
+      return extended.performTransaction(transaction);
+    } finally {
+      invalidate(transaction);
+    }
+  }
+
+  @Override
+  public TransactionResult performTransaction(Transaction transaction, Account initiator, Account recipient) {
+    try {
+      return extended.performTransaction(transaction, initiator, recipient);
+    } finally {
+      invalidate(transaction);
+    }
+  }
+
+  @Override
+  public Optional<Transaction> getTransaction(UUID uuid) {
+    return extended.getTransaction(uuid);
+  }
+
+  @Override
+  public boolean voidTransaction(UUID uuid) {
+    try {
+      return extended.voidTransaction(uuid);
+    } finally {
+      extended.getTransaction(uuid).ifPresent(this::invalidate);
+    }
+  }
+
+  @Override
+  public Set<TransactionType> getTransactionTypes() {
+    return extended.getTransactionTypes();
+  }
+
+  @Override
+  public Map<UUID, Transaction> getTransactions() {
+    return extended.getTransactions();
+  }
+
+  @Override
+  public Map<UUID, Transaction> getTransactions(String identifier) {
+    return extended.getTransactions(identifier);
+  }
+
+  @Override
+  public List<UUID> accountPage(UUID after, int limit) {
+    return extended.accountPage(after, limit);
+  }
+
+  @Override
+  public Spliterator<Account> accountSpliterator(String world, String currency) {
+    return extended.accountSpliterator(world, currency);
+  }
+
+  @Override
+  public Leaderboards leaderboards() {
+    return extended.leaderboards();
+  }
+
+  @Override
+  public TierBreakdown breakdown(Currency currency) {
+    return extended.breakdown(currency);
+  }
+
+  @Override
+  public Optional<TransactionStore> transactionStore() {
+    return extended.transactionStore();
+  }
+
+  @Override
+  public boolean registerTransactionType(TransactionType type) {
+    return extended.registerTransactionType(type);
+  }
+
+  @Override
+  public boolean registerTransactionResult(TransactionResult result) {
+    return extended.registerTransactionResult(result);
+  }
+
+  @Override
+  public boolean registerCurrency(Currency currency) {
+    return extended.registerCurrency(currency);
+  }
+
+  @Override
+  public boolean registerCurrency(Currency currency, String world) {
+    return extended.registerCurrency(currency, world);
+  }
+
+  @Override
+  public boolean registerTier(Tier tier, Currency currency) {
+    return extended.registerTier(tier, currency);
+  }
+
+  @Override
+  public boolean registerTier(Tier tier, Currency currency, String world) {
+    return extended.registerTier(tier, currency, world);
+  }
+
+  @Override
+  public long getHoldingsMinor(UUID identifier, String world, String currency) {
+    return extended.getHoldingsMinor(identifier, world, currency);
+  }
+
+  @Override
+  public boolean hasHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    return extended.hasHoldingsMinor(identifier, amount, world, currency);
+  }
+
+  @Override
+  public boolean setHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    try {
+      return extended.setHoldingsMinor(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean addHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    try {
+      return extended.addHoldingsMinor(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+
+  @Override
+  public boolean removeHoldingsMinor(UUID identifier, long amount, String world, String currency) {
+    try {
+      return extended.removeHoldingsMinor(identifier, amount, world, currency);
+    } finally {
+      cache.invalidate(identifier);
+    }
+  }
+}
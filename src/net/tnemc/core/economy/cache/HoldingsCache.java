@@ -0,0 +1,290 @@
+package net.tnemc.core.economy.cache;
+
+import net.tnemc.core.Reserve;
+import net.tnemc.core.identifier.IdentifierIndex;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class HoldingsCache {
+
+  /**
+   * The cached balances, grouped by account identifier so that every balance belonging to an account can be
+   * invalidated in one step.
+   */
+  private final Map<Object, Map<HoldingsKey, CachedHoldings>> entries = new ConcurrentHashMap<>();
+
+  /**
+   * The names that balances have been cached under, grouped by the {@link UUID} of the account they belong to. A
+   * change made through either form of identifier invalidates the balances cached under the other.
+   */
+  private final Map<UUID, Set<String>> aliases = new ConcurrentHashMap<>();
+
+  /**
+   * Incremented on every invalidation. A balance read from the provider is only cached if no invalidation happened
+   * while it was being read, so a slow read can never overwrite the result of a newer change.
+   */
+  private final AtomicLong stamp = new AtomicLong();
+
+  private final AtomicInteger size = new AtomicInteger();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private final long ttl;
+  private final int maxSize;
+
+  /**
+   * The size a full cache is evicted down to. Evicting in batches keeps the cost of a put on a full cache constant,
+   * rather than scanning every entry to make room for each new balance.
+   */
+  private final int lowWater;
+
+  /**
+   * @param ttl The number of milliseconds a cached balance stays valid for.
+   * @param maxSize The maximum number of balances to keep cached.
+   */
+  public HoldingsCache(long ttl, int maxSize) {
+    this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+    this.maxSize = maxSize;
+    this.lowWater = maxSize - Math.max(1, maxSize / 10);
+  }
+
+  /**
+   * Used to look up a cached balance.
+   * @param identifier The identifier of the account. This may be a {@link java.util.UUID}, or a player's name.
+   * @param world The name of the world associated with the balance, or null.
+   * @param currency The name of the currency associated with the balance, or null.
+   * @return The cached balance, or null if no valid balance is cached.
+   */
+  public BigDecimal get(Object identifier, String world, String currency) {
+    Map<HoldingsKey, CachedHoldings> account = entries.get(key(identifier));
+    if(account != null) {
+      CachedHoldings holdings = account.get(new HoldingsKey(world, currency));
+      if(holdings != null && holdings.expires - System.nanoTime() > 0) {
+        hits.increment();
+        return holdings.amount;
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * @return The current invalidation stamp, which should be captured before reading a balance from the provider and
+   * passed to {@link #put(long, Object, String, String, BigDecimal)}.
+   */
+  public long stamp() {
+    return stamp.get();
+  }
+
+  /**
+   * Used to cache a balance that has just been read from the provider.
+   * @param stamp The value of {@link #stamp()} before the balance was read.
+   * @param identifier The identifier of the account. This may be a {@link java.util.UUID}, or a player's name.
+   * @param world The name of the world associated with the balance, or null.
+   * @param currency The name of the currency associated with the balance, or null.
+   * @param amount The balance.
+   */
+  public void put(long stamp, Object identifier, String world, String currency, BigDecimal amount) {
+    if(amount == null || stamp != this.stamp.get()) return;
+
+    final Object normalized = key(identifier);
+    if(normalized instanceof String) {
+      //A name can only be cached once the account it belongs to is known, otherwise a change made through the
+      //account's UUID couldn't invalidate it.
+      UUID owner = resolve((String)normalized);
+      if(owner == null) return;
+      aliases.computeIfAbsent(owner, id -> ConcurrentHashMap.newKeySet()).add((String)normalized);
+    }
+
+    if(size.get() >= maxSize) {
+      evict();
+    }
+
+    HoldingsKey key = new HoldingsKey(world, currency);
+    Map<HoldingsKey, CachedHoldings> account = entries.computeIfAbsent(normalized, id -> new ConcurrentHashMap<>());
+    if(account.put(key, new CachedHoldings(amount, System.nanoTime() + ttl)) == null) {
+      size.incrementAndGet();
+    }
+
+    //An invalidation raced with this put, so the balance may already be outdated.
+    if(stamp != this.stamp.get() && account.remove(key) != null) {
+      size.decrementAndGet();
+    }
+  }
+
+  /**
+   * Removes every cached balance belonging to the specified account, whether it was cached under the account's
+   * {@link UUID} or one of its names. This should be called whenever the account's holdings are changed.
+   * @param identifier The identifier of the account. This may be a {@link java.util.UUID}, or a player's name.
+   */
+  public void invalidate(Object identifier) {
+    if(identifier == null) return;
+
+    stamp.incrementAndGet();
+    final Object key = key(identifier);
+    remove(key);
+
+    UUID owner = (key instanceof UUID)? (UUID)key : resolve((String)key);
+    if(owner != null) {
+      remove(owner);
+      Set<String> names = aliases.remove(owner);
+      if(names != null) {
+        for(String name : names) {
+          remove(name);
+        }
+      }
+    }
+  }
+
+  private void remove(Object key) {
+    Map<HoldingsKey, CachedHoldings> removed = entries.remove(key);
+    if(removed != null) {
+      size.addAndGet(-removed.size());
+    }
+  }
+
+  /**
+   * Removes every cached balance.
+   */
+  public void clear() {
+    stamp.incrementAndGet();
+    entries.clear();
+    aliases.clear();
+    size.set(0);
+  }
+
+  /**
+   * Normalizes an identifier, so a {@link UUID} and its string form share their cached balances.
+   */
+  private static Object key(Object identifier) {
+    if(identifier instanceof String) {
+      UUID parsed = IdentifierIndex.parse((String)identifier);
+      if(parsed != null) {
+        return parsed;
+      }
+    }
+    return identifier;
+  }
+
+  /**
+   * Resolves a name to the {@link UUID} of the player using it, through Reserve's {@link IdentifierIndex}.
+   */
+  private static UUID resolve(String name) {
+    Reserve reserve = Reserve.instance();
+    IdentifierIndex identifiers = (reserve != null)? reserve.identifiers() : null;
+    return (identifiers != null)? identifiers.resolve(name) : null;
+  }
+
+  /**
+   * Makes room for new balances. Expired balances are dropped first, and if the cache is still above its low-water mark
+   * whole accounts are dropped until it is back under it.
+   */
+  private void evict() {
+    long now = System.nanoTime();
+    Iterator<Map<HoldingsKey, CachedHoldings>> accounts = entries.values().iterator();
+    while(accounts.hasNext()) {
+      Iterator<CachedHoldings> holdings = accounts.next().values().iterator();
+      while(holdings.hasNext()) {
+        if(holdings.next().expires - now <= 0) {
+          holdings.remove();
+          size.decrementAndGet();
+          evictions.increment();
+        }
+      }
+    }
+
+    accounts = entries.values().iterator();
+    while(size.get() > lowWater && accounts.hasNext()) {
+      int removed = accounts.next().size();
+      accounts.remove();
+      size.addAndGet(-removed);
+      evictions.add(removed);
+    }
+  }
+
+  public int size() {
+    return size.get();
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  public void resetStatistics() {
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  private static final class HoldingsKey {
+    private final String world;
+    private final String currency;
+
+    HoldingsKey(String world, String currency) {
+      this.world = world;
+      this.currency = currency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if(this == o) return true;
+      if(!(o instanceof HoldingsKey)) return false;
+      HoldingsKey other = (HoldingsKey)o;
+      return Objects.equals(world, other.world) && Objects.equals(currency, other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hashCode(world) + Objects.hashCode(currency);
+    }
+  }
+
+  private static final class CachedHoldings {
+    private final BigDecimal amount;
+    private final long expires;
+
+    CachedHoldings(BigDecimal amount, long expires) {
+      this.amount = amount;
+      this.expires = expires;
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package net.tnemc.core.economy.currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * A format plan compiled once from a {@link Currency}. The symbol, scale and tiers are copied into flat arrays, so
+ * formatting an amount neither walks the tier {@link TreeMap}s nor builds intermediate strings. Formatters are
+ * immutable and safe to share, and are usually obtained from {@link CurrencyRegistry#formatter(Currency)}.
+ */
+public final class CurrencyFormatter {
+
+  private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+  private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[8]);
+
+  private final String symbol;
+  private final int decimalPlaces;
+  private final long power;
+
+  private final TierBreakdown breakdown;
+  private final String[] singulars;
+  private final String[] plurals;
+
+  private CurrencyFormatter(Currency currency, TierBreakdown breakdown) {
+    symbol = currency.symbol();
+    decimalPlaces = currency.decimalPlaces();
+    power = CurrencyUnits.power(decimalPlaces);
+
+    this.breakdown = breakdown;
+    singulars = new String[breakdown.size()];
+    plurals = new String[breakdown.size()];
+    for(int i = 0; i < breakdown.size(); i++) {
+      singulars[i] = breakdown.tier(i).singular();
+      plurals[i] = breakdown.tier(i).plural();
+    }
+  }
+
+  /**
+   * @param currency The {@link Currency} to compile.
+   * @return A formatter for the currency as it is now. Tiers registered afterwards need a new formatter.
+   */
+  public static CurrencyFormatter compile(Currency currency) {
+    return new CurrencyFormatter(currency, TierBreakdown.compile(currency));
+  }
+
+  /**
+   * @param currency The {@link Currency} to compile.
+   * @param major The major tiers of the currency, keyed by weight.
+   * @param minor The minor tiers of the currency, keyed by weight.
+   * @return A formatter for the currency with the specified tiers.
+   */
+  public static CurrencyFormatter compile(Currency currency, NavigableMap<Integer, Tier> major, NavigableMap<Integer, Tier> minor) {
+    return new CurrencyFormatter(currency, TierBreakdown.compile(currency, major, minor));
+  }
+
+  public int decimalPlaces() {
+    return decimalPlaces;
+  }
+
+  /**
+   * @return The {@link TierBreakdown} compiled alongside this formatter.
+   */
+  public TierBreakdown breakdown() {
+    return breakdown;
+  }
+
+  /**
+   * @param amount The amount to format.
+   * @return The symbol followed by the amount at the currency's scale, e.g. {@code $12.34}.
+   */
+  public String format(BigDecimal amount) {
+    StringBuilder builder = BUILDER.get();
+    builder.setLength(0);
+    return format(amount, builder).toString();
+  }
+
+  /**
+   * Appends the formatted amount, see {@link #format(BigDecimal)}.
+   * @param amount The amount to format.
+   * @param builder The {@link StringBuilder} to append to.
+   * @return The builder.
+   */
+  public StringBuilder format(BigDecimal amount, StringBuilder builder) {
+    long minor = minor(amount);
+    if(minor == Long.MIN_VALUE) {
+      return builder.append(symbol).append(amount.setScale(decimalPlaces, RoundingMode.HALF_UP).toPlainString());
+    }
+    return formatMinor(minor, builder);
+  }
+
+  /**
+   * Appends an amount given in minor units, e.g. 1234 with two decimal places is appended as {@code $12.34}.
+   * @param minor The amount in minor units.
+   * @param builder The {@link StringBuilder} to append to.
+   * @return The builder.
+   */
+  public StringBuilder formatMinor(long minor, StringBuilder builder) {
+    builder.append(symbol);
+    if(minor < 0) {
+      builder.append('-');
+      minor = -minor;
+    }
+    builder.append(minor / power);
+    if(decimalPlaces > 0) {
+      builder.append('.');
+      long fraction = minor % power;
+      for(long digit = power / 10; digit > fraction && digit > 1; digit /= 10) {
+        builder.append('0');
+      }
+      builder.append(fraction);
+    }
+    return builder;
+  }
+
+  /**
+   * Formats an amount by the currency's tiers, e.g. {@code 2 Gold, 1 Silver}. Any remainder lighter than the lightest
+   * tier is dropped. Currencies without tiers are formatted by {@link #format(BigDecimal)}.
+   * @param amount The amount to format.
+   * @return The formatted amount.
+   */
+  public String formatTiers(BigDecimal amount) {
+    long minor = minor(amount);
+    if(breakdown.size() == 0 || minor == Long.MIN_VALUE) {
+      return format(amount);
+    }
+
+    long[] counts = COUNTS.get();
+    if(counts.length < breakdown.size()) {
+      counts = new long[breakdown.size()];
+      COUNTS.set(counts);
+    }
+    breakdown.split(minor, counts);
+
+    StringBuilder builder = BUILDER.get();
+    builder.setLength(0);
+    if(minor < 0) {
+      builder.append('-');
+    }
+    final int start = builder.length();
+
+    for(int i = 0; i < breakdown.size(); i++) {
+      if(counts[i] > 0) {
+        if(builder.length() > start) {
+          builder.append(", ");
+        }
+        builder.append(counts[i]).append(' ').append((counts[i] == 1)? singulars[i] : plurals[i]);
+      }
+    }
+
+    if(builder.length() == start) {
+      builder.setLength(0);
+      builder.append(0).append(' ').append(plurals[breakdown.size() - 1]);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @return The amount in minor units, or {@link Long#MIN_VALUE} if it doesn't fit into a long.
+   */
+  private long minor(BigDecimal amount) {
+    BigDecimal scaled = (amount.scale() == decimalPlaces)? amount : amount.setScale(decimalPlaces, RoundingMode.HALF_UP);
+    if(scaled.precision() > 18) {
+      return Long.MIN_VALUE;
+    }
+    return scaled.unscaledValue().longValue();
+  }
+}
@@ -0,0 +1,341 @@
+package net.tnemc.core.economy.currency;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Holds the currencies of an economy, globally and per world. Lookups are case-insensitive and read an immutable
+ * snapshot, so they never lock. Registrations copy the snapshot and publish the copy.
+ */
+public class CurrencyRegistry {
+
+  private volatile Snapshot snapshot;
+
+  public CurrencyRegistry(Currency defaultCurrency) {
+    snapshot = new Snapshot(defaultCurrency).withCurrency(null, defaultCurrency);
+  }
+
+  /**
+   * Registers a currency for every world.
+   * @param currency The {@link Currency} to register.
+   * @return True if the {@link Currency} was registered, false if one with the same name already exists.
+   */
+  public synchronized boolean register(Currency currency) {
+    return register(currency, null);
+  }
+
+  /**
+   * Registers a currency for a single world.
+   * @param currency The {@link Currency} to register.
+   * @param world The name of the world, or null to register it for every world.
+   * @return True if the {@link Currency} was registered, false if one with the same name already exists there.
+   */
+  public synchronized boolean register(Currency currency, String world) {
+    Snapshot current = snapshot;
+    if(current.registered(world).containsKey(key(currency.name()))) {
+      return false;
+    }
+    Snapshot next = current.withCurrency(world, currency);
+    if(world == null && currency.isDefault()) {
+      next.defaultCurrency = currency;
+    }
+    snapshot = next;
+    return true;
+  }
+
+  /**
+   * Registers a tier under a currency. The {@link Currency}'s own tier maps are left untouched, the tier is only added
+   * to the registry's copy of them.
+   * @param tier The {@link Tier} to register.
+   * @param currency The {@link Currency} the {@link Tier} belongs to.
+   * @return Always true, a {@link Tier} with the same weight is replaced.
+   */
+  public synchronized boolean registerTier(Tier tier, Currency currency) {
+    snapshot = snapshot.withTier(currency, tier);
+    return true;
+  }
+
+  public Currency getDefault() {
+    return snapshot.defaultCurrency;
+  }
+
+  /**
+   * @param world The name of the world.
+   * @return The default {@link Currency} registered for the world, or the global default if it has none.
+   */
+  public Currency getDefault(String world) {
+    Currency currency = snapshot.worldDefaults.get(world);
+    return (currency != null)? currency : snapshot.defaultCurrency;
+  }
+
+  /**
+   * @param name The name of the currency, in any case.
+   * @return The global {@link Currency} with this name, or null if there isn't one.
+   */
+  public Currency get(String name) {
+    return find(snapshot.global, name);
+  }
+
+  /**
+   * @param name The name of the currency, in any case.
+   * @param world The name of the world.
+   * @return The {@link Currency} registered for the world with this name, falling back to the global currencies.
+   */
+  public Currency get(String name, String world) {
+    Snapshot current = snapshot;
+    Map<String, Currency> registered = current.worlds.get(world);
+    if(registered != null) {
+      Currency currency = find(registered, name);
+      if(currency != null) {
+        return currency;
+      }
+    }
+    return find(current.global, name);
+  }
+
+  public boolean contains(String name) {
+    return get(name) != null;
+  }
+
+  public boolean contains(String name, String world) {
+    return get(name, world) != null;
+  }
+
+  /**
+   * @return An immutable view of the global currencies.
+   */
+  public Set<Currency> currencies() {
+    return snapshot.globalSet;
+  }
+
+  /**
+   * @param world The name of the world.
+   * @return The global currencies together with those registered for the world.
+   */
+  public Set<Currency> currencies(String world) {
+    Snapshot current = snapshot;
+    Map<String, Currency> registered = current.worlds.get(world);
+    if(registered == null) {
+      return current.globalSet;
+    }
+    Set<Currency> found = new HashSet<>(current.globalSet);
+    found.addAll(registered.values());
+    return found;
+  }
+
+  /**
+   * @param currency The {@link Currency} to format.
+   * @return The {@link CurrencyFormatter} compiled when the currency or its last tier was registered. Currencies that
+   * aren't registered are compiled on each call.
+   */
+  public CurrencyFormatter formatter(Currency currency) {
+    CurrencyFormatter formatter = snapshot.formatters.get(currency);
+    return (formatter != null)? formatter : CurrencyFormatter.compile(currency);
+  }
+
+  /**
+   * @param currency The {@link Currency} to split amounts of.
+   * @return The {@link TierBreakdown} compiled alongside the currency's {@link CurrencyFormatter}.
+   */
+  public TierBreakdown breakdown(Currency currency) {
+    return formatter(currency).breakdown();
+  }
+
+  /**
+   * @param currency The {@link Currency} the tiers belong to.
+   * @return The major and minor tiers of the currency, including those registered through
+   * {@link #registerTier(Tier, Currency)}. Currencies that aren't registered report their own tiers.
+   */
+  public Set<Tier> tiers(Currency currency) {
+    Tiers registered = snapshot.tierSets.get(currency);
+    Set<Tier> tiers = new HashSet<>((registered != null)? registered.major.values() : currency.getMajorTiers().values());
+    tiers.addAll((registered != null)? registered.minor.values() : currency.getMinorTiers().values());
+    return tiers;
+  }
+
+  /**
+   * @param name The singular or plural name of the tier, in any case.
+   * @param currency The {@link Currency} the {@link Tier} belongs to.
+   * @return True if the currency has a tier with this name.
+   */
+  public boolean hasTier(String name, Currency currency) {
+    Map<String, Tier> tiers = snapshot.tiers.get(currency);
+    return tiers != null && find(tiers, name) != null;
+  }
+
+  private static <T> T find(Map<String, T> index, String name) {
+    //Names are indexed as registered and in lower case, so canonical names never allocate a lower case copy.
+    T found = index.get(name);
+    return (found != null)? found : index.get(key(name));
+  }
+
+  private static String key(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  private static <T> void indexName(Map<String, T> index, String name, T value) {
+    index.put(name, value);
+    index.put(key(name), value);
+  }
+
+  /**
+   * The tiers of a registered currency, copied from the {@link Currency} when it was registered.
+   */
+  private static class Tiers {
+    private final NavigableMap<Integer, Tier> major;
+    private final NavigableMap<Integer, Tier> minor;
+
+    Tiers(NavigableMap<Integer, Tier> major, NavigableMap<Integer, Tier> minor) {
+      this.major = Collections.unmodifiableNavigableMap(new TreeMap<>(major));
+      this.minor = Collections.unmodifiableNavigableMap(new TreeMap<>(minor));
+    }
+
+    Tiers with(Tier tier) {
+      NavigableMap<Integer, Tier> major = this.major;
+      NavigableMap<Integer, Tier> minor = this.minor;
+      if(tier.isMajor()) {
+        major = new TreeMap<>(major);
+        major.put(tier.weight(), tier);
+      } else {
+        minor = new TreeMap<>(minor);
+        minor.put(tier.weight(), tier);
+      }
+      return new Tiers(major, minor);
+    }
+  }
+
+  /**
+   * An immutable view of the registry. Each registration replaces the maps it changes and shares the rest.
+   */
+  private static class Snapshot {
+    private Currency defaultCurrency;
+    private Map<String, Currency> global = Collections.emptyMap();
+    private Set<Currency> globalSet = Collections.emptySet();
+    private Map<String, Map<String, Currency>> worlds = Collections.emptyMap();
+    private Map<String, Currency> worldDefaults = Collections.emptyMap();
+    private Map<Currency, Map<String, Tier>> tiers = Collections.emptyMap();
+    private Map<Currency, Tiers> tierSets = Collections.emptyMap();
+    private Map<Currency, CurrencyFormatter> formatters = Collections.emptyMap();
+
+    Snapshot(Currency defaultCurrency) {
+      this.defaultCurrency = defaultCurrency;
+    }
+
+    private Snapshot copy() {
+      Snapshot copy = new Snapshot(defaultCurrency);
+      copy.global = global;
+      copy.globalSet = globalSet;
+      copy.worlds = worlds;
+      copy.worldDefaults = worldDefaults;
+      copy.tiers = tiers;
+      copy.tierSets = tierSets;
+      copy.formatters = formatters;
+      return copy;
+    }
+
+    Map<String, Currency> registered(String world) {
+      if(world == null) {
+        return global;
+      }
+      Map<String, Currency> registered = worlds.get(world);
+      return (registered != null)? registered : Collections.emptyMap();
+    }
+
+    Snapshot withCurrency(String world, Currency currency) {
+      Snapshot next = copy();
+      Map<String, Currency> registered = new HashMap<>(registered(world));
+      indexName(registered, currency.name(), currency);
+
+      if(world == null) {
+        next.global = Collections.unmodifiableMap(registered);
+        Set<Currency> set = new HashSet<>(globalSet);
+        set.add(currency);
+        next.globalSet = Collections.unmodifiableSet(set);
+      } else {
+        Map<String, Map<String, Currency>> worldMap = new HashMap<>(worlds);
+        worldMap.put(world, Collections.unmodifiableMap(registered));
+        next.worlds = Collections.unmodifiableMap(worldMap);
+
+        if(currency.isDefault() && !worldDefaults.containsKey(world)) {
+          Map<String, Currency> defaults = new HashMap<>(worldDefaults);
+          defaults.put(world, currency);
+          next.worldDefaults = Collections.unmodifiableMap(defaults);
+        }
+      }
+
+      Tiers currencyTiers = tierSets.get(currency);
+      if(currencyTiers == null) {
+        currencyTiers = new Tiers(currency.getMajorTiers(), currency.getMinorTiers());
+      }
+      Map<String, Tier> names = new HashMap<>();
+      for(Tier tier : currencyTiers.major.values()) {
+        indexName(names, tier.singular(), tier);
+        indexName(names, tier.plural(), tier);
+      }
+      for(Tier tier : currencyTiers.minor.values()) {
+        indexName(names, tier.singular(), tier);
+        indexName(names, tier.plural(), tier);
+      }
+      Map<Currency, Map<String, Tier>> tierMap = new HashMap<>(tiers);
+      tierMap.put(currency, Collections.unmodifiableMap(names));
+      next.tiers = Collections.unmodifiableMap(tierMap);
+      next.withTiers(currency, currencyTiers);
+      return next;
+    }
+
+    private void withTiers(Currency currency, Tiers currencyTiers) {
+      Map<Currency, Tiers> tierSetMap = new HashMap<>(tierSets);
+      tierSetMap.put(currency, currencyTiers);
+      tierSets = Collections.unmodifiableMap(tierSetMap);
+
+      Map<Currency, CurrencyFormatter> formatterMap = new HashMap<>(formatters);
+      formatterMap.put(currency, CurrencyFormatter.compile(currency, currencyTiers.major, currencyTiers.minor));
+      formatters = Collections.unmodifiableMap(formatterMap);
+    }
+
+    Snapshot withTier(Currency currency, Tier tier) {
+      Snapshot next = copy();
+      Map<String, Tier> existing = tiers.get(currency);
+      Map<String, Tier> currencyTiers = (existing != null)? new HashMap<>(existing) : new HashMap<>();
+      indexName(currencyTiers, tier.singular(), tier);
+      indexName(currencyTiers, tier.plural(), tier);
+
+      Map<Currency, Map<String, Tier>> tierMap = new HashMap<>(tiers);
+      tierMap.put(currency, Collections.unmodifiableMap(currencyTiers));
+      next.tiers = Collections.unmodifiableMap(tierMap);
+
+      Tiers existingSet = tierSets.get(currency);
+      if(existingSet == null) {
+        existingSet = new Tiers(currency.getMajorTiers(), currency.getMinorTiers());
+      }
+      next.withTiers(currency, existingSet.with(tier));
+      return next;
+    }
+  }
+}
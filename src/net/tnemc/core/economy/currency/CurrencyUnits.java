@@ -0,0 +1,115 @@
+package net.tnemc.core.economy.currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public final class CurrencyUnits {
+
+  /**
+   * Powers of ten that fit into a long, indexed by exponent.
+   */
+  private static final long[] POWERS = new long[19];
+
+  /**
+   * 2^50, the largest scaled amount converted without going through its decimal form.
+   */
+  private static final double FAST_LIMIT = 1L << 50;
+
+  static {
+    POWERS[0] = 1L;
+    for(int i = 1; i < POWERS.length; i++) {
+      POWERS[i] = POWERS[i - 1] * 10L;
+    }
+  }
+
+  private CurrencyUnits() {
+  }
+
+  /**
+   * @param decimalPlaces The number of decimal places, between 0 and 18.
+   * @return Ten raised to the specified number of decimal places.
+   */
+  public static long power(int decimalPlaces) {
+    return POWERS[decimalPlaces];
+  }
+
+  /**
+   * Converts a double into a {@link BigDecimal} rounded half up to the specified number of decimal places, e.g. 1.005
+   * becomes 1.01 with two decimal places. Unlike {@code new BigDecimal(amount + "")} this doesn't build or parse a
+   * string, and amounts that already fit the decimal places, which are the common case, only allocate the resulting
+   * {@link BigDecimal}.
+   * @param amount The amount to convert.
+   * @param decimalPlaces The number of decimal places to keep, usually {@link Currency#decimalPlaces()}. A negative
+   * value keeps the amount's full precision.
+   * @return The converted amount.
+   */
+  public static BigDecimal toBigDecimal(double amount, int decimalPlaces) {
+    if(decimalPlaces < 0) {
+      return BigDecimal.valueOf(amount);
+    }
+
+    if(decimalPlaces < POWERS.length) {
+      //Only exact amounts take the fast path, everything else is rounded from its decimal form like BigDecimal#valueOf
+      //does. Below FAST_LIMIT a double is precise enough that the scaled amount can't be mistaken for its neighbours.
+      double scaled = amount * POWERS[decimalPlaces];
+      if(Math.abs(scaled) < FAST_LIMIT && scaled == Math.rint(scaled) && scaled / POWERS[decimalPlaces] == amount) {
+        return BigDecimal.valueOf((long)scaled, decimalPlaces);
+      }
+    }
+    return BigDecimal.valueOf(amount).setScale(decimalPlaces, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Converts an amount into minor units, e.g. 12.34 with two decimal places becomes 1234.
+   * @param amount The amount to convert.
+   * @param decimalPlaces The number of decimal places of the currency, usually {@link Currency#decimalPlaces()}.
+   * @return The amount in minor units, rounded half up.
+   * @throws ArithmeticException If the amount doesn't fit into a long once scaled.
+   */
+  public static long toMinor(BigDecimal amount, int decimalPlaces) {
+    return amount.setScale(decimalPlaces, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  /**
+   * Converts an amount into minor units without rounding. Amounts that are finer than the currency's smallest unit,
+   * such as 0.005 with two decimal places, can't be applied to a balance without creating or destroying funds.
+   * @param amount The amount to convert.
+   * @param decimalPlaces The number of decimal places of the currency, usually {@link Currency#decimalPlaces()}.
+   * @return The amount in minor units.
+   * @throws ArithmeticException If the amount has more decimal places than the currency, or doesn't fit into a long
+   * once scaled.
+   */
+  public static long toMinorExact(BigDecimal amount, int decimalPlaces) {
+    return amount.setScale(decimalPlaces, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+  }
+
+  /**
+   * Converts minor units back into an amount, e.g. 1234 with two decimal places becomes 12.34.
+   * @param minor The amount in minor units.
+   * @param decimalPlaces The number of decimal places of the currency, usually {@link Currency#decimalPlaces()}.
+   * @return The amount as a {@link BigDecimal} with the currency's scale.
+   */
+  public static BigDecimal fromMinor(long minor, int decimalPlaces) {
+    return BigDecimal.valueOf(minor, decimalPlaces);
+  }
+}
@@ -0,0 +1,77 @@
+package net.tnemc.core.economy.currency;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public final class ImmutableCurrencyEntry extends CurrencyEntry {
+
+  /**
+   * World names are interned, so the entries of a world share one {@link String} and compare by reference first.
+   */
+  private static final Map<String, String> worlds = new ConcurrentHashMap<>();
+
+  public ImmutableCurrencyEntry(String world, Currency currency, BigDecimal amount) {
+    super(intern(world), currency, amount);
+  }
+
+  /**
+   * @param world The name of a world.
+   * @return The shared instance of the world's name.
+   */
+  public static String intern(String world) {
+    if(world == null) {
+      return null;
+    }
+    String existing = worlds.putIfAbsent(world, world);
+    return (existing != null)? existing : world;
+  }
+
+  @Override
+  public void setWorld(String world) {
+    throw new UnsupportedOperationException("ImmutableCurrencyEntry can't be modified.");
+  }
+
+  @Override
+  public void setCurrency(Currency currency) {
+    throw new UnsupportedOperationException("ImmutableCurrencyEntry can't be modified.");
+  }
+
+  @Override
+  public void setAmount(BigDecimal amount) {
+    throw new UnsupportedOperationException("ImmutableCurrencyEntry can't be modified.");
+  }
+
+  /**
+   * @return This entry, since it can't change.
+   */
+  @Override
+  public CurrencyEntry copy() {
+    return this;
+  }
+
+  @Override
+  public CurrencyEntry copy(BigDecimal newAmount) {
+    return new ImmutableCurrencyEntry(world, currency, newAmount);
+  }
+}
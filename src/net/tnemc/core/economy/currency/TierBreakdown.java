@@ -0,0 +1,163 @@
+package net.tnemc.core.economy.currency;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Splits amounts into counts of a currency's tiers, heaviest tier first. The tier weights are converted into minor
+ * units once, so each breakdown is a handful of long divisions. Breakdowns are immutable and safe to share, and are
+ * usually obtained from {@link CurrencyRegistry#breakdown(Currency)}.
+ */
+public final class TierBreakdown {
+
+  private final int decimalPlaces;
+
+  /**
+   * Tier weights in minor units and their tiers, ordered from the heaviest tier to the lightest.
+   */
+  private final long[] weights;
+  private final Tier[] tiers;
+
+  private TierBreakdown(int decimalPlaces, NavigableMap<Integer, Tier> major, NavigableMap<Integer, Tier> minor) {
+    this.decimalPlaces = decimalPlaces;
+    long power = CurrencyUnits.power(decimalPlaces);
+
+    weights = new long[major.size() + minor.size()];
+    tiers = new Tier[weights.length];
+
+    int i = 0;
+    for(Map.Entry<Integer, Tier> entry : major.descendingMap().entrySet()) {
+      weights[i] = entry.getKey() * power;
+      tiers[i++] = entry.getValue();
+    }
+    for(Map.Entry<Integer, Tier> entry : minor.descendingMap().entrySet()) {
+      weights[i] = entry.getKey();
+      tiers[i++] = entry.getValue();
+    }
+  }
+
+  /**
+   * @param currency The {@link Currency} to compile.
+   * @return A breakdown for the currency as it is now. Tiers registered afterwards need a new breakdown.
+   */
+  public static TierBreakdown compile(Currency currency) {
+    return compile(currency, currency.getMajorTiers(), currency.getMinorTiers());
+  }
+
+  /**
+   * @param currency The {@link Currency} to compile.
+   * @param major The major tiers of the currency, keyed by weight.
+   * @param minor The minor tiers of the currency, keyed by weight.
+   * @return A breakdown for the currency with the specified tiers.
+   */
+  public static TierBreakdown compile(Currency currency, NavigableMap<Integer, Tier> major, NavigableMap<Integer, Tier> minor) {
+    return new TierBreakdown(currency.decimalPlaces(), major, minor);
+  }
+
+  /**
+   * @return The number of tiers, which is the length of the arrays {@link #split(long, long[])} fills.
+   */
+  public int size() {
+    return tiers.length;
+  }
+
+  /**
+   * @param index The index of the tier, heaviest first.
+   * @return The {@link Tier} at the index.
+   */
+  public Tier tier(int index) {
+    return tiers[index];
+  }
+
+  /**
+   * @param index The index of the tier, heaviest first.
+   * @return The weight of the tier at the index in minor units.
+   */
+  public long weight(int index) {
+    return weights[index];
+  }
+
+  /**
+   * Splits an amount given in minor units into tier counts without allocating.
+   * @param minor The amount in minor units. Negative amounts are split by their absolute value.
+   * @param counts The array that receives the count of each tier, heaviest first. It must hold at least
+   * {@link #size()} elements.
+   * @return The remainder in minor units that is lighter than the lightest tier.
+   */
+  public long split(long minor, long[] counts) {
+    long remaining = Math.abs(minor);
+    for(int i = 0; i < weights.length; i++) {
+      if(weights[i] <= 0) {
+        counts[i] = 0;
+        continue;
+      }
+      counts[i] = remaining / weights[i];
+      remaining -= counts[i] * weights[i];
+    }
+    return remaining;
+  }
+
+  /**
+   * Splits an amount into tier counts.
+   * @param amount The amount to split, rounded to the currency's decimal places.
+   * @param counts The array that receives the count of each tier, heaviest first.
+   * @return The remainder in minor units that is lighter than the lightest tier.
+   * @throws ArithmeticException If the amount doesn't fit into a long once converted into minor units.
+   */
+  public long split(BigDecimal amount, long[] counts) {
+    return split(CurrencyUnits.toMinor(amount, decimalPlaces), counts);
+  }
+
+  /**
+   * @param amount The amount to split.
+   * @return The tiers with a count above zero, heaviest first. Any remainder lighter than the lightest tier is
+   * dropped.
+   */
+  public Map<Tier, Long> split(BigDecimal amount) {
+    long[] counts = new long[tiers.length];
+    split(amount, counts);
+
+    Map<Tier, Long> split = new LinkedHashMap<>();
+    for(int i = 0; i < counts.length; i++) {
+      if(counts[i] > 0) {
+        split.put(tiers[i], counts[i]);
+      }
+    }
+    return Collections.unmodifiableMap(split);
+  }
+
+  /**
+   * @param counts The count of each tier, heaviest first.
+   * @return The total amount the counts are worth.
+   */
+  public BigDecimal total(long[] counts) {
+    long minor = 0;
+    for(int i = 0; i < tiers.length; i++) {
+      minor = Math.addExact(minor, Math.multiplyExact(counts[i], weights[i]));
+    }
+    return CurrencyUnits.fromMinor(minor, decimalPlaces);
+  }
+}
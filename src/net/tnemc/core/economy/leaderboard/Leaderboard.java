@@ -0,0 +1,252 @@
+package net.tnemc.core.economy.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * The balances of a single world and currency, ordered from highest to lowest. Balances are kept in a treap whose
+ * nodes count the size of their subtree, so updates, rank lookups and finding the start of a page are all O(log n)
+ * and nothing is ever re-sorted. Ties are broken by account {@link UUID}, so every account has a distinct rank.
+ */
+public class Leaderboard {
+
+  private final Map<UUID, Node> nodes = new HashMap<>();
+  private Node root;
+
+  /**
+   * Sets the balance of an account, adding it to the leaderboard if needed.
+   * @param account The {@link UUID} of the account.
+   * @param minor The balance in minor units.
+   */
+  public synchronized void update(UUID account, long minor) {
+    Node node = nodes.get(account);
+    if(node != null) {
+      if(node.minor == minor) return;
+      root = remove(root, node);
+    }
+    node = new Node(account, minor);
+    nodes.put(account, node);
+    root = insert(root, node);
+  }
+
+  /**
+   * @param account The {@link UUID} of the account.
+   * @return True if the account was on the leaderboard.
+   */
+  public synchronized boolean remove(UUID account) {
+    Node node = nodes.remove(account);
+    if(node == null) return false;
+
+    root = remove(root, node);
+    return true;
+  }
+
+  public synchronized void clear() {
+    nodes.clear();
+    root = null;
+  }
+
+  public synchronized int size() {
+    return size(root);
+  }
+
+  /**
+   * @param account The {@link UUID} of the account.
+   * @return The rank of the account, starting at 1 for the highest balance, or 0 if it isn't on the leaderboard.
+   */
+  public synchronized int rank(UUID account) {
+    Node node = nodes.get(account);
+    if(node == null) return 0;
+
+    int rank = 0;
+    Node current = root;
+    while(current != null) {
+      int compare = compare(node, current);
+      if(compare < 0) {
+        current = current.left;
+      } else {
+        rank += size(current.left) + 1;
+        if(compare == 0) break;
+        current = current.right;
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * @param account The {@link UUID} of the account.
+   * @return The leaderboard entry of the account, or null if it isn't on the leaderboard.
+   */
+  public synchronized LeaderboardEntry entry(UUID account) {
+    Node node = nodes.get(account);
+    return (node == null)? null : new LeaderboardEntry(account, rank(account), node.minor);
+  }
+
+  /**
+   * @param limit The maximum number of entries to return.
+   * @return The entries with the highest balances, highest first.
+   */
+  public List<LeaderboardEntry> top(int limit) {
+    return page(0, limit);
+  }
+
+  /**
+   * @param offset The number of entries to skip, e.g. the entries of previous pages.
+   * @param limit The maximum number of entries to return.
+   * @return Up to limit entries starting at rank offset + 1, highest first.
+   */
+  public synchronized List<LeaderboardEntry> page(int offset, int limit) {
+    List<LeaderboardEntry> page = new ArrayList<>(Math.max(0, Math.min(limit, size(root) - offset)));
+    if(limit > 0 && offset >= 0) {
+      collect(root, offset, offset, limit, page);
+    }
+    return page;
+  }
+
+  /**
+   * Collects entries in order, skipping whole subtrees that come before the page.
+   * @param node The root of the subtree to collect from.
+   * @param skip The number of entries of this subtree to skip.
+   * @param offset The number of entries ranked before the page.
+   */
+  private static void collect(Node node, int skip, int offset, int limit, List<LeaderboardEntry> page) {
+    while(node != null && page.size() < limit) {
+      int left = size(node.left);
+      if(skip < left) {
+        collect(node.left, skip, offset, limit, page);
+        skip = 0;
+      } else {
+        skip -= left;
+      }
+      if(page.size() >= limit) return;
+
+      if(skip == 0) {
+        page.add(new LeaderboardEntry(node.account, offset + page.size() + 1, node.minor));
+      } else {
+        skip--;
+      }
+      node = node.right;
+    }
+  }
+
+  /**
+   * Orders nodes by balance, highest first, then by account.
+   */
+  private static int compare(Node a, Node b) {
+    int compare = Long.compare(b.minor, a.minor);
+    return (compare != 0)? compare : a.account.compareTo(b.account);
+  }
+
+  private static int size(Node node) {
+    return (node == null)? 0 : node.size;
+  }
+
+  private static Node insert(Node root, Node node) {
+    if(root == null) return node;
+
+    if(node.priority > root.priority) {
+      Node[] split = split(root, node);
+      node.left = split[0];
+      node.right = split[1];
+      return node.resize();
+    }
+    if(compare(node, root) < 0) {
+      root.left = insert(root.left, node);
+    } else {
+      root.right = insert(root.right, node);
+    }
+    return root.resize();
+  }
+
+  private static Node remove(Node root, Node node) {
+    if(root == null) return null;
+
+    int compare = compare(node, root);
+    if(compare == 0) {
+      return merge(root.left, root.right);
+    }
+    if(compare < 0) {
+      root.left = remove(root.left, node);
+    } else {
+      root.right = remove(root.right, node);
+    }
+    return root.resize();
+  }
+
+  /**
+   * Splits a subtree into the nodes ordered before key, and the nodes ordered after it.
+   */
+  private static Node[] split(Node root, Node key) {
+    if(root == null) return new Node[] { null, null };
+
+    if(compare(root, key) < 0) {
+      Node[] split = split(root.right, key);
+      root.right = split[0];
+      split[0] = root.resize();
+      return split;
+    }
+    Node[] split = split(root.left, key);
+    root.left = split[1];
+    split[1] = root.resize();
+    return split;
+  }
+
+  /**
+   * Merges two subtrees, where every node of left is ordered before every node of right.
+   */
+  private static Node merge(Node left, Node right) {
+    if(left == null) return right;
+    if(right == null) return left;
+
+    if(left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      return left.resize();
+    }
+    right.left = merge(left, right.left);
+    return right.resize();
+  }
+
+  private static class Node {
+    final UUID account;
+    final long minor;
+    final int priority = ThreadLocalRandom.current().nextInt();
+
+    int size = 1;
+    Node left;
+    Node right;
+
+    Node(UUID account, long minor) {
+      this.account = account;
+      this.minor = minor;
+    }
+
+    Node resize() {
+      size = 1 + size(left) + size(right);
+      return this;
+    }
+  }
+}
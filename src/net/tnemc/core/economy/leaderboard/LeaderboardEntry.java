@@ -0,0 +1,69 @@
+package net.tnemc.core.economy.leaderboard;
+
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.CurrencyUnits;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * A single position on a {@link Leaderboard}.
+ */
+public class LeaderboardEntry {
+
+  private final UUID account;
+  private final int rank;
+  private final long minor;
+
+  public LeaderboardEntry(UUID account, int rank, long minor) {
+    this.account = account;
+    this.rank = rank;
+    this.minor = minor;
+  }
+
+  public UUID account() {
+    return account;
+  }
+
+  /**
+   * @return The position of the account, starting at 1 for the highest balance.
+   */
+  public int rank() {
+    return rank;
+  }
+
+  /**
+   * @return The balance in minor units.
+   */
+  public long minor() {
+    return minor;
+  }
+
+  /**
+   * @param currency The currency of the leaderboard this entry is from.
+   * @return The balance in major units of the currency.
+   */
+  public BigDecimal holdings(Currency currency) {
+    return CurrencyUnits.fromMinor(minor, currency.decimalPlaces());
+  }
+}
@@ -0,0 +1,158 @@
+package net.tnemc.core.economy.leaderboard;
+
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.storage.DirtyBalance;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Keeps a {@link Leaderboard} for every world and currency that has balances. Providers publish each balance as it
+ * changes, so baltop style queries never have to scan or sort every account.
+ *
+ * Changed balances are only queued when they are published, which costs a compare-and-set and, the first time, a
+ * lock-free enqueue. The queue is applied to the leaderboards when they are next read, so the threads changing
+ * balances never wait on a leaderboard's lock, and a balance that changes many times between reads is ranked once.
+ */
+public class Leaderboards {
+
+  /**
+   * The leaderboards, keyed by world and then by currency name.
+   */
+  private final Map<String, Map<String, Leaderboard>> boards = new ConcurrentHashMap<>();
+
+  /**
+   * Balances that changed since the leaderboards were last read.
+   */
+  private final Queue<DirtyBalance> pending = new ConcurrentLinkedQueue<>();
+
+  /**
+   * @param world The name of the world.
+   * @param currency The name of the currency.
+   * @return The leaderboard for the world and currency, or null if no balance of it has been published.
+   */
+  public Leaderboard board(String world, String currency) {
+    drain();
+    Map<String, Leaderboard> worldBoards = boards.get(world);
+    return (worldBoards == null)? null : worldBoards.get(currency);
+  }
+
+  private Leaderboard create(String world, String currency) {
+    return boards.computeIfAbsent(world, key -> new ConcurrentHashMap<>())
+                 .computeIfAbsent(currency, key -> new Leaderboard());
+  }
+
+  /**
+   * Publishes a balance.
+   * @param account The {@link UUID} of the account.
+   * @param world The name of the world the balance belongs to.
+   * @param currency The name of the currency the balance is in.
+   * @param minor The balance in minor units.
+   */
+  public void update(UUID account, String world, String currency, long minor) {
+    create(world, currency).update(account, minor);
+  }
+
+  /**
+   * Queues a balance that may change concurrently. It is ranked with its latest value the next time the leaderboards
+   * are read, or removed if it was retired by a deletion in the meantime.
+   * @param balance The balance that changed.
+   */
+  public void update(DirtyBalance balance) {
+    if(balance.markRanking()) {
+      pending.add(balance);
+    }
+  }
+
+  /**
+   * Applies the queued balances. Each balance is marked clean before its value is read, so a change racing the drain
+   * queues it again rather than being missed.
+   */
+  private void drain() {
+    if(pending.isEmpty()) return;
+
+    synchronized(pending) {
+      DirtyBalance balance;
+      while((balance = pending.poll()) != null) {
+        balance.cleanRanking();
+        Leaderboard board = create(balance.world(), balance.currency());
+        if(balance.retired()) {
+          board.remove(balance.account());
+        } else {
+          board.update(balance.account(), balance.minor());
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes an account from every leaderboard.
+   * @param account The {@link UUID} of the account.
+   */
+  public void remove(UUID account) {
+    for(Map<String, Leaderboard> worldBoards : boards.values()) {
+      for(Leaderboard board : worldBoards.values()) {
+        board.remove(account);
+      }
+    }
+  }
+
+  /**
+   * Empties every leaderboard. The leaderboards themselves are kept, so an update racing the clear can't publish to a
+   * leaderboard that was already dropped.
+   */
+  public void clear() {
+    for(Map<String, Leaderboard> worldBoards : boards.values()) {
+      for(Leaderboard board : worldBoards.values()) {
+        board.clear();
+      }
+    }
+  }
+
+  /**
+   * @param world The name of the world.
+   * @param currency The currency.
+   * @param limit The maximum number of entries to return.
+   * @return The entries with the highest balances, highest first.
+   */
+  public List<LeaderboardEntry> top(String world, Currency currency, int limit) {
+    Leaderboard board = board(world, currency.name());
+    return (board == null)? Collections.emptyList() : board.top(limit);
+  }
+
+  /**
+   * @param account The {@link UUID} of the account.
+   * @param world The name of the world.
+   * @param currency The currency.
+   * @return The rank of the account, starting at 1 for the highest balance, or 0 if it isn't ranked.
+   */
+  public int rank(UUID account, String world, Currency currency) {
+    Leaderboard board = board(world, currency.name());
+    return (board == null)? 0 : board.rank(account);
+  }
+}
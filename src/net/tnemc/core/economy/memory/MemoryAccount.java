@@ -0,0 +1,445 @@
+package net.tnemc.core.economy.memory;
+
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.CurrencyUnits;
+import net.tnemc.core.economy.leaderboard.Leaderboards;
+import net.tnemc.core.economy.storage.DirtyBalance;
+import net.tnemc.core.economy.storage.EconomyStorage;
+import net.tnemc.core.economy.storage.WriteBehindFlusher;
+import net.tnemc.core.economy.transaction.charge.ImmutableTransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionChargeType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class MemoryAccount implements Account {
+
+  /**
+   * The balances of this account, keyed by world and then by currency name. Currencies are resolved through the
+   * economy, so their names are already canonical.
+   */
+  private final Map<String, Map<String, Slot>> slots = new ConcurrentHashMap<>();
+
+  private final MemoryEconomy economy;
+  private final UUID identifier;
+  private final String displayName;
+
+  public MemoryAccount(MemoryEconomy economy, UUID identifier, String displayName) {
+    this.economy = economy;
+    this.identifier = identifier;
+    this.displayName = displayName;
+  }
+
+  /**
+   * Finds the slot holding this account's balance for a world and currency. Reads never create a slot, an account
+   * that has no slot yet simply holds the currency's default balance. A null world is the economy's default world.
+   */
+  private Slot slot(String world, Currency currency, boolean create) {
+    final String key = (world != null)? world : economy.defaultWorld();
+    Map<String, Slot> worldSlots = slots.get(key);
+    if(worldSlots == null) {
+      if(!create) {
+        return null;
+      }
+      worldSlots = slots.computeIfAbsent(key, ignore -> new ConcurrentHashMap<>());
+    }
+
+    final String name = currency.name();
+    Slot slot = worldSlots.get(name);
+    if(slot == null && create) {
+      slot = worldSlots.computeIfAbsent(name, ignore -> new Slot(this, key, name, defaultMinor(currency)));
+    }
+    return slot;
+  }
+
+  /**
+   * Publishes a changed balance to the economy's {@link Leaderboards}, and queues it with the economy's
+   * {@link WriteBehindFlusher}, if it has one.
+   */
+  private void changed(Slot slot) {
+    economy.leaderboards().update(slot);
+
+    WriteBehindFlusher flusher = economy.flusher();
+    if(flusher != null) {
+      flusher.mark(slot);
+    }
+  }
+
+  private static long defaultMinor(Currency currency) {
+    return CurrencyUnits.toMinor(currency.defaultBalance(), currency.decimalPlaces());
+  }
+
+  /**
+   * Balances are kept in minor units, so amounts finer than the currency's smallest unit are rejected rather than
+   * rounded. Rounding them would create or destroy funds.
+   */
+  private static boolean exact(BigDecimal amount, Currency currency) {
+    try {
+      CurrencyUnits.toMinorExact(amount, currency.decimalPlaces());
+      return true;
+    } catch(ArithmeticException e) {
+      return false;
+    }
+  }
+
+  private Currency currency(Currency currency, String world) {
+    return (currency != null)? currency : economy.getDefault(world);
+  }
+
+  @Override
+  public UUID identifier() {
+    return identifier;
+  }
+
+  @Override
+  public String displayName() {
+    return displayName;
+  }
+
+  @Override
+  public boolean playerAccount() {
+    return true;
+  }
+
+  @Override
+  public boolean isAccessor(Account account) {
+    return account != null && identifier.equals(account.identifier());
+  }
+
+  @Override
+  public boolean canWithdraw(Account account) {
+    return isAccessor(account);
+  }
+
+  @Override
+  public boolean canDeposit(Account account) {
+    return isAccessor(account);
+  }
+
+  @Override
+  public boolean canRemoveAccessor(Account account) {
+    return false;
+  }
+
+  @Override
+  public boolean canAddAccessor(Account account) {
+    return false;
+  }
+
+  @Override
+  public BigDecimal getHoldings() {
+    return getHoldings(economy.defaultWorld(), null);
+  }
+
+  @Override
+  public BigDecimal getHoldings(String world) {
+    return getHoldings(world, null);
+  }
+
+  @Override
+  public BigDecimal getHoldings(String world, Currency currency) {
+    currency = currency(currency, world);
+    Slot slot = slot(world, currency, false);
+    return (slot != null)? CurrencyUnits.fromMinor(slot.minor, currency.decimalPlaces()) : currency.defaultBalance();
+  }
+
+  @Override
+  public BigDecimal getHoldings(Currency currency) {
+    return getHoldings(economy.defaultWorld(), currency);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount) {
+    return hasHoldings(amount, null, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, String world) {
+    return hasHoldings(amount, null, world);
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, Currency currency) {
+    return hasHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean hasHoldings(BigDecimal amount, Currency currency, String world) {
+    return getHoldings(world, currency).compareTo(amount) >= 0;
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount) {
+    return setHoldings(amount, null, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, String world) {
+    return setHoldings(amount, null, world);
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, Currency currency) {
+    return setHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean setHoldings(BigDecimal amount, Currency currency, String world) {
+    currency = currency(currency, world);
+    try {
+      return setHoldingsMinor(CurrencyUnits.toMinorExact(amount, currency.decimalPlaces()), currency, world);
+    } catch(ArithmeticException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount) {
+    return addHoldings(amount, null, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, String world) {
+    return addHoldings(amount, null, world);
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, Currency currency) {
+    return addHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean addHoldings(BigDecimal amount, Currency currency, String world) {
+    currency = currency(currency, world);
+    try {
+      return addHoldingsMinor(CurrencyUnits.toMinorExact(amount, currency.decimalPlaces()), currency, world);
+    } catch(ArithmeticException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount) {
+    return canAddHoldings(amount, null, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, String world) {
+    return canAddHoldings(amount, null, world);
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, Currency currency) {
+    return canAddHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean canAddHoldings(BigDecimal amount, Currency currency, String world) {
+    return exact(amount, currency(currency, world));
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount) {
+    return removeHoldings(amount, null, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, String world) {
+    return removeHoldings(amount, null, world);
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, Currency currency) {
+    return removeHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean removeHoldings(BigDecimal amount, Currency currency, String world) {
+    currency = currency(currency, world);
+    try {
+      return removeHoldingsMinor(CurrencyUnits.toMinorExact(amount, currency.decimalPlaces()), currency, world);
+    } catch(ArithmeticException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount) {
+    return canRemoveHoldings(amount, null, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, String world) {
+    return canRemoveHoldings(amount, null, world);
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, Currency currency) {
+    return canRemoveHoldings(amount, currency, economy.defaultWorld());
+  }
+
+  @Override
+  public boolean canRemoveHoldings(BigDecimal amount, Currency currency, String world) {
+    return exact(amount, currency(currency, world)) && hasHoldings(amount, currency, world);
+  }
+
+  @Override
+  public long getHoldingsMinor(Currency currency, String world) {
+    currency = currency(currency, world);
+    Slot slot = slot(world, currency, false);
+    return (slot != null)? slot.minor : defaultMinor(currency);
+  }
+
+  @Override
+  public boolean hasHoldingsMinor(long amount, Currency currency, String world) {
+    return getHoldingsMinor(currency, world) >= amount;
+  }
+
+  @Override
+  public boolean setHoldingsMinor(long amount, Currency currency, String world) {
+    Slot slot = slot(world, currency(currency, world), true);
+    slot.minor = amount;
+    changed(slot);
+    return true;
+  }
+
+  @Override
+  public boolean addHoldingsMinor(long amount, Currency currency, String world) {
+    Slot slot = slot(world, currency(currency, world), true);
+    while(true) {
+      long current = slot.minor;
+      long updated = current + amount;
+      //Overflow occurred if both operands have a different sign than the result.
+      if(((current ^ updated) & (amount ^ updated)) < 0) {
+        return false;
+      }
+      if(Slot.MINOR.compareAndSet(slot, current, updated)) {
+        changed(slot);
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public boolean removeHoldingsMinor(long amount, Currency currency, String world) {
+    Slot slot = slot(world, currency(currency, world), true);
+    while(true) {
+      long current = slot.minor;
+      if(current < amount) {
+        return false;
+      }
+      if(Slot.MINOR.compareAndSet(slot, current, current - amount)) {
+        changed(slot);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Checks and applies the charge in a single compare-and-set, so no other update can slip in between the two.
+   */
+  @Override
+  public boolean tryCharge(TransactionCharge charge) {
+    Currency currency = currency(charge.getCurrency(), charge.getWorld());
+    long amount;
+    if(charge instanceof ImmutableTransactionCharge && charge.getCurrency() != null
+       && ((ImmutableTransactionCharge)charge).hasMinor()) {
+      //Immutable charges convert their amount once, so charging them doesn't allocate.
+      amount = ((ImmutableTransactionCharge)charge).minor();
+    } else {
+      try {
+        amount = CurrencyUnits.toMinorExact(charge.getAmount(), currency.decimalPlaces());
+      } catch(ArithmeticException e) {
+        return false;
+      }
+    }
+
+    if(charge.getType().equals(TransactionChargeType.LOSE)) {
+      return removeHoldingsMinor(amount, currency, charge.getWorld());
+    }
+    return addHoldingsMinor(amount, currency, charge.getWorld());
+  }
+
+  /**
+   * Writes every balance of this account to a storage.
+   * @param storage The {@link EconomyStorage} to write to.
+   * @throws IOException If a balance can't be written.
+   */
+  void save(EconomyStorage storage) throws IOException {
+    storage.create(identifier, displayName);
+    for(Map.Entry<String, Map<String, Slot>> world : slots.entrySet()) {
+      for(Map.Entry<String, Slot> currency : world.getValue().entrySet()) {
+        storage.write(identifier, displayName, world.getKey(), currency.getKey(), currency.getValue().minor);
+      }
+    }
+  }
+
+  /**
+   * Stops every balance of this account from being written by the {@link WriteBehindFlusher} or published to the
+   * {@link Leaderboards}, once the account has been deleted.
+   */
+  void retire() {
+    for(Map<String, Slot> world : slots.values()) {
+      for(Slot slot : world.values()) {
+        slot.retire();
+      }
+    }
+  }
+
+  /**
+   * Sets a balance that was loaded from storage. The currency doesn't need to be registered yet.
+   * @param world The name of the world the balance belongs to.
+   * @param currency The name of the currency the balance is in.
+   * @param minor The balance in minor units.
+   */
+  void restore(String world, String currency, long minor) {
+    slots.computeIfAbsent(world, key -> new ConcurrentHashMap<>()).put(currency, new Slot(this, world, currency, minor));
+    economy.leaderboards().update(identifier, world, currency, minor);
+  }
+
+  /**
+   * A single balance in minor units of its currency. Updates are compare-and-set loops, so a busy account such as a
+   * server shop never blocks the threads updating it.
+   */
+  private static class Slot extends DirtyBalance {
+    static final AtomicLongFieldUpdater<Slot> MINOR = AtomicLongFieldUpdater.newUpdater(Slot.class, "minor");
+
+    volatile long minor;
+
+    Slot(MemoryAccount account, String world, String currency, long minor) {
+      super(account.identifier, account.displayName, world, currency);
+      this.minor = minor;
+    }
+
+    @Override
+    public long minor() {
+      return minor;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package net.tnemc.core.economy.memory;
+
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.Tier;
+
+import java.math.BigDecimal;
+import java.util.TreeMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class MemoryCurrency implements Currency {
+
+  private final TreeMap<Integer, Tier> majorTiers = new TreeMap<>();
+  private final TreeMap<Integer, Tier> minorTiers = new TreeMap<>();
+
+  private final String name;
+  private final String plural;
+  private final String symbol;
+  private final int decimalPlaces;
+  private final boolean isDefault;
+  private final BigDecimal defaultBalance;
+
+  public MemoryCurrency(String name, String plural, String symbol, int decimalPlaces, boolean isDefault, BigDecimal defaultBalance) {
+    this.name = name;
+    this.plural = plural;
+    this.symbol = symbol;
+    this.decimalPlaces = decimalPlaces;
+    this.isDefault = isDefault;
+    this.defaultBalance = defaultBalance;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public String plural() {
+    return plural;
+  }
+
+  @Override
+  public String symbol() {
+    return symbol;
+  }
+
+  @Override
+  public int decimalPlaces() {
+    return decimalPlaces;
+  }
+
+  @Override
+  public boolean isDefault() {
+    return isDefault;
+  }
+
+  @Override
+  public BigDecimal defaultBalance() {
+    return defaultBalance;
+  }
+
+  @Override
+  public TreeMap<Integer, Tier> getMajorTiers() {
+    return majorTiers;
+  }
+
+  @Override
+  public TreeMap<Integer, Tier> getMinorTiers() {
+    return minorTiers;
+  }
+}
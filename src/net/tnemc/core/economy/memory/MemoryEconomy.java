@@ -0,0 +1,662 @@
+package net.tnemc.core.economy.memory;
+
+import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.CurrencyRegistry;
+import net.tnemc.core.economy.currency.Tier;
+import net.tnemc.core.economy.currency.TierBreakdown;
+import net.tnemc.core.economy.leaderboard.Leaderboards;
+import net.tnemc.core.economy.storage.EconomyStorage;
+import net.tnemc.core.economy.storage.WriteBehindFlusher;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.journal.JournalTransaction;
+import net.tnemc.core.economy.transaction.journal.TransactionJournal;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+import net.tnemc.core.economy.transaction.store.MemoryTransactionStore;
+import net.tnemc.core.economy.transaction.store.TransactionStore;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+import net.tnemc.core.identifier.IdentifierIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class MemoryEconomy implements ExtendedEconomyAPI {
+
+  private final Map<UUID, MemoryAccount> accounts = new ConcurrentHashMap<>();
+
+  /**
+   * The identifiers of every account in order, so accounts can be paged through while others are created or deleted.
+   */
+  private final NavigableSet<UUID> ordered = new ConcurrentSkipListSet<>();
+
+  /**
+   * Maps lower case account names to the identifier of their account.
+   */
+  private final Map<String, UUID> names = new ConcurrentHashMap<>();
+
+  private final CurrencyRegistry currencies;
+
+  private final Leaderboards leaderboards = new Leaderboards();
+  private final TransactionStore transactions = new MemoryTransactionStore();
+
+  /**
+   * Transactions queued with the {@link TransactionJournal} that haven't been written yet, so they can be looked up
+   * while the journal batches them.
+   */
+  private final Map<UUID, Transaction> journaling = new ConcurrentHashMap<>();
+  private final Set<TransactionType> transactionTypes = ConcurrentHashMap.newKeySet();
+  private final Set<TransactionResult> transactionResults = ConcurrentHashMap.newKeySet();
+
+  private final String defaultWorld;
+  private final TransactionJournal journal;
+  private final EconomyStorage storage;
+  private final WriteBehindFlusher flusher;
+
+  /**
+   * Accounts deleted since the last {@link #save()}, and whether every account was purged. Deletions are applied to the
+   * storage before any balance is written, so an account that was deleted and recreated keeps its new balances.
+   */
+  private final Set<UUID> deleted = ConcurrentHashMap.newKeySet();
+  private volatile boolean purged = false;
+
+  public MemoryEconomy(String defaultWorld) {
+    this(defaultWorld, (TransactionJournal)null);
+  }
+
+  /**
+   * @param defaultWorld The name of the default world.
+   * @param journal The {@link TransactionJournal} performed transactions are written to instead of being kept in
+   * memory, or null to keep them in memory.
+   */
+  public MemoryEconomy(String defaultWorld, TransactionJournal journal) {
+    this(defaultWorld, new MemoryCurrency("Dollar", "Dollars", "$", 2, true, BigDecimal.ZERO), journal);
+  }
+
+  public MemoryEconomy(String defaultWorld, Currency defaultCurrency, TransactionJournal journal) {
+    this(defaultWorld, defaultCurrency, journal, (EconomyStorage)null);
+  }
+
+  /**
+   * @param defaultWorld The name of the default world.
+   * @param defaultCurrency The default {@link Currency}.
+   * @param journal The {@link TransactionJournal} performed transactions are written to, or null to keep them in
+   * memory.
+   * @param storage The {@link EconomyStorage} balances are loaded from and saved to, or null if balances shouldn't be
+   * saved.
+   */
+  public MemoryEconomy(String defaultWorld, Currency defaultCurrency, TransactionJournal journal, EconomyStorage storage) {
+    this(defaultWorld, defaultCurrency, journal, storage, null);
+  }
+
+  /**
+   * Creates an economy whose changed balances are written behind by a {@link WriteBehindFlusher}, rather than only
+   * when it is saved.
+   * @param defaultWorld The name of the default world.
+   * @param defaultCurrency The default {@link Currency}.
+   * @param journal The {@link TransactionJournal} performed transactions are written to, or null to keep them in
+   * memory.
+   * @param flusher The {@link WriteBehindFlusher} changed balances are queued with. Balances are loaded from its
+   * storage.
+   */
+  public MemoryEconomy(String defaultWorld, Currency defaultCurrency, TransactionJournal journal, WriteBehindFlusher flusher) {
+    this(defaultWorld, defaultCurrency, journal, flusher.storage(), flusher);
+  }
+
+  private MemoryEconomy(String defaultWorld, Currency defaultCurrency, TransactionJournal journal, EconomyStorage storage,
+                        WriteBehindFlusher flusher) {
+    this.defaultWorld = defaultWorld;
+    this.journal = journal;
+    this.storage = storage;
+    this.flusher = flusher;
+    this.currencies = new CurrencyRegistry(defaultCurrency);
+  }
+
+  public String defaultWorld() {
+    return defaultWorld;
+  }
+
+  private MemoryAccount account(UUID identifier, String name) {
+    ordered.add(identifier);
+    return new MemoryAccount(this, identifier, name);
+  }
+
+  @Override
+  public List<UUID> accountPage(UUID after, int limit) {
+    List<UUID> page = new ArrayList<>(Math.min(limit, 1024));
+    for(UUID identifier : (after == null)? ordered : ordered.tailSet(after, false)) {
+      if(page.size() == limit) break;
+      page.add(identifier);
+    }
+    return page;
+  }
+
+  @Override
+  public Leaderboards leaderboards() {
+    return leaderboards;
+  }
+
+  /**
+   * @return The {@link WriteBehindFlusher} changed balances are queued with, or null if there is none.
+   */
+  WriteBehindFlusher flusher() {
+    return flusher;
+  }
+
+  /**
+   * Loads every account and balance from the storage this economy was created with.
+   * @throws IOException If the storage can't be read.
+   */
+  public void load() throws IOException {
+    if(storage == null) return;
+
+    storage.accounts(this::restore);
+    storage.load((identifier, name, world, currency, minor) -> restore(identifier, name).restore(world, currency, minor));
+  }
+
+  private MemoryAccount restore(UUID identifier, String name) {
+    MemoryAccount account = accounts.computeIfAbsent(identifier, key -> account(key, name));
+    if(!name.equals(identifier.toString())) {
+      names.putIfAbsent(name.toLowerCase(), identifier);
+    }
+    return account;
+  }
+
+  /**
+   * Writes every account and balance to the storage this economy was created with, and flushes it. Saves don't
+   * overlap, so a periodic save and the save on shutdown can't interleave. With a {@link WriteBehindFlusher}, only
+   * the balances that changed since its last flush are written.
+   * @throws IOException If the storage can't be written.
+   */
+  public synchronized void save() throws IOException {
+    if(storage == null) return;
+
+    if(flusher != null) {
+      flusher.flush();
+      return;
+    }
+
+    if(purged) {
+      purged = false;
+      storage.clear();
+    }
+    for(Iterator<UUID> it = deleted.iterator(); it.hasNext();) {
+      storage.delete(it.next());
+      it.remove();
+    }
+    for(MemoryAccount account : accounts.values()) {
+      account.save(storage);
+    }
+    storage.flush();
+  }
+
+  /**
+   * Resolves an identifier to an account {@link UUID}. Identifiers that aren't a {@link UUID} are treated as account
+   * names, and resolve to the player's {@link UUID} through Reserve's {@link IdentifierIndex} when the player has been
+   * seen, so name and {@link UUID} calls for the same player share one account.
+   * @param identifier The identifier of the account. This may be a {@link UUID}, or a player's name.
+   * @param create Whether or not an identifier should be assigned to an unknown name.
+   * @return The {@link UUID} of the account, or null if the name is unknown and create is false.
+   */
+  private UUID resolve(String identifier, boolean create) {
+    UUID parsed = IdentifierIndex.parse(identifier);
+    if(parsed != null) {
+      return parsed;
+    }
+
+    Reserve reserve = Reserve.instance();
+    IdentifierIndex identifiers = (reserve != null)? reserve.identifiers() : null;
+    UUID player = (identifiers != null)? identifiers.resolve(identifier) : null;
+    if(player != null) {
+      return player;
+    }
+
+    final String name = identifier.toLowerCase();
+    if(create) {
+      //Unknown names receive the same identifier an offline mode server would assign them.
+      return names.computeIfAbsent(name, key -> UUID.nameUUIDFromBytes(("OfflinePlayer:" + identifier).getBytes(StandardCharsets.UTF_8)));
+    }
+    return names.get(name);
+  }
+
+  @Override
+  public String name() {
+    return "Reserve";
+  }
+
+  @Override
+  public String version() {
+    Reserve reserve = Reserve.instance();
+    return (reserve != null)? reserve.getDescription().getVersion() : "unknown";
+  }
+
+  @Override
+  public boolean enabled() {
+    return true;
+  }
+
+  @Override
+  public boolean sharedNameAccounts() {
+    return true;
+  }
+
+  @Override
+  public String currencyDefaultPlural() {
+    return getDefault().plural();
+  }
+
+  @Override
+  public String currencyDefaultSingular() {
+    return getDefault().name();
+  }
+
+  @Override
+  public String currencyDefaultPlural(String world) {
+    return getDefault(world).plural();
+  }
+
+  @Override
+  public String currencyDefaultSingular(String world) {
+    return getDefault(world).name();
+  }
+
+  @Override
+  public boolean hasCurrency(String name) {
+    return currencies.contains(name);
+  }
+
+  @Override
+  public boolean hasCurrency(String name, String world) {
+    return currencies.contains(name, world);
+  }
+
+  @Override
+  public boolean hasAccount(String identifier) {
+    UUID id = resolve(identifier, false);
+    return id != null && accounts.containsKey(id);
+  }
+
+  @Override
+  public boolean hasAccount(UUID identifier) {
+    return accounts.containsKey(identifier);
+  }
+
+  @Override
+  public boolean createAccount(String identifier) {
+    UUID id = resolve(identifier, true);
+    return !accounts.containsKey(id) && createIfNotExists(identifier) != null;
+  }
+
+  @Override
+  public boolean createAccount(UUID identifier) {
+    return !accounts.containsKey(identifier) && createIfNotExists(identifier) != null;
+  }
+
+  @Override
+  public boolean deleteAccount(String identifier) {
+    UUID id = resolve(identifier, false);
+    return id != null && deleteAccount(id);
+  }
+
+  @Override
+  public boolean deleteAccount(UUID identifier) {
+    MemoryAccount account = accounts.remove(identifier);
+    if(account != null) {
+      ordered.remove(identifier);
+      names.remove(account.displayName().toLowerCase(), identifier);
+      account.retire();
+      leaderboards.remove(identifier);
+      if(flusher != null) {
+        flusher.delete(identifier);
+      } else if(storage != null) {
+        deleted.add(identifier);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public String format(BigDecimal amount) {
+    return format(amount, getDefault());
+  }
+
+  @Override
+  public String format(BigDecimal amount, String world) {
+    return format(amount, getDefault(world));
+  }
+
+  @Override
+  public boolean purgeAccounts() {
+    accounts.values().forEach(MemoryAccount::retire);
+    leaderboards.clear();
+    if(flusher != null) {
+      flusher.purge();
+    } else if(storage != null) {
+      purged = true;
+    }
+    accounts.clear();
+    ordered.clear();
+    names.clear();
+    return true;
+  }
+
+  @Override
+  public boolean purgeAccountsUnder(BigDecimal amount) {
+    for(MemoryAccount account : accounts.values()) {
+      if(account.getHoldings().compareTo(amount) < 0) {
+        deleteAccount(account.identifier());
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Currency getDefault() {
+    return currencies.getDefault();
+  }
+
+  @Override
+  public Currency getDefault(String world) {
+    return currencies.getDefault(world);
+  }
+
+  @Override
+  public Set<Currency> getCurrencies() {
+    return currencies.currencies();
+  }
+
+  @Override
+  public Set<Currency> getCurrencies(String world) {
+    return currencies.currencies(world);
+  }
+
+  @Override
+  public Currency getCurrency(String name) {
+    if(name == null) {
+      return currencies.getDefault();
+    }
+    return currencies.get(name);
+  }
+
+  @Override
+  public Currency getCurrency(String name, String world) {
+    if(name == null) {
+      return getDefault(world);
+    }
+    return currencies.get(name, world);
+  }
+
+  @Override
+  public boolean hasTier(String name, Currency currency) {
+    return currencies.hasTier(name, currency);
+  }
+
+  @Override
+  public boolean hasTier(String name, Currency currency, String world) {
+    return hasTier(name, currency);
+  }
+
+  @Override
+  public Set<Tier> getTiers(Currency currency) {
+    return currencies.tiers(currency);
+  }
+
+  @Override
+  public Account getAccount(String identifier) {
+    UUID id = resolve(identifier, false);
+    return (id != null)? accounts.get(id) : null;
+  }
+
+  @Override
+  public Account getAccount(UUID identifier) {
+    return accounts.get(identifier);
+  }
+
+  @Override
+  public Account createIfNotExists(String identifier) {
+    return create(resolve(identifier, true), identifier);
+  }
+
+  @Override
+  public Account createIfNotExists(UUID identifier) {
+    return create(identifier, identifier.toString());
+  }
+
+  /**
+   * Creates an account unless it exists already. New accounts are queued with the {@link WriteBehindFlusher}, so they
+   * are stored even if none of their balances ever change.
+   */
+  private MemoryAccount create(UUID identifier, String name) {
+    MemoryAccount existing = accounts.get(identifier);
+    if(existing != null) {
+      return existing;
+    }
+
+    MemoryAccount created = account(identifier, name);
+    existing = accounts.putIfAbsent(identifier, created);
+    if(existing != null) {
+      return existing;
+    }
+    if(flusher != null) {
+      flusher.create(identifier, name);
+    }
+    return created;
+  }
+
+  @Override
+  public TierBreakdown breakdown(Currency currency) {
+    return currencies.breakdown(currency);
+  }
+
+  @Override
+  public String format(BigDecimal amount, Currency currency) {
+    return currencies.formatter(currency).format(amount);
+  }
+
+  @Override
+  public String format(BigDecimal amount, Currency currency, String world) {
+    return format(amount, currency);
+  }
+
+  /**
+   * With a {@link TransactionJournal}, the transaction is queued with the journal and this returns without waiting for
+   * it to be written, so callers don't wait for a disk sync. It can be looked up until it is written all the same. A
+   * transaction the journal fails to write is kept in memory for the rest of the session instead, since its charges
+   * have already been applied.
+   */
+  @Override
+  public TransactionResult performTransaction(Transaction transaction) {
+    return record(transaction, transaction.perform());
+  }
+
+  @Override
+  public TransactionResult performTransaction(Transaction transaction, Account initiator, Account recipient) {
+    return record(transaction, transaction.perform(initiator, recipient));
+  }
+
+  private TransactionResult record(Transaction transaction, TransactionResult result) {
+    if(result.proceed()) {
+      if(journal == null) {
+        transactions.add(transaction);
+      } else {
+        journaling.put(transaction.transactionID(), transaction);
+        journal.append(transaction).whenComplete((written, failure) -> {
+          if(failure != null) {
+            transactions.add(transaction);
+          }
+          journaling.remove(transaction.transactionID());
+        });
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @throws UncheckedIOException If the transaction can't be read from the {@link TransactionJournal}.
+   */
+  @Override
+  public Optional<Transaction> getTransaction(UUID uuid) {
+    Transaction queued = journaling.get(uuid);
+    if(queued != null) {
+      return Optional.of(queued);
+    }
+
+    Optional<Transaction> kept = transactions.get(uuid);
+    if(kept.isPresent() || journal == null) {
+      return kept;
+    }
+
+    try {
+      return journal.read(uuid).map(record -> new JournalTransaction(journal, record, this));
+    } catch(IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public boolean voidTransaction(UUID uuid) {
+    Transaction queued = journaling.get(uuid);
+    if(queued != null) {
+      //The void marker is queued behind the transaction itself, so it survives a restart like any other.
+      boolean voided = queued.voidTransaction();
+      if(voided) {
+        journal.markVoided(uuid);
+      }
+      return voided;
+    }
+
+    Optional<Transaction> transaction = getTransaction(uuid);
+    return transaction.isPresent() && transaction.get().voidTransaction();
+  }
+
+  @Override
+  public Set<TransactionType> getTransactionTypes() {
+    return transactionTypes;
+  }
+
+  /**
+   * Note: when a {@link TransactionJournal} is used this reads the whole journal.
+   * @throws UncheckedIOException If the {@link TransactionJournal} can't be read.
+   */
+  @Override
+  public Map<UUID, Transaction> getTransactions() {
+    Map<UUID, Transaction> found = collect(transactions.between(Long.MIN_VALUE, Long.MAX_VALUE));
+    if(journal != null) {
+      found.putAll(journalTransactions(null));
+      found.putAll(journaling);
+    }
+    return found;
+  }
+
+  /**
+   * @throws UncheckedIOException If the {@link TransactionJournal} can't be read.
+   */
+  @Override
+  public Map<UUID, Transaction> getTransactions(String identifier) {
+    Map<UUID, Transaction> found = collect(transactions.byAccount(identifier, Long.MIN_VALUE, Long.MAX_VALUE));
+    if(journal != null) {
+      found.putAll(journalTransactions(identifier));
+      for(Transaction transaction : journaling.values()) {
+        if(identifier.equals(transaction.initiator()) || identifier.equals(transaction.recipient())) {
+          found.put(transaction.transactionID(), transaction);
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * The in-memory {@link TransactionStore} is only used while no {@link TransactionJournal} is configured.
+   */
+  @Override
+  public Optional<TransactionStore> transactionStore() {
+    return (journal == null)? Optional.of(transactions) : Optional.empty();
+  }
+
+  private static Map<UUID, Transaction> collect(Stream<Transaction> results) {
+    Map<UUID, Transaction> found = new HashMap<>();
+    results.forEach(transaction -> found.put(transaction.transactionID(), transaction));
+    return found;
+  }
+
+  private Map<UUID, Transaction> journalTransactions(String identifier) {
+    Map<UUID, Transaction> found = new HashMap<>();
+    try {
+      journal.replay(record -> {
+        if(!record.isVoidMarker() && (identifier == null || identifier.equals(record.initiator())
+                                      || identifier.equals(record.recipient()))) {
+          found.put(record.id(), new JournalTransaction(journal, record, this));
+        }
+      });
+    } catch(IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return found;
+  }
+
+  @Override
+  public boolean registerTransactionType(TransactionType type) {
+    return transactionTypes.add(type);
+  }
+
+  @Override
+  public boolean registerTransactionResult(TransactionResult result) {
+    return transactionResults.add(result);
+  }
+
+  @Override
+  public boolean registerCurrency(Currency currency) {
+    return currencies.register(currency);
+  }
+
+  @Override
+  public boolean registerCurrency(Currency currency, String world) {
+    return currencies.register(currency, world);
+  }
+
+  @Override
+  public boolean registerTier(Tier tier, Currency currency) {
+    return currencies.registerTier(tier, currency);
+  }
+
+  @Override
+  public boolean registerTier(Tier tier, Currency currency, String world) {
+    return registerTier(tier, currency);
+  }
+}
@@ -0,0 +1,66 @@
+package net.tnemc.core.economy.storage;
+
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * A balance to be written to an {@link EconomyStorage}, as read when it was flushed.
+ */
+public final class BalanceUpdate {
+
+  private final UUID account;
+  private final String name;
+  private final String world;
+  private final String currency;
+  private final long minor;
+
+  public BalanceUpdate(UUID account, String name, String world, String currency, long minor) {
+    this.account = account;
+    this.name = name;
+    this.world = world;
+    this.currency = currency;
+    this.minor = minor;
+  }
+
+  public UUID account() {
+    return account;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public String world() {
+    return world;
+  }
+
+  public String currency() {
+    return currency;
+  }
+
+  /**
+   * @return The balance in minor units.
+   */
+  public long minor() {
+    return minor;
+  }
+}
@@ -0,0 +1,128 @@
+package net.tnemc.core.economy.storage;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * A balance that can be queued with a {@link WriteBehindFlusher}. A balance is queued once when it first changes,
+ * and any further changes before it is flushed are coalesced, since the flusher reads its value only when writing it.
+ */
+public abstract class DirtyBalance {
+
+  private static final AtomicIntegerFieldUpdater<DirtyBalance> STATE =
+      AtomicIntegerFieldUpdater.newUpdater(DirtyBalance.class, "state");
+
+  private static final int CLEAN = 0;
+  private static final int DIRTY = 1;
+  private static final int RETIRED = 2;
+
+  private static final AtomicIntegerFieldUpdater<DirtyBalance> RANKING =
+      AtomicIntegerFieldUpdater.newUpdater(DirtyBalance.class, "ranking");
+
+  private volatile int state = CLEAN;
+
+  /**
+   * Whether the balance is queued to be published to the leaderboards, tracked apart from {@link #state} since the
+   * leaderboards and the {@link WriteBehindFlusher} drain their queues independently.
+   */
+  private volatile int ranking = CLEAN;
+
+  private final UUID account;
+  private final String name;
+  private final String world;
+  private final String currency;
+
+  protected DirtyBalance(UUID account, String name, String world, String currency) {
+    this.account = account;
+    this.name = name;
+    this.world = world;
+    this.currency = currency;
+  }
+
+  /**
+   * @return The current balance in minor units.
+   */
+  public abstract long minor();
+
+  public UUID account() {
+    return account;
+  }
+
+  public String world() {
+    return world;
+  }
+
+  public String currency() {
+    return currency;
+  }
+
+  /**
+   * Marks the balance as changed.
+   * @return True if the balance was clean and now has to be queued, false if it is already queued or retired.
+   */
+  boolean mark() {
+    //The plain read keeps a busy balance that is already queued from contending on the compare-and-set.
+    return state == CLEAN && STATE.compareAndSet(this, CLEAN, DIRTY);
+  }
+
+  /**
+   * Marks the balance as clean before its value is read, so a change made while it is written queues it again.
+   * @return False if the balance was retired and shouldn't be written.
+   */
+  boolean clean() {
+    return STATE.compareAndSet(this, DIRTY, CLEAN);
+  }
+
+  /**
+   * Marks the balance as changed for the leaderboards.
+   * @return True if the balance now has to be queued, false if it is already queued.
+   */
+  public boolean markRanking() {
+    return ranking == CLEAN && RANKING.compareAndSet(this, CLEAN, DIRTY);
+  }
+
+  /**
+   * Marks the balance as published before its value is read, so a change made in between queues it again.
+   */
+  public void cleanRanking() {
+    ranking = CLEAN;
+  }
+
+  /**
+   * Stops the balance from being written, e.g. once its account has been deleted.
+   */
+  public void retire() {
+    state = RETIRED;
+  }
+
+  /**
+   * @return True if the balance was retired, and its value should no longer be published.
+   */
+  public boolean retired() {
+    return state == RETIRED;
+  }
+
+  BalanceUpdate update() {
+    return new BalanceUpdate(account, name, world, currency, minor());
+  }
+}
@@ -0,0 +1,111 @@
+package net.tnemc.core.economy.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Persists account balances independent of the economy provider. Balances are stored in minor units of their
+ * currency, see {@link net.tnemc.core.economy.currency.CurrencyUnits}, so a currency's decimal places shouldn't
+ * change between loads.
+ *
+ * Implementations don't have to be thread safe; callers are expected to write from a single thread, or synchronize.
+ */
+public interface EconomyStorage extends Closeable {
+
+  /**
+   * Stores a balance, replacing any balance previously stored for the same account, world and currency.
+   * @param account The {@link UUID} of the account.
+   * @param name The display name of the account.
+   * @param world The name of the world the balance belongs to.
+   * @param currency The name of the currency the balance is in.
+   * @param minor The balance in minor units.
+   * @throws IOException If the balance can't be stored.
+   */
+  void write(UUID account, String name, String world, String currency, long minor) throws IOException;
+
+  /**
+   * Stores a batch of balances. Implementations backed by a database should override this to write the batch in a
+   * single statement or transaction.
+   * @param batch The {@link BalanceUpdate balances} to store.
+   * @throws IOException If the balances can't be stored.
+   */
+  default void write(List<BalanceUpdate> batch) throws IOException {
+    for(BalanceUpdate update : batch) {
+      write(update.account(), update.name(), update.world(), update.currency(), update.minor());
+    }
+  }
+
+  /**
+   * Stores an account, so it is still known after a restart even if none of its balances ever changed. Does nothing if
+   * the account is already stored.
+   * @param account The {@link UUID} of the account.
+   * @param name The display name of the account.
+   * @throws IOException If the account can't be stored.
+   */
+  void create(UUID account, String name) throws IOException;
+
+  /**
+   * Removes every balance of an account.
+   * @param account The {@link UUID} of the account.
+   * @throws IOException If the account can't be removed.
+   */
+  void delete(UUID account) throws IOException;
+
+  /**
+   * Removes every stored balance.
+   * @throws IOException If the balances can't be removed.
+   */
+  void clear() throws IOException;
+
+  /**
+   * Reads every stored account, including those without any balances.
+   * @param visitor The {@link AccountVisitor} that receives each account.
+   * @throws IOException If the accounts can't be read.
+   */
+  void accounts(AccountVisitor visitor) throws IOException;
+
+  /**
+   * Reads every stored balance.
+   * @param visitor The {@link BalanceVisitor} that receives each balance.
+   * @throws IOException If the balances can't be read.
+   */
+  void load(BalanceVisitor visitor) throws IOException;
+
+  /**
+   * Makes every write so far durable.
+   * @throws IOException If the writes can't be flushed.
+   */
+  void flush() throws IOException;
+
+  @FunctionalInterface
+  interface AccountVisitor {
+    void visit(UUID account, String name);
+  }
+
+  @FunctionalInterface
+  interface BalanceVisitor {
+    void visit(UUID account, String name, String world, String currency, long minor);
+  }
+}
@@ -0,0 +1,459 @@
+package net.tnemc.core.economy.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * An {@link EconomyStorage} backed by a memory mapped file of fixed size records, one per account. A write only
+ * touches the eight bytes of its balance, and the operating system persists the mapped pages in the background, so
+ * saving is as cheap as updating memory. {@link #flush()} forces the pages to disk.
+ *
+ * The file starts with a header listing the (world, currency) columns in use. Each record then holds a state word,
+ * the account's {@link UUID}, its display name, a bitmap of the columns that hold a balance and one long per column.
+ * The state word has its highest bit set while the record is in use, so accounts without any balance are kept as
+ * well. When every column of a record is taken, or the header runs out of room for column names, the file is
+ * rewritten with more room. The rewrite is staged in a separate file first, and applied again on the next start if
+ * it was interrupted.
+ */
+public class MappedEconomyStorage implements EconomyStorage {
+
+  private static final int MAGIC = 0x52535642;
+  private static final int VERSION = 2;
+  private static final int PAGE = 4096;
+  private static final int INITIAL_HEADER_SIZE = 16384;
+  private static final int COLUMNS_START = 20;
+  private static final int NAME_SIZE = 64;
+  private static final int PRESENCE_START = 8 + 16 + NAME_SIZE;
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final long LIVE = 1L << 63;
+
+  private final Path file;
+  private final Path staged;
+  private final Path staging;
+  private final FileChannel channel;
+
+  private int headerSize;
+  private int columnLimit;
+  private int balancesStart;
+  private int recordSize;
+
+  private final List<String[]> columns = new ArrayList<>();
+  private final Map<String, Integer> columnIndex = new HashMap<>();
+  private int columnsEnd = COLUMNS_START;
+
+  private final Map<UUID, Integer> slots = new HashMap<>();
+  private final Deque<Integer> free = new ArrayDeque<>();
+  private int used = 0;
+  private int capacity;
+
+  private MappedByteBuffer buffer;
+
+  /**
+   * Opens the storage file, creating it if it doesn't exist.
+   * @param file The file to store balances in.
+   * @param columnLimit The number of (world, currency) columns each record has room for at first. This is only used
+   * when the file is created, the records grow once the columns are used up.
+   * @throws IOException If the file can't be opened or isn't a storage file.
+   */
+  public MappedEconomyStorage(File file, int columnLimit) throws IOException {
+    File parent = file.getAbsoluteFile().getParentFile();
+    if(parent != null && !parent.exists()) {
+      parent.mkdirs();
+    }
+    this.file = file.toPath();
+    this.staged = this.file.resolveSibling(file.getName() + ".grow");
+    this.staging = this.file.resolveSibling(file.getName() + ".grow.tmp");
+    channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    try {
+      //A staging file that never became complete is dropped, the storage file is still intact.
+      Files.deleteIfExists(staging);
+      if(Files.exists(staged)) {
+        apply();
+      }
+
+      if(channel.size() == 0) {
+        layout(INITIAL_HEADER_SIZE, Math.max(1, columnLimit));
+        map(INITIAL_CAPACITY);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, this.columnLimit);
+        buffer.putInt(12, 0);
+        buffer.putInt(16, headerSize);
+      } else {
+        ByteBuffer header = ByteBuffer.allocate(COLUMNS_START);
+        channel.read(header, 0);
+        if(channel.size() < COLUMNS_START || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+           || header.getInt(8) < 1 || header.getInt(16) < COLUMNS_START || channel.size() < header.getInt(16)) {
+          throw new IOException(file.getName() + " isn't a balance storage file.");
+        }
+        layout(header.getInt(16), header.getInt(8));
+        map((int)((channel.size() - headerSize) / recordSize));
+        readColumns();
+        readSlots();
+      }
+    } catch(IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public synchronized void write(UUID account, String name, String world, String currency, long minor) throws IOException {
+    int column = column(world, currency);
+    int offset = offset(slot(account, name));
+    int presence = offset + PRESENCE_START + (column >>> 6) * 8;
+
+    //The balance is written before its bit is set, so a record never claims a balance it doesn't hold.
+    buffer.putLong(offset + balancesStart + column * 8, minor);
+    buffer.putLong(presence, buffer.getLong(presence) | (1L << (column & 63)));
+  }
+
+  @Override
+  public synchronized void create(UUID account, String name) throws IOException {
+    slot(account, name);
+  }
+
+  @Override
+  public synchronized void delete(UUID account) {
+    Integer slot = slots.remove(account);
+    if(slot != null) {
+      buffer.putLong(offset(slot), 0L);
+      free.push(slot);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    for(int slot : slots.values()) {
+      buffer.putLong(offset(slot), 0L);
+    }
+    slots.clear();
+    free.clear();
+    used = 0;
+  }
+
+  @Override
+  public synchronized void accounts(AccountVisitor visitor) {
+    for(Map.Entry<UUID, Integer> entry : slots.entrySet()) {
+      visitor.visit(entry.getKey(), readName(offset(entry.getValue()) + 24));
+    }
+  }
+
+  @Override
+  public synchronized void load(BalanceVisitor visitor) {
+    for(Map.Entry<UUID, Integer> entry : slots.entrySet()) {
+      int offset = offset(entry.getValue());
+      String name = readName(offset + 24);
+
+      for(int column = 0; column < columns.size(); column++) {
+        if((buffer.getLong(offset + PRESENCE_START + (column >>> 6) * 8) & (1L << (column & 63))) != 0) {
+          String[] key = columns.get(column);
+          visitor.visit(entry.getKey(), name, key[0], key[1], buffer.getLong(offset + balancesStart + column * 8));
+        }
+      }
+    }
+  }
+
+  @Override
+  public synchronized void flush() {
+    buffer.force();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if(buffer != null) {
+      buffer.force();
+      buffer = null;
+    }
+    channel.close();
+  }
+
+  /**
+   * @return The number of accounts stored.
+   */
+  public synchronized int size() {
+    return slots.size();
+  }
+
+  /**
+   * @return The number of (world, currency) columns each record currently has room for.
+   */
+  public synchronized int columnLimit() {
+    return columnLimit;
+  }
+
+  private int offset(int slot) {
+    return headerSize + slot * recordSize;
+  }
+
+  private void layout(int headerSize, int columnLimit) {
+    this.headerSize = headerSize;
+    this.columnLimit = columnLimit;
+    this.balancesStart = PRESENCE_START + words(columnLimit) * 8;
+    this.recordSize = balancesStart + columnLimit * 8;
+  }
+
+  private static int words(int columns) {
+    return (columns + 63) >>> 6;
+  }
+
+  private void map(int records) throws IOException {
+    long size = headerSize + (long)records * recordSize;
+    if(size > Integer.MAX_VALUE) {
+      throw new IOException("The balance storage can't hold more than " + capacity + " accounts.");
+    }
+    if(buffer != null) {
+      buffer.force();
+    }
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    capacity = records;
+  }
+
+  /**
+   * Rewrites every record with room for more columns, or the header with more room for column names. The new file is
+   * written to a staging file first, so the storage file is only overwritten once the new layout is complete.
+   */
+  private void grow(int headerSize, int columnLimit) throws IOException {
+    int oldHeaderSize = this.headerSize;
+    int oldBalancesStart = this.balancesStart;
+    int oldRecordSize = this.recordSize;
+    int oldWords = words(this.columnLimit);
+    int oldColumns = this.columnLimit;
+
+    int newBalancesStart = PRESENCE_START + words(columnLimit) * 8;
+    int newRecordSize = newBalancesStart + columnLimit * 8;
+    if(headerSize + (long)capacity * newRecordSize > Integer.MAX_VALUE) {
+      throw new IOException("The balance storage has no room for another world and currency combination.");
+    }
+
+    buffer.force();
+    try(FileChannel out = FileChannel.open(staging, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                           StandardOpenOption.WRITE)) {
+      ByteBuffer header = ByteBuffer.allocate(headerSize);
+      for(int i = 0; i < columnsEnd; i++) {
+        header.put(i, buffer.get(i));
+      }
+      header.putInt(8, columnLimit);
+      header.putInt(16, headerSize);
+      writeFully(out, header, 0);
+
+      ByteBuffer record = ByteBuffer.allocate(newRecordSize);
+      for(int slot = 0; slot < capacity; slot++) {
+        int offset = oldHeaderSize + slot * oldRecordSize;
+        record.clear();
+        for(int i = 0; i < newRecordSize; i += 8) {
+          record.putLong(i, 0L);
+        }
+        for(int i = 0; i < PRESENCE_START + oldWords * 8; i += 8) {
+          record.putLong(i, buffer.getLong(offset + i));
+        }
+        for(int column = 0; column < oldColumns; column++) {
+          record.putLong(newBalancesStart + column * 8, buffer.getLong(offset + oldBalancesStart + column * 8));
+        }
+        writeFully(out, record, headerSize + (long)slot * newRecordSize);
+      }
+      out.force(true);
+    }
+    Files.move(staging, staged, StandardCopyOption.ATOMIC_MOVE);
+    apply();
+  }
+
+  /**
+   * Copies a complete staging file over the storage file, and reads the new layout from its header.
+   */
+  private void apply() throws IOException {
+    try(FileChannel in = FileChannel.open(staged, StandardOpenOption.READ)) {
+      long size = in.size();
+      if(size > Integer.MAX_VALUE) {
+        throw new IOException(staged.getFileName() + " is too large.");
+      }
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+      ByteBuffer target = buffer.duplicate();
+      while(target.hasRemaining()) {
+        if(in.read(target) < 0) {
+          throw new IOException(staged.getFileName() + " ended early.");
+        }
+      }
+      buffer.force();
+    }
+    Files.delete(staged);
+
+    //Only the header of an existing file is read again, the constructor reads it itself when opening.
+    if(headerSize != 0) {
+      layout(buffer.getInt(16), buffer.getInt(8));
+      capacity = (buffer.capacity() - headerSize) / recordSize;
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer data, long position) throws IOException {
+    data.rewind();
+    while(data.hasRemaining()) {
+      position += channel.write(data, position);
+    }
+  }
+
+  /**
+   * Finds the record of an account, claiming a free one if the account isn't stored yet.
+   */
+  private int slot(UUID account, String name) throws IOException {
+    Integer existing = slots.get(account);
+    if(existing != null) {
+      return existing;
+    }
+
+    int slot;
+    if(!free.isEmpty()) {
+      slot = free.pop();
+    } else {
+      if(used == capacity) {
+        map(capacity * 2);
+      }
+      slot = used++;
+    }
+
+    int offset = offset(slot);
+    for(int i = 8; i < recordSize; i += 8) {
+      buffer.putLong(offset + i, 0L);
+    }
+    buffer.putLong(offset + 8, account.getMostSignificantBits());
+    buffer.putLong(offset + 16, account.getLeastSignificantBits());
+    writeName(offset + 24, name);
+    buffer.putLong(offset, LIVE);
+
+    slots.put(account, slot);
+    return slot;
+  }
+
+  private int column(String world, String currency) throws IOException {
+    String key = world + '\u0000' + currency;
+    Integer existing = columnIndex.get(key);
+    if(existing != null) {
+      return existing;
+    }
+
+    byte[] worldBytes = world.getBytes(StandardCharsets.UTF_8);
+    byte[] currencyBytes = currency.getBytes(StandardCharsets.UTF_8);
+    int end = columnsEnd + 4 + worldBytes.length + currencyBytes.length;
+    if(end > headerSize) {
+      grow((end * 2 + PAGE - 1) / PAGE * PAGE, columnLimit);
+    }
+    if(columns.size() == columnLimit) {
+      grow(headerSize, columnLimit * 2);
+    }
+
+    buffer.putShort(columnsEnd, (short)worldBytes.length);
+    for(int i = 0; i < worldBytes.length; i++) {
+      buffer.put(columnsEnd + 2 + i, worldBytes[i]);
+    }
+    int currencyStart = columnsEnd + 2 + worldBytes.length;
+    buffer.putShort(currencyStart, (short)currencyBytes.length);
+    for(int i = 0; i < currencyBytes.length; i++) {
+      buffer.put(currencyStart + 2 + i, currencyBytes[i]);
+    }
+    columnsEnd = end;
+
+    int column = columns.size();
+    columns.add(new String[] { world, currency });
+    columnIndex.put(key, column);
+    buffer.putInt(12, columns.size());
+    return column;
+  }
+
+  private void readColumns() {
+    int count = buffer.getInt(12);
+    for(int column = 0; column < count; column++) {
+      String world = readString(columnsEnd);
+      columnsEnd += 2 + buffer.getShort(columnsEnd);
+      String currency = readString(columnsEnd);
+      columnsEnd += 2 + buffer.getShort(columnsEnd);
+
+      columns.add(new String[] { world, currency });
+      columnIndex.put(world + '\u0000' + currency, column);
+    }
+  }
+
+  private void readSlots() {
+    for(int slot = 0; slot < capacity; slot++) {
+      int offset = offset(slot);
+      if((buffer.getLong(offset) & LIVE) != 0) {
+        slots.put(new UUID(buffer.getLong(offset + 8), buffer.getLong(offset + 16)), slot);
+        used = slot + 1;
+      }
+    }
+    for(int slot = used - 1; slot >= 0; slot--) {
+      if((buffer.getLong(offset(slot)) & LIVE) == 0) {
+        free.push(slot);
+      }
+    }
+  }
+
+  private String readString(int position) {
+    byte[] bytes = new byte[buffer.getShort(position)];
+    for(int i = 0; i < bytes.length; i++) {
+      bytes[i] = buffer.get(position + 2 + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Names are stored as a length byte followed by up to 63 bytes of UTF-8. Longer names are cut at a character
+   * boundary.
+   */
+  private void writeName(int position, String name) {
+    ByteBuffer encoded = ByteBuffer.allocate(NAME_SIZE - 1);
+    CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    encoder.encode(CharBuffer.wrap(name), encoded, true);
+    encoded.flip();
+
+    buffer.put(position, (byte)encoded.remaining());
+    for(int i = 0; encoded.hasRemaining(); i++) {
+      buffer.put(position + 1 + i, encoded.get());
+    }
+  }
+
+  private String readName(int position) {
+    byte[] bytes = new byte[buffer.get(position) & 0xFF];
+    for(int i = 0; i < bytes.length; i++) {
+      bytes[i] = buffer.get(position + 1 + i);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
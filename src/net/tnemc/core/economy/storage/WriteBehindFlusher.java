@@ -0,0 +1,354 @@
+package net.tnemc.core.economy.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Writes changed balances to an {@link EconomyStorage} in the background. Balances are queued when they first change
+ * and written in batches, at a fixed interval or as soon as enough of them have changed. However often a balance
+ * changes in between, it is written once, with its value at the time of the flush.
+ *
+ * Deletions and purges are queued as well, and applied before any balance of the same flush is written.
+ *
+ * A balance the storage refuses to write is set aside rather than queued again, so it can't hold up the balances
+ * behind it. Balances set aside are retried with an increasing delay, and so are flushes that fail as a whole.
+ */
+public class WriteBehindFlusher implements Closeable {
+
+  private final Queue<DirtyBalance> dirty = new ConcurrentLinkedQueue<>();
+  /**
+   * Created and deleted accounts, in the order they happened, so an account deleted and created again ends up stored.
+   */
+  private final Queue<AccountChange> accounts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private volatile boolean purged = false;
+
+  private final LongAdder marks = new LongAdder();
+  private final LongAdder written = new LongAdder();
+
+  private final EconomyStorage storage;
+  private final ScheduledExecutorService executor;
+  private final int threshold;
+  private final int batchSize;
+
+  /**
+   * The longest delay between retries of failed writes, in milliseconds.
+   */
+  private static final long MAX_BACKOFF = TimeUnit.MINUTES.toMillis(5);
+
+  /**
+   * Balances that failed to be written, retried once {@link #retryAt} has passed. Only touched while flushing.
+   */
+  private final Set<DirtyBalance> quarantined = new LinkedHashSet<>();
+  private final long interval;
+  private long backoff;
+  private volatile long retryAt = System.nanoTime();
+
+  /**
+   * Whether the last flush failed as a whole, in which case background flushes wait for {@link #retryAt} as well.
+   */
+  private volatile boolean stalled = false;
+
+  private volatile IOException failure;
+
+  /**
+   * @param storage The {@link EconomyStorage} balances are written to.
+   * @param interval The number of milliseconds between flushes.
+   * @param threshold The number of queued balances that triggers a flush before the interval is up.
+   * @param batchSize The maximum number of balances passed to {@link EconomyStorage#write(List)} at once.
+   */
+  public WriteBehindFlusher(EconomyStorage storage, long interval, int threshold, int batchSize) {
+    this.storage = storage;
+    this.interval = Math.max(1, interval);
+    this.backoff = this.interval;
+    this.threshold = Math.max(1, threshold);
+    this.batchSize = Math.max(1, batchSize);
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "Reserve-WriteBehind");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  public EconomyStorage storage() {
+    return storage;
+  }
+
+  /**
+   * Queues a changed balance. This is cheap enough to call on every change, a balance that is already queued isn't
+   * queued again.
+   * @param balance The {@link DirtyBalance} that changed.
+   */
+  public void mark(DirtyBalance balance) {
+    marks.increment();
+    if(balance.mark()) {
+      dirty.add(balance);
+      //While failed writes are backing off, queued balances wait for the next interval rather than forcing a flush.
+      if(pending.incrementAndGet() >= threshold && System.nanoTime() - retryAt >= 0
+         && scheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::flushQuietly);
+        } catch(RuntimeException e) {
+          //The flusher is shutting down, and the final drain picks up the balance.
+          scheduled.set(false);
+        }
+      }
+    }
+  }
+
+  /**
+   * Queues the creation of an account, so it is stored even if none of its balances ever change.
+   * @param account The {@link UUID} of the account.
+   * @param name The display name of the account.
+   */
+  public void create(UUID account, String name) {
+    accounts.add(new AccountChange(account, name));
+  }
+
+  /**
+   * Queues the deletion of an account. Its balances should be {@link DirtyBalance#retire() retired} first.
+   * @param account The {@link UUID} of the account.
+   */
+  public void delete(UUID account) {
+    accounts.add(new AccountChange(account, null));
+  }
+
+  /**
+   * Queues the removal of every stored balance. Balances of the purged accounts should be
+   * {@link DirtyBalance#retire() retired} first.
+   */
+  public void purge() {
+    accounts.clear();
+    purged = true;
+  }
+
+  /**
+   * Writes every queued change and flushes the storage, on the calling thread. Balances that failed to be written
+   * before are retried right away.
+   * @throws IOException If the storage can't be written. Balances that weren't written stay queued.
+   */
+  public void flush() throws IOException {
+    flush(true);
+  }
+
+  private synchronized void flush(boolean retry) throws IOException {
+    scheduled.set(false);
+
+    boolean failed = false;
+    try {
+      if(purged) {
+        purged = false;
+        quarantined.clear();
+        storage.clear();
+      }
+      AccountChange change;
+      while((change = accounts.peek()) != null) {
+        if(change.name == null) {
+          storage.delete(change.account);
+        } else {
+          storage.create(change.account, change.name);
+        }
+        //The change is only dropped once it is stored, so a failed flush retries it.
+        accounts.poll();
+      }
+
+      List<BalanceUpdate> batch = new ArrayList<>(Math.min(batchSize, Math.max(1, pending.get())));
+      List<DirtyBalance> sources = new ArrayList<>(batch.size());
+      if(!quarantined.isEmpty() && (retry || System.nanoTime() - retryAt >= 0)) {
+        List<DirtyBalance> retried = new ArrayList<>(quarantined);
+        quarantined.clear();
+        for(DirtyBalance balance : retried) {
+          if(balance.retired()) continue;
+
+          batch.add(balance.update());
+          sources.add(balance);
+          if(batch.size() == batchSize) {
+            failed |= write(batch, sources);
+          }
+        }
+      }
+
+      DirtyBalance balance;
+      while((balance = dirty.poll()) != null) {
+        pending.decrementAndGet();
+        if(!balance.clean()) continue;
+
+        batch.add(balance.update());
+        sources.add(balance);
+        if(batch.size() == batchSize) {
+          failed |= write(batch, sources);
+        }
+      }
+      failed |= write(batch, sources);
+      storage.flush();
+    } catch(IOException e) {
+      stalled = true;
+      backOff();
+      throw e;
+    }
+    stalled = false;
+
+    if(failed) {
+      backOff();
+    }
+    if(!quarantined.isEmpty()) {
+      throw new IOException(quarantined.size() + " balances couldn't be written.", failure);
+    }
+    backoff = interval;
+    retryAt = System.nanoTime();
+    failure = null;
+  }
+
+  /**
+   * Writes a batch. If the batch fails, its balances are written one at a time, and the ones that still fail are set
+   * aside so the rest of the batch, and the batches after it, reach the storage.
+   * @return True if a balance had to be set aside.
+   */
+  private boolean write(List<BalanceUpdate> batch, List<DirtyBalance> sources) {
+    if(batch.isEmpty()) return false;
+
+    try {
+      storage.write(batch);
+      written.add(batch.size());
+      return false;
+    } catch(IOException e) {
+      failure = e;
+      boolean failed = false;
+      for(int i = 0; i < batch.size(); i++) {
+        BalanceUpdate update = batch.get(i);
+        try {
+          storage.write(update.account(), update.name(), update.world(), update.currency(), update.minor());
+          written.increment();
+        } catch(IOException single) {
+          failure = single;
+          quarantined.add(sources.get(i));
+          failed = true;
+        }
+      }
+      return failed;
+    } finally {
+      batch.clear();
+      sources.clear();
+    }
+  }
+
+  /**
+   * Delays the next retry of failed writes, doubling the delay each time up to {@link #MAX_BACKOFF}.
+   */
+  private void backOff() {
+    retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoff);
+    backoff = Math.min(backoff * 2, MAX_BACKOFF);
+  }
+
+  private void flushQuietly() {
+    if(stalled && System.nanoTime() - retryAt < 0) {
+      scheduled.set(false);
+      return;
+    }
+
+    try {
+      flush(false);
+    } catch(IOException e) {
+      failure = e;
+    }
+  }
+
+  /**
+   * @return The failure of the last background flush, or null if it succeeded.
+   */
+  public IOException failure() {
+    return failure;
+  }
+
+  /**
+   * @return The number of balances currently queued.
+   */
+  public int pending() {
+    return pending.get();
+  }
+
+  /**
+   * @return The number of balances that failed to be written and are waiting to be retried.
+   */
+  public synchronized int quarantined() {
+    return quarantined.size();
+  }
+
+  /**
+   * @return The number of changes reported through {@link #mark(DirtyBalance)}.
+   */
+  public long marks() {
+    return marks.sum();
+  }
+
+  /**
+   * @return The number of balances written to the storage. The difference to {@link #marks()} is the number of writes
+   * saved by coalescing.
+   */
+  public long written() {
+    return written.sum();
+  }
+
+  /**
+   * Stops the background thread and drains every queued change synchronously. The storage itself is left open.
+   * @throws IOException If the remaining changes can't be written.
+   */
+  @Override
+  public void close() throws IOException {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(30, TimeUnit.SECONDS);
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  private static final class AccountChange {
+    private final UUID account;
+    private final String name;
+
+    /**
+     * @param name The display name of a created account, or null if the account was deleted.
+     */
+    AccountChange(UUID account, String name) {
+      this.account = account;
+      this.name = name;
+    }
+  }
+}
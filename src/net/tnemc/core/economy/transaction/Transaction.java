@@ -1,6 +1,8 @@
 package net.tnemc.core.economy.transaction;
 
 import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.EconomyAPI;
 import net.tnemc.core.economy.ExtendedEconomyAPI;
 import net.tnemc.core.economy.currency.CurrencyEntry;
 import net.tnemc.core.economy.transaction.charge.TransactionCharge;
@@ -119,16 +121,41 @@ public interface Transaction {
    * @return The {@link TransactionResult} of the transaction.
    */
   default TransactionResult perform() {
-    if(Reserve.instance().economyProvided() && Reserve.instance().economy().supportTransactions()) {
-      ExtendedEconomyAPI api = (ExtendedEconomyAPI)Reserve.instance().economy();
-      CurrencyEntry recipientInitial = recipientCharge().getEntry();
-      recipientInitial.setAmount(api.getAccount(recipient()).getHoldings(recipientInitial.getWorld(), recipientInitial.getCurrency()));
-      setRecipientBalance(recipientInitial);
-
-      CurrencyEntry initiatorInitial = recipientCharge().getEntry();
-      initiatorInitial.setAmount(api.getAccount(initiator()).getHoldings(initiatorInitial.getWorld(), initiatorInitial.getCurrency()));
-      setInitiatorBalance(initiatorInitial);
+    EconomyAPI economy = Reserve.instance().economy();
+    if(economy != null && economy.supportTransactions()) {
+      ExtendedEconomyAPI api = (ExtendedEconomyAPI)economy;
+      TransactionAffected affected = type().affected();
+
+      Account initiatorAccount = (affected.initiator())? api.getAccount(initiator()) : null;
+      Account recipientAccount = (affected.recipient())? api.getAccount(recipient()) : null;
+      return perform(initiatorAccount, recipientAccount);
     }
-    return type().perform(this);
+    return type().fail();
+  }
+
+  /**
+   * Performs the actual transaction logic on accounts that have already been resolved, so neither is looked up again.
+   * @param initiatorAccount The initiator's {@link Account}, or null if the initiator isn't affected.
+   * @param recipientAccount The recipient's {@link Account}, or null if the recipient isn't affected.
+   * @return The {@link TransactionResult} of the transaction.
+   */
+  default TransactionResult perform(Account initiatorAccount, Account recipientAccount) {
+    setInitiatorBalance(snapshot(initiatorAccount, initiatorCharge()));
+    setRecipientBalance(snapshot(recipientAccount, recipientCharge()));
+    return TransactionType.dispatch(type(), this, initiatorAccount, recipientAccount);
+  }
+
+  /**
+   * Creates a copy of a charge's {@link CurrencyEntry} holding an account's balance, leaving the charge untouched.
+   * @param account The {@link Account} to snapshot, may be null.
+   * @param charge The {@link TransactionCharge} whose world and currency are used, may be null.
+   * @return The {@link CurrencyEntry} containing the account's balance, or null if there's nothing to snapshot.
+   */
+  static CurrencyEntry snapshot(Account account, TransactionCharge charge) {
+    if(account == null || charge == null) {
+      return null;
+    }
+    CurrencyEntry entry = charge.getEntry();
+    return entry.copy(account.getHoldings(entry.getWorld(), entry.getCurrency()));
   }
 }
\ No newline at end of file
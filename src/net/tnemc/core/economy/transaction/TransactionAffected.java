@@ -7,5 +7,19 @@ package net.tnemc.core.economy.transaction;
 public enum TransactionAffected {
   INITIATOR,
   RECIPIENT,
-  BOTH
+  BOTH;
+
+  /**
+   * @return True if the initiator's account is charged.
+   */
+  public boolean initiator() {
+    return this != RECIPIENT;
+  }
+
+  /**
+   * @return True if the recipient's account is charged.
+   */
+  public boolean recipient() {
+    return this != INITIATOR;
+  }
 }
\ No newline at end of file
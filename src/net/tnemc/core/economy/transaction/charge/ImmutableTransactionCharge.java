@@ -0,0 +1,117 @@
+package net.tnemc.core.economy.transaction.charge;
+
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.currency.CurrencyEntry;
+import net.tnemc.core.economy.currency.CurrencyUnits;
+import net.tnemc.core.economy.currency.ImmutableCurrencyEntry;
+
+import java.math.BigDecimal;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public final class ImmutableTransactionCharge extends TransactionCharge {
+
+  /**
+   * Marks an amount that doesn't fit into a long once converted to minor units.
+   */
+  private static final long NO_MINOR = Long.MIN_VALUE;
+
+  private final ImmutableTransactionCharge reversed;
+  private final long minor;
+
+  /**
+   * A charge that can't be modified. Its reversed charge is created along with it, so voiding a transaction doesn't
+   * allocate, and the same charge may be shared between any number of transactions.
+   * @param world The name of the world this charge takes place in.
+   * @param currency The {@link Currency} this charge involves.
+   * @param amount The {@link BigDecimal} this charge is for.
+   * @param type The {@link TransactionChargeType} of this charge.
+   */
+  public ImmutableTransactionCharge(String world, Currency currency, BigDecimal amount, TransactionChargeType type) {
+    super(new ImmutableCurrencyEntry(world, currency, amount), type);
+    this.minor = minor(currency, amount);
+    this.reversed = new ImmutableTransactionCharge(this);
+  }
+
+  private ImmutableTransactionCharge(ImmutableTransactionCharge original) {
+    super(original.entry, original.reverse());
+    this.minor = original.minor;
+    this.reversed = original;
+  }
+
+  /**
+   * @param charge A {@link TransactionCharge}.
+   * @return The charge itself if it's already immutable, otherwise an immutable copy of it.
+   */
+  public static ImmutableTransactionCharge of(TransactionCharge charge) {
+    if(charge instanceof ImmutableTransactionCharge) {
+      return (ImmutableTransactionCharge)charge;
+    }
+    return new ImmutableTransactionCharge(charge.getWorld(), charge.getCurrency(), charge.getAmount(), charge.getType());
+  }
+
+  private static long minor(Currency currency, BigDecimal amount) {
+    if(currency == null) {
+      return NO_MINOR;
+    }
+    try {
+      return CurrencyUnits.toMinorExact(amount, currency.decimalPlaces());
+    } catch(ArithmeticException e) {
+      return NO_MINOR;
+    }
+  }
+
+  /**
+   * @return True if {@link #minor()} holds this charge's amount.
+   */
+  public boolean hasMinor() {
+    return minor != NO_MINOR;
+  }
+
+  /**
+   * @return The amount of this charge in minor units of its currency, converted once when the charge was created.
+   */
+  public long minor() {
+    return minor;
+  }
+
+  /**
+   * @return The charge with the opposite {@link TransactionChargeType}.
+   */
+  public ImmutableTransactionCharge reversed() {
+    return reversed;
+  }
+
+  @Override
+  public void setType(TransactionChargeType type) {
+    throw new UnsupportedOperationException("ImmutableTransactionCharge can't be modified.");
+  }
+
+  @Override
+  public void setEntry(CurrencyEntry entry) {
+    throw new UnsupportedOperationException("ImmutableTransactionCharge can't be modified.");
+  }
+
+  @Override
+  public TransactionCharge copy(boolean reverse) {
+    return (reverse)? reversed : this;
+  }
+}
@@ -33,7 +33,11 @@ public class TransactionCharge {
   }
 
   public TransactionCharge(String world, Currency currency, BigDecimal amount, TransactionChargeType type) {
-    this.entry = new CurrencyEntry(world, currency, amount);
+    this(new CurrencyEntry(world, currency, amount), type);
+  }
+
+  protected TransactionCharge(CurrencyEntry entry, TransactionChargeType type) {
+    this.entry = entry;
     this.type = type;
   }
 
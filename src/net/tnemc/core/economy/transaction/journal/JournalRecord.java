@@ -0,0 +1,229 @@
+package net.tnemc.core.economy.transaction.journal;
+
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.currency.Currency;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.charge.ImmutableTransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionChargeType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public final class JournalRecord {
+
+  static final byte PERFORMED = 1;
+  static final byte VOIDED = 2;
+
+  private final byte kind;
+  private final UUID id;
+  private final long time;
+  private final String type;
+  private final String initiator;
+  private final String recipient;
+  private final Charge initiatorCharge;
+  private final Charge recipientCharge;
+
+  private JournalRecord(byte kind, UUID id, long time, String type, String initiator, String recipient,
+                        Charge initiatorCharge, Charge recipientCharge) {
+    this.kind = kind;
+    this.id = id;
+    this.time = time;
+    this.type = type;
+    this.initiator = initiator;
+    this.recipient = recipient;
+    this.initiatorCharge = initiatorCharge;
+    this.recipientCharge = recipientCharge;
+  }
+
+  static JournalRecord performed(Transaction transaction) {
+    return new JournalRecord(PERFORMED, transaction.transactionID(), transaction.time(), transaction.type().name(),
+                             transaction.initiator(), transaction.recipient(),
+                             Charge.of(transaction.initiatorCharge()), Charge.of(transaction.recipientCharge()));
+  }
+
+  static JournalRecord voided(UUID id, long time) {
+    return new JournalRecord(VOIDED, id, time, null, null, null, null, null);
+  }
+
+  /**
+   * @return True if this record marks an earlier transaction as voided, rather than describing a performed one.
+   */
+  public boolean isVoidMarker() {
+    return kind == VOIDED;
+  }
+
+  public UUID id() {
+    return id;
+  }
+
+  public long time() {
+    return time;
+  }
+
+  /**
+   * @return The name of the transaction's {@link net.tnemc.core.economy.transaction.type.TransactionType}.
+   */
+  public String type() {
+    return type;
+  }
+
+  public String initiator() {
+    return initiator;
+  }
+
+  public String recipient() {
+    return recipient;
+  }
+
+  public Charge initiatorCharge() {
+    return initiatorCharge;
+  }
+
+  public Charge recipientCharge() {
+    return recipientCharge;
+  }
+
+  void write(DataOutput out) throws IOException {
+    out.writeByte(kind);
+    out.writeLong(id.getMostSignificantBits());
+    out.writeLong(id.getLeastSignificantBits());
+    out.writeLong(time);
+    if(kind == PERFORMED) {
+      writeString(out, type);
+      writeString(out, initiator);
+      writeString(out, recipient);
+      Charge.write(out, initiatorCharge);
+      Charge.write(out, recipientCharge);
+    }
+  }
+
+  static JournalRecord read(DataInput in) throws IOException {
+    byte kind = in.readByte();
+    UUID id = new UUID(in.readLong(), in.readLong());
+    long time = in.readLong();
+    if(kind == VOIDED) {
+      return voided(id, time);
+    }
+    if(kind != PERFORMED) {
+      throw new IOException("Unknown journal record kind " + kind);
+    }
+    return new JournalRecord(kind, id, time, readString(in), readString(in), readString(in),
+                             Charge.read(in), Charge.read(in));
+  }
+
+  private static void writeString(DataOutput out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if(value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    return (in.readBoolean())? in.readUTF() : null;
+  }
+
+  /**
+   * The journaled form of a {@link TransactionCharge}. The currency is stored by name, and resolved against the
+   * active economy provider when the charge is rebuilt. The world and currency may be null, a charge without a known
+   * currency is rebuilt with the default one.
+   */
+  public static final class Charge {
+
+    private final String world;
+    private final String currency;
+    private final BigDecimal amount;
+    private final TransactionChargeType chargeType;
+
+    private Charge(String world, String currency, BigDecimal amount, TransactionChargeType chargeType) {
+      this.world = world;
+      this.currency = currency;
+      this.amount = amount;
+      this.chargeType = chargeType;
+    }
+
+    static Charge of(TransactionCharge charge) {
+      if(charge == null) {
+        return null;
+      }
+      Currency currency = charge.getCurrency();
+      return new Charge(charge.getWorld(), (currency != null)? currency.name() : null, charge.getAmount(), charge.getType());
+    }
+
+    public String world() {
+      return world;
+    }
+
+    public String currency() {
+      return currency;
+    }
+
+    public BigDecimal amount() {
+      return amount;
+    }
+
+    public TransactionChargeType chargeType() {
+      return chargeType;
+    }
+
+    /**
+     * Rebuilds the {@link TransactionCharge} this charge was recorded from.
+     * @param economy The {@link ExtendedEconomyAPI} used to resolve the currency.
+     * @return The {@link TransactionCharge}.
+     */
+    public TransactionCharge toCharge(ExtendedEconomyAPI economy) {
+      Currency resolved = economy.getCurrency(currency, world);
+      return new ImmutableTransactionCharge(world, (resolved != null)? resolved : economy.getDefault(world), amount, chargeType);
+    }
+
+    static void write(DataOutput out, Charge charge) throws IOException {
+      out.writeBoolean(charge != null);
+      if(charge != null) {
+        writeString(out, charge.world);
+        writeString(out, charge.currency);
+        byte[] unscaled = charge.amount.unscaledValue().toByteArray();
+        out.writeInt(charge.amount.scale());
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+        out.writeByte(charge.chargeType.ordinal());
+      }
+    }
+
+    static Charge read(DataInput in) throws IOException {
+      if(!in.readBoolean()) {
+        return null;
+      }
+      String world = readString(in);
+      String currency = readString(in);
+      int scale = in.readInt();
+      byte[] unscaled = new byte[in.readShort()];
+      in.readFully(unscaled);
+      TransactionChargeType type = TransactionChargeType.values()[in.readByte()];
+      return new Charge(world, currency, new BigDecimal(new BigInteger(unscaled), scale), type);
+    }
+  }
+}
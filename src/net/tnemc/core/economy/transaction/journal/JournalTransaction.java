@@ -0,0 +1,151 @@
+package net.tnemc.core.economy.transaction.journal;
+
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.currency.CurrencyEntry;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+
+import java.util.UUID;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class JournalTransaction implements Transaction {
+
+  private final TransactionJournal journal;
+  private final JournalRecord record;
+  private final TransactionType type;
+
+  private TransactionCharge initiatorCharge;
+  private TransactionCharge recipientCharge;
+  private CurrencyEntry initiatorBalance;
+  private CurrencyEntry recipientBalance;
+  private boolean voided;
+
+  /**
+   * A {@link Transaction} rebuilt from the journal. Voiding it appends a void marker to the journal, so the void
+   * survives a restart.
+   * @param journal The {@link TransactionJournal} the record was read from.
+   * @param record The {@link JournalRecord} of the performed transaction.
+   * @param economy The {@link ExtendedEconomyAPI} used to resolve the transaction type and currencies.
+   */
+  public JournalTransaction(TransactionJournal journal, JournalRecord record, ExtendedEconomyAPI economy) {
+    this.journal = journal;
+    this.record = record;
+    this.type = findType(economy, record.type());
+    this.initiatorCharge = (record.initiatorCharge() != null)? record.initiatorCharge().toCharge(economy) : null;
+    this.recipientCharge = (record.recipientCharge() != null)? record.recipientCharge().toCharge(economy) : null;
+    this.voided = journal.isVoided(record.id());
+  }
+
+  private static TransactionType findType(ExtendedEconomyAPI economy, String name) {
+    for(TransactionType type : economy.getTransactionTypes()) {
+      if(type.name().equalsIgnoreCase(name)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public String initiator() {
+    return record.initiator();
+  }
+
+  @Override
+  public String recipient() {
+    return record.recipient();
+  }
+
+  @Override
+  public CurrencyEntry initiatorBalance() {
+    return initiatorBalance;
+  }
+
+  @Override
+  public void setInitiatorBalance(CurrencyEntry entry) {
+    this.initiatorBalance = entry;
+  }
+
+  @Override
+  public CurrencyEntry recipientBalance() {
+    return recipientBalance;
+  }
+
+  @Override
+  public void setRecipientBalance(CurrencyEntry entry) {
+    this.recipientBalance = entry;
+  }
+
+  @Override
+  public TransactionCharge initiatorCharge() {
+    return initiatorCharge;
+  }
+
+  @Override
+  public void setInitiatorCharge(TransactionCharge charge) {
+    this.initiatorCharge = charge;
+  }
+
+  @Override
+  public TransactionCharge recipientCharge() {
+    return recipientCharge;
+  }
+
+  @Override
+  public void setRecipientCharge(TransactionCharge charge) {
+    this.recipientCharge = charge;
+  }
+
+  @Override
+  public boolean voided() {
+    return voided;
+  }
+
+  @Override
+  public void setVoided(boolean voided) {
+    if(voided && !this.voided) {
+      journal.markVoided(record.id());
+    }
+    this.voided = voided;
+  }
+
+  @Override
+  public boolean voidTransaction() {
+    //The transaction type may belong to a plugin that is no longer installed.
+    return type != null && Transaction.super.voidTransaction();
+  }
+
+  @Override
+  public UUID transactionID() {
+    return record.id();
+  }
+
+  @Override
+  public TransactionType type() {
+    return type;
+  }
+
+  @Override
+  public long time() {
+    return record.time();
+  }
+}
@@ -0,0 +1,494 @@
+package net.tnemc.core.economy.transaction.journal;
+
+import net.tnemc.core.economy.transaction.Transaction;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class TransactionJournal implements Closeable {
+
+  private static final String PREFIX = "journal-";
+  private static final String SUFFIX = ".log";
+
+  /**
+   * Every record is framed by its length and a CRC32 of its payload, so a torn write at the end of a segment can be
+   * detected and cut off.
+   */
+  private static final int FRAME_HEADER = 8;
+
+  /**
+   * The most records written before a single fsync.
+   */
+  private static final int MAX_BATCH = 1024;
+
+  /**
+   * Record positions pack the segment number above the offset within the segment.
+   */
+  private static final int SEGMENT_SHIFT = 40;
+
+  /**
+   * The number of record positions kept in memory by default.
+   */
+  public static final int DEFAULT_INDEX_SIZE = 65536;
+
+  /**
+   * The positions of the most recently written or read records. Older records are found by scanning the segments,
+   * newest first, so the memory used by the journal doesn't grow with the number of transactions it holds.
+   */
+  private final Map<UUID, Long> index;
+  private final AtomicInteger size = new AtomicInteger();
+  private final Set<UUID> voided = ConcurrentHashMap.newKeySet();
+  private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+
+  private final File directory;
+  private final long segmentSize;
+  private final Thread writer;
+
+  private volatile boolean running = true;
+
+  /**
+   * Appends hold the read lock while they check {@link #running} and queue their record, and closing takes the write
+   * lock to clear it. Once the journal is closing no record can be queued behind the writer's final drain.
+   */
+  private final ReadWriteLock closing = new ReentrantReadWriteLock();
+
+  //Only touched by the writer thread once the journal has been opened.
+  private int segment;
+  private FileChannel channel;
+
+  /**
+   * Opens the journal in the specified directory, keeping the positions of up to {@link #DEFAULT_INDEX_SIZE} records
+   * in memory.
+   * @param directory The directory holding the journal segments.
+   * @param segmentSize The size in bytes after which a new segment is started.
+   * @throws IOException If the journal could not be opened.
+   */
+  public TransactionJournal(File directory, long segmentSize) throws IOException {
+    this(directory, segmentSize, DEFAULT_INDEX_SIZE);
+  }
+
+  /**
+   * Opens the journal in the specified directory, reading the existing segments to index the most recent
+   * transactions. The index only holds the position of each transaction, the transactions themselves are read from
+   * disk when requested.
+   * @param directory The directory holding the journal segments.
+   * @param segmentSize The size in bytes after which a new segment is started.
+   * @param indexSize The number of record positions kept in memory.
+   * @throws IOException If the journal could not be opened.
+   */
+  public TransactionJournal(File directory, long segmentSize, int indexSize) throws IOException {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.index = Collections.synchronizedMap(new LinkedHashMap<UUID, Long>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+        return size() > indexSize;
+      }
+    });
+
+    if(!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Unable to create journal directory " + directory);
+    }
+
+    List<Integer> segments = segments();
+    for(int number : segments) {
+      final long base = ((long)number) << SEGMENT_SHIFT;
+      long valid = scan(number, (record, offset) -> {
+        if(record.isVoidMarker()) {
+          voided.add(record.id());
+        } else {
+          index.put(record.id(), base | offset);
+          size.incrementAndGet();
+        }
+        return true;
+      });
+      segment = number;
+
+      //Anything after the last intact record was a torn write, remove it so new records follow a valid one.
+      if(valid < file(number).length()) {
+        try(RandomAccessFile file = new RandomAccessFile(file(number), "rw")) {
+          file.setLength(valid);
+        }
+      }
+    }
+
+    if(segments.isEmpty()) {
+      segment = 1;
+    }
+    channel = open(segment);
+
+    writer = new Thread(this::run, "Reserve-Journal");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Appends a performed {@link Transaction} to the journal. The record is encoded immediately, and written together
+   * with any other pending records before a single fsync.
+   * @param transaction The {@link Transaction} to append.
+   * @return A {@link CompletableFuture} that completes once the record has been written to disk.
+   */
+  public CompletableFuture<Void> append(Transaction transaction) {
+    JournalRecord record;
+    try {
+      record = JournalRecord.performed(transaction);
+    } catch(RuntimeException e) {
+      return failed(e);
+    }
+    return enqueue(record);
+  }
+
+  /**
+   * Appends a void marker for a transaction, so it's reported as voided after a restart.
+   * @param id The {@link UUID} of the voided transaction.
+   * @return A {@link CompletableFuture} that completes once the marker has been written to disk.
+   */
+  public CompletableFuture<Void> markVoided(UUID id) {
+    voided.add(id);
+    return enqueue(JournalRecord.voided(id, System.currentTimeMillis()));
+  }
+
+  private CompletableFuture<Void> enqueue(JournalRecord record) {
+    ByteBuffer frame;
+    try {
+      frame = encode(record);
+    } catch(IOException | RuntimeException e) {
+      return failed(e);
+    }
+
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    closing.readLock().lock();
+    try {
+      if(!running) {
+        future.completeExceptionally(new IOException("The transaction journal has been closed."));
+        return future;
+      }
+      queue.add(new Pending(record, frame, future));
+    } finally {
+      closing.readLock().unlock();
+    }
+    return future;
+  }
+
+  private static CompletableFuture<Void> failed(Throwable throwable) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+
+  /**
+   * Note: if the transaction isn't among the recently indexed ones, this scans the journal.
+   * @param id The {@link UUID} of the transaction.
+   * @return True if the journal holds the specified transaction.
+   * @throws IOException If the journal could not be read.
+   */
+  public boolean contains(UUID id) throws IOException {
+    return position(id) != null;
+  }
+
+  /**
+   * @param id The {@link UUID} of the transaction.
+   * @return True if the specified transaction has been voided.
+   */
+  public boolean isVoided(UUID id) {
+    return voided.contains(id);
+  }
+
+  /**
+   * @return The number of transactions held by the journal.
+   */
+  public int size() {
+    return size.get();
+  }
+
+  /**
+   * Reads a transaction from the journal. If the transaction isn't among the recently indexed ones, the segments are
+   * scanned for it, newest first.
+   * @param id The {@link UUID} of the transaction.
+   * @return An {@link Optional} containing the {@link JournalRecord} of the transaction, or an empty {@link Optional}
+   * if the journal doesn't hold it.
+   * @throws IOException If the record could not be read.
+   */
+  public Optional<JournalRecord> read(UUID id) throws IOException {
+    Long position = position(id);
+    if(position == null) {
+      return Optional.empty();
+    }
+
+    int number = (int)(position >>> SEGMENT_SHIFT);
+    long offset = position & ((1L << SEGMENT_SHIFT) - 1);
+    try(RandomAccessFile file = new RandomAccessFile(file(number), "r")) {
+      file.seek(offset);
+      byte[] payload = new byte[file.readInt()];
+      file.readInt();
+      file.readFully(payload);
+      return Optional.of(JournalRecord.read(new DataInputStream(new ByteArrayInputStream(payload))));
+    }
+  }
+
+  /**
+   * Reads every record in the journal in the order it was written, including void markers. This is meant to be used
+   * by providers at startup, for instance to rebuild their own indexes.
+   * @param consumer The {@link Consumer} that receives each {@link JournalRecord}.
+   * @throws IOException If the journal could not be read.
+   */
+  public void replay(Consumer<JournalRecord> consumer) throws IOException {
+    for(int number : segments()) {
+      scan(number, (record, offset) -> {
+        consumer.accept(record);
+        return true;
+      });
+    }
+  }
+
+  private Long position(UUID id) throws IOException {
+    Long position = index.get(id);
+    if(position != null) {
+      return position;
+    }
+
+    List<Integer> segments = segments();
+    for(int i = segments.size() - 1; i >= 0; i--) {
+      final long base = ((long)segments.get(i)) << SEGMENT_SHIFT;
+      final long[] found = { -1L };
+      scan(segments.get(i), (record, offset) -> {
+        if(!record.isVoidMarker() && record.id().equals(id)) {
+          found[0] = offset;
+          return false;
+        }
+        return true;
+      });
+      if(found[0] >= 0) {
+        index.put(id, base | found[0]);
+        return base | found[0];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Writes any pending records, then closes the journal.
+   * @throws IOException If the pending records could not be written.
+   */
+  @Override
+  public void close() throws IOException {
+    closing.writeLock().lock();
+    try {
+      running = false;
+    } finally {
+      closing.writeLock().unlock();
+    }
+    try {
+      writer.join();
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    channel.force(false);
+    channel.close();
+  }
+
+  private void run() {
+    List<Pending> batch = new ArrayList<>();
+    while(running || !queue.isEmpty()) {
+      try {
+        Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if(first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, MAX_BATCH - 1);
+        write(batch);
+      } catch(InterruptedException ignore) {
+        //Keep draining, close() stops the writer through the running flag.
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<Pending> batch) {
+    try {
+      for(Pending pending : batch) {
+        if(channel.position() >= segmentSize) {
+          roll();
+        }
+
+        long offset = channel.position();
+        while(pending.frame.hasRemaining()) {
+          channel.write(pending.frame);
+        }
+
+        if(!pending.record.isVoidMarker()) {
+          index.put(pending.record.id(), (((long)segment) << SEGMENT_SHIFT) | offset);
+          size.incrementAndGet();
+        }
+      }
+      channel.force(false);
+
+      for(Pending pending : batch) {
+        pending.future.complete(null);
+      }
+    } catch(IOException e) {
+      for(Pending pending : batch) {
+        pending.future.completeExceptionally(e);
+      }
+    }
+  }
+
+  private void roll() throws IOException {
+    channel.force(false);
+    channel.close();
+    segment++;
+    channel = open(segment);
+  }
+
+  private FileChannel open(int number) throws IOException {
+    FileChannel opened = FileChannel.open(file(number).toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    opened.position(opened.size());
+    return opened;
+  }
+
+  private File file(int number) {
+    return new File(directory, String.format("%s%08d%s", PREFIX, number, SUFFIX));
+  }
+
+  private List<Integer> segments() {
+    List<Integer> segments = new ArrayList<>();
+    String[] names = directory.list();
+    if(names != null) {
+      for(String name : names) {
+        if(name.startsWith(PREFIX) && name.endsWith(SUFFIX)) {
+          try {
+            segments.add(Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length())));
+          } catch(NumberFormatException ignore) {
+          }
+        }
+      }
+    }
+    Collections.sort(segments);
+    return segments;
+  }
+
+  /**
+   * Reads the intact records of a segment, until the consumer returns false.
+   * @return The offset just past the last record read.
+   */
+  private long scan(int number, RecordConsumer consumer) throws IOException {
+    long offset = 0;
+    try(FileChannel read = FileChannel.open(file(number).toPath(), StandardOpenOption.READ);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(read)))) {
+      CRC32 crc = new CRC32();
+      while(true) {
+        byte[] payload;
+        int checksum;
+        try {
+          int length = in.readInt();
+          checksum = in.readInt();
+          if(length < 0 || offset + FRAME_HEADER + length > read.size()) {
+            break;
+          }
+          payload = new byte[length];
+          in.readFully(payload);
+        } catch(EOFException e) {
+          break;
+        }
+
+        crc.reset();
+        crc.update(payload, 0, payload.length);
+        if((int)crc.getValue() != checksum) {
+          break;
+        }
+
+        boolean more = consumer.accept(JournalRecord.read(new DataInputStream(new ByteArrayInputStream(payload))), offset);
+        offset += FRAME_HEADER + payload.length;
+        if(!more) {
+          break;
+        }
+      }
+    }
+    return offset;
+  }
+
+  private static ByteBuffer encode(JournalRecord record) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(0);
+    out.writeInt(0);
+    record.write(out);
+    out.flush();
+
+    ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+    int length = frame.capacity() - FRAME_HEADER;
+    CRC32 crc = new CRC32();
+    crc.update(frame.array(), FRAME_HEADER, length);
+    frame.putInt(0, length);
+    frame.putInt(4, (int)crc.getValue());
+    return frame;
+  }
+
+  private interface RecordConsumer {
+    boolean accept(JournalRecord record, long offset) throws IOException;
+  }
+
+  private static final class Pending {
+    final JournalRecord record;
+    final ByteBuffer frame;
+    final CompletableFuture<Void> future;
+
+    Pending(JournalRecord record, ByteBuffer frame, CompletableFuture<Void> future) {
+      this.record = record;
+      this.frame = frame;
+      this.future = future;
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package net.tnemc.core.economy.transaction.pipeline;
+
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class TransactionContext {
+
+  private final Transaction transaction;
+  private final ExtendedEconomyAPI economy;
+
+  private Account initiator;
+  private Account recipient;
+  private TransactionResult result;
+
+  public TransactionContext(Transaction transaction, ExtendedEconomyAPI economy) {
+    this.transaction = transaction;
+    this.economy = economy;
+  }
+
+  public Transaction transaction() {
+    return transaction;
+  }
+
+  public ExtendedEconomyAPI economy() {
+    return economy;
+  }
+
+  /**
+   * @return The initiator's {@link Account}, or null if it hasn't been resolved or isn't affected.
+   */
+  public Account initiator() {
+    return initiator;
+  }
+
+  public void setInitiator(Account initiator) {
+    this.initiator = initiator;
+  }
+
+  /**
+   * @return The recipient's {@link Account}, or null if it hasn't been resolved or isn't affected.
+   */
+  public Account recipient() {
+    return recipient;
+  }
+
+  public void setRecipient(Account recipient) {
+    this.recipient = recipient;
+  }
+
+  /**
+   * @return The {@link TransactionResult} of the transaction, or null if it hasn't been completed yet.
+   */
+  public TransactionResult result() {
+    return result;
+  }
+
+  /**
+   * Completes the transaction with the specified result.
+   * @param result The {@link TransactionResult} of the transaction.
+   */
+  public void complete(TransactionResult result) {
+    this.result = result;
+  }
+
+  public boolean completed() {
+    return result != null;
+  }
+}
@@ -0,0 +1,46 @@
+package net.tnemc.core.economy.transaction.pipeline;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public enum TransactionPhase {
+
+  /**
+   * Resolves the accounts and checks that the transaction may proceed. The first stage that completes the
+   * transaction ends this phase, and skips the charge phase.
+   */
+  VALIDATE,
+
+  /**
+   * Performs the transaction through the economy provider while holding the locks of its accounts, so the provider
+   * records it as well. Only runs if no validation stage completed the transaction.
+   */
+  CHARGE,
+
+  /**
+   * Records the transaction anywhere besides the provider. Always runs, with the result of the earlier phases.
+   */
+  JOURNAL,
+
+  /**
+   * Informs other plugins of the transaction. Always runs, with the result of the earlier phases.
+   */
+  NOTIFY
+}
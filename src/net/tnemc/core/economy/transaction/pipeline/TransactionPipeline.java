@@ -0,0 +1,253 @@
+package net.tnemc.core.economy.transaction.pipeline;
+
+import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.AccountLocks;
+import net.tnemc.core.economy.EconomyAPI;
+import net.tnemc.core.economy.ExtendedEconomyAPI;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.TransactionAffected;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class TransactionPipeline {
+
+  private final Map<TransactionPhase, List<TransactionStage>> stages = new EnumMap<>(TransactionPhase.class);
+
+  /**
+   * Each shard is a single thread with a bounded queue. Transactions are routed by their initiator, so the
+   * transactions of one account are processed in order, without a lock shared by every account.
+   */
+  private final ThreadPoolExecutor[] shards;
+
+  /**
+   * @param shards The number of single threaded shards.
+   * @param queueSize The number of transactions each shard may queue before new ones are rejected.
+   */
+  public TransactionPipeline(int shards, int queueSize) {
+    for(TransactionPhase phase : TransactionPhase.values()) {
+      stages.put(phase, new CopyOnWriteArrayList<>());
+    }
+    addStage(TransactionPhase.VALIDATE, TransactionPipeline::resolve);
+    addStage(TransactionPhase.CHARGE, TransactionPipeline::charge);
+
+    this.shards = new ThreadPoolExecutor[shards];
+    for(int i = 0; i < shards; i++) {
+      final String name = "Reserve-Transactions-" + (i + 1);
+      this.shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /**
+   * Adds a stage to the end of a phase.
+   * @param phase The {@link TransactionPhase} the stage belongs to.
+   * @param stage The {@link TransactionStage} to add.
+   */
+  public void addStage(TransactionPhase phase, TransactionStage stage) {
+    stages.get(phase).add(stage);
+  }
+
+  public boolean removeStage(TransactionPhase phase, TransactionStage stage) {
+    return stages.get(phase).remove(stage);
+  }
+
+  /**
+   * Queues a transaction on the shard of its initiator.
+   * @param transaction The {@link Transaction} to perform.
+   * @return A {@link CompletableFuture} that completes with the {@link TransactionResult}, or exceptionally with a
+   * {@link RejectedExecutionException} if the shard's queue is full.
+   */
+  public CompletableFuture<TransactionResult> submit(Transaction transaction) {
+    Task task = new Task(transaction);
+    try {
+      shard(transaction).execute(task);
+    } catch(RejectedExecutionException e) {
+      task.future.completeExceptionally(e);
+    }
+    return task.future;
+  }
+
+  /**
+   * Runs a transaction through every phase on the calling thread.
+   * @param transaction The {@link Transaction} to perform.
+   * @return The {@link TransactionResult} of the transaction.
+   */
+  public TransactionResult process(Transaction transaction) {
+    EconomyAPI economy = Reserve.instance().economy();
+    if(economy == null || !economy.supportTransactions()) {
+      return transaction.type().fail();
+    }
+
+    TransactionContext context = new TransactionContext(transaction, (ExtendedEconomyAPI)economy);
+    run(TransactionPhase.VALIDATE, context, true);
+    run(TransactionPhase.CHARGE, context, true);
+    if(!context.completed()) {
+      context.complete(transaction.type().fail());
+    }
+    run(TransactionPhase.JOURNAL, context, false);
+    run(TransactionPhase.NOTIFY, context, false);
+    return context.result();
+  }
+
+  /**
+   * Stops accepting transactions, and waits for every queued one to finish. If the shards stop making progress for
+   * five seconds, the transactions still queued are dropped and their futures complete exceptionally with a
+   * {@link RejectedExecutionException}, so no caller waits on a transaction that will never run.
+   */
+  public void shutdown() {
+    for(ThreadPoolExecutor shard : shards) {
+      shard.shutdown();
+    }
+
+    long completed = completed();
+    try {
+      while(!terminated()) {
+        for(ThreadPoolExecutor shard : shards) {
+          shard.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        long now = completed();
+        if(now == completed && !terminated()) {
+          break;
+        }
+        completed = now;
+      }
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    for(ThreadPoolExecutor shard : shards) {
+      for(Runnable dropped : shard.shutdownNow()) {
+        ((Task)dropped).future.completeExceptionally(new RejectedExecutionException("Reserve is shutting down."));
+      }
+    }
+  }
+
+  private long completed() {
+    long completed = 0;
+    for(ThreadPoolExecutor shard : shards) {
+      completed += shard.getCompletedTaskCount();
+    }
+    return completed;
+  }
+
+  private boolean terminated() {
+    for(ThreadPoolExecutor shard : shards) {
+      if(!shard.isTerminated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void run(TransactionPhase phase, TransactionContext context, boolean untilCompleted) {
+    for(TransactionStage stage : stages.get(phase)) {
+      if(untilCompleted && context.completed()) {
+        return;
+      }
+      stage.process(context);
+    }
+  }
+
+  /**
+   * Routes by the initiator's lock stripe, so a name and the {@link java.util.UUID} of the same account land on the
+   * same shard.
+   */
+  private ThreadPoolExecutor shard(Transaction transaction) {
+    String key = (transaction.initiator() != null)? transaction.initiator() : transaction.recipient();
+    return shards[(key != null)? AccountLocks.stripe(key) % shards.length : 0];
+  }
+
+  /**
+   * Fails the transaction early if one of its affected accounts doesn't exist.
+   */
+  private static void resolve(TransactionContext context) {
+    Transaction transaction = context.transaction();
+    TransactionAffected affected = transaction.type().affected();
+
+    if(affected.initiator()) {
+      context.setInitiator(context.economy().getAccount(transaction.initiator()));
+      if(context.initiator() == null) {
+        context.complete(transaction.type().fail());
+        return;
+      }
+    }
+
+    if(affected.recipient()) {
+      context.setRecipient(context.economy().getAccount(transaction.recipient()));
+      if(context.recipient() == null) {
+        context.complete(transaction.type().fail());
+        return;
+      }
+    }
+  }
+
+  /**
+   * Performs the transaction through the provider, so it records it, while holding the locks of both accounts. The
+   * accounts resolved by the validate phase are handed to the provider, so they aren't looked up again. The locks are
+   * taken on the transaction's identifiers, the same keys {@link EconomyAPI#transfer} locks, so transfers and pipeline
+   * transactions on the same account are serialized. The recipient may live on another shard, the locks keep its
+   * balance consistent with the transactions routed there.
+   */
+  private static void charge(TransactionContext context) {
+    Transaction transaction = context.transaction();
+    TransactionAffected affected = transaction.type().affected();
+    context.complete(AccountLocks.locked((affected.initiator())? transaction.initiator() : null,
+                                         (affected.recipient())? transaction.recipient() : null,
+                                         () -> context.economy().performTransaction(transaction, context.initiator(),
+                                                                                    context.recipient())));
+  }
+
+  /**
+   * A queued transaction, which keeps its future so it can be failed if the transaction is dropped on shutdown.
+   */
+  private final class Task implements Runnable {
+
+    private final CompletableFuture<TransactionResult> future = new CompletableFuture<>();
+    private final Transaction transaction;
+
+    Task(Transaction transaction) {
+      this.transaction = transaction;
+    }
+
+    @Override
+    public void run() {
+      try {
+        future.complete(process(transaction));
+      } catch(Throwable throwable) {
+        future.completeExceptionally(throwable);
+      }
+    }
+  }
+}
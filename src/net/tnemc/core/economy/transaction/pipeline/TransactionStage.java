@@ -0,0 +1,31 @@
+package net.tnemc.core.economy.transaction.pipeline;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public interface TransactionStage {
+
+  /**
+   * Processes a transaction that is passing through the {@link TransactionPipeline}.
+   * @param context The {@link TransactionContext} of the transaction. Stages in the validate and charge phases end the
+   * transaction by calling {@link TransactionContext#complete(net.tnemc.core.economy.transaction.result.TransactionResult)}.
+   */
+  void process(TransactionContext context);
+}
@@ -0,0 +1,179 @@
+package net.tnemc.core.economy.transaction.store;
+
+import net.tnemc.core.economy.transaction.Transaction;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class MemoryTransactionStore implements TransactionStore {
+
+  private static final UUID LOWEST = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+  private final Map<UUID, Transaction> transactions = new ConcurrentHashMap<>();
+
+  /*
+   * Every index is ordered by time, so a range query is a view over part of a skip list rather than a copy.
+   */
+  private final ConcurrentNavigableMap<Key, Transaction> byTime = new ConcurrentSkipListMap<>();
+  private final Map<String, ConcurrentNavigableMap<Key, Transaction>> byInitiator = new ConcurrentHashMap<>();
+  private final Map<String, ConcurrentNavigableMap<Key, Transaction>> byRecipient = new ConcurrentHashMap<>();
+  private final Map<String, ConcurrentNavigableMap<Key, Transaction>> byAccount = new ConcurrentHashMap<>();
+  private final Map<String, ConcurrentNavigableMap<Key, Transaction>> byType = new ConcurrentHashMap<>();
+
+  @Override
+  public void add(Transaction transaction) {
+    if(transactions.putIfAbsent(transaction.transactionID(), transaction) != null) {
+      return;
+    }
+
+    Key key = new Key(transaction.time(), transaction.transactionID());
+    byTime.put(key, transaction);
+    index(byInitiator, transaction.initiator(), key, transaction);
+    index(byRecipient, transaction.recipient(), key, transaction);
+    index(byAccount, transaction.initiator(), key, transaction);
+    index(byAccount, transaction.recipient(), key, transaction);
+    index(byType, typeName(transaction), key, transaction);
+  }
+
+  @Override
+  public Optional<Transaction> get(UUID id) {
+    return Optional.ofNullable(transactions.get(id));
+  }
+
+  @Override
+  public boolean remove(UUID id) {
+    Transaction transaction = transactions.remove(id);
+    if(transaction == null) {
+      return false;
+    }
+
+    Key key = new Key(transaction.time(), id);
+    byTime.remove(key);
+    unindex(byInitiator, transaction.initiator(), key);
+    unindex(byRecipient, transaction.recipient(), key);
+    unindex(byAccount, transaction.initiator(), key);
+    unindex(byAccount, transaction.recipient(), key);
+    unindex(byType, typeName(transaction), key);
+    return true;
+  }
+
+  @Override
+  public int size() {
+    return transactions.size();
+  }
+
+  @Override
+  public Stream<Transaction> between(long from, long to) {
+    return range(byTime, from, to);
+  }
+
+  @Override
+  public Stream<Transaction> byInitiator(String identifier, long from, long to) {
+    return range(byInitiator.get(identifier), from, to);
+  }
+
+  @Override
+  public Stream<Transaction> byRecipient(String identifier, long from, long to) {
+    return range(byRecipient.get(identifier), from, to);
+  }
+
+  @Override
+  public Stream<Transaction> byType(String type, long from, long to) {
+    return range(byType.get(type.toLowerCase()), from, to);
+  }
+
+  @Override
+  public Stream<Transaction> byAccount(String identifier, long from, long to) {
+    return range(byAccount.get(identifier), from, to);
+  }
+
+  private static String typeName(Transaction transaction) {
+    return (transaction.type() != null)? transaction.type().name().toLowerCase() : null;
+  }
+
+  private static Stream<Transaction> range(NavigableMap<Key, Transaction> index, long from, long to) {
+    if(index == null || from >= to) {
+      return Stream.empty();
+    }
+    return index.subMap(new Key(from, LOWEST), true, new Key(to, LOWEST), false).values().stream();
+  }
+
+  private static void index(Map<String, ConcurrentNavigableMap<Key, Transaction>> indexes, String value,
+                            Key key, Transaction transaction) {
+    if(value != null) {
+      //Added within compute so it can't race with unindex dropping the same, now empty, index.
+      indexes.compute(value, (ignore, index) -> {
+        if(index == null) {
+          index = new ConcurrentSkipListMap<>();
+        }
+        index.put(key, transaction);
+        return index;
+      });
+    }
+  }
+
+  private static void unindex(Map<String, ConcurrentNavigableMap<Key, Transaction>> indexes, String value, Key key) {
+    if(value != null) {
+      indexes.computeIfPresent(value, (ignore, index) -> {
+        index.remove(key);
+        return (index.isEmpty())? null : index;
+      });
+    }
+  }
+
+  /**
+   * Orders transactions by time, using the transaction's {@link UUID} to tell apart transactions performed in the
+   * same millisecond.
+   */
+  private static final class Key implements Comparable<Key> {
+    private final long time;
+    private final UUID id;
+
+    Key(long time, UUID id) {
+      this.time = time;
+      this.id = id;
+    }
+
+    @Override
+    public int compareTo(Key other) {
+      int compare = Long.compare(time, other.time);
+      return (compare != 0)? compare : id.compareTo(other.id);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Key && ((Key)other).time == time && ((Key)other).id.equals(id);
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(time) * 31 + id.hashCode();
+    }
+  }
+}
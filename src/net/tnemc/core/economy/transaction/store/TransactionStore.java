@@ -0,0 +1,116 @@
+package net.tnemc.core.economy.transaction.store;
+
+import net.tnemc.core.economy.transaction.Transaction;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public interface TransactionStore {
+
+  /**
+   * Adds a {@link Transaction} to this store and all of its indexes.
+   * @param transaction The {@link Transaction} to add.
+   */
+  void add(Transaction transaction);
+
+  /**
+   * @param id The {@link UUID} of the transaction.
+   * @return An {@link Optional} containing the {@link Transaction}, or an empty {@link Optional} if this store
+   * doesn't hold it.
+   */
+  Optional<Transaction> get(UUID id);
+
+  /**
+   * Removes a {@link Transaction} from this store and all of its indexes.
+   * @param id The {@link UUID} of the transaction.
+   * @return True if the transaction was removed, otherwise false.
+   */
+  boolean remove(UUID id);
+
+  /**
+   * @return The number of transactions held by this store.
+   */
+  int size();
+
+  /**
+   * Streams the transactions performed within a time range, ordered by {@link Transaction#time()}.
+   * @param from The earliest time to include, in milliseconds.
+   * @param to The time to stop at, in milliseconds. Transactions performed at this time are excluded.
+   * @return A {@link Stream} of the matching transactions.
+   */
+  Stream<Transaction> between(long from, long to);
+
+  /**
+   * Streams the transactions started by an account within a time range, ordered by {@link Transaction#time()}.
+   * @param identifier The identifier of the initiator's account, as returned by {@link Transaction#initiator()}.
+   * @param from The earliest time to include, in milliseconds.
+   * @param to The time to stop at, in milliseconds. Transactions performed at this time are excluded.
+   * @return A {@link Stream} of the matching transactions.
+   */
+  Stream<Transaction> byInitiator(String identifier, long from, long to);
+
+  /**
+   * Streams the transactions received by an account within a time range, ordered by {@link Transaction#time()}.
+   * @param identifier The identifier of the recipient's account, as returned by {@link Transaction#recipient()}.
+   * @param from The earliest time to include, in milliseconds.
+   * @param to The time to stop at, in milliseconds. Transactions performed at this time are excluded.
+   * @return A {@link Stream} of the matching transactions.
+   */
+  Stream<Transaction> byRecipient(String identifier, long from, long to);
+
+  /**
+   * Streams the transactions of a type within a time range, ordered by {@link Transaction#time()}.
+   * @param type The name of the {@link net.tnemc.core.economy.transaction.type.TransactionType}.
+   * @param from The earliest time to include, in milliseconds.
+   * @param to The time to stop at, in milliseconds. Transactions performed at this time are excluded.
+   * @return A {@link Stream} of the matching transactions.
+   */
+  Stream<Transaction> byType(String type, long from, long to);
+
+  /**
+   * Streams the transactions an account took part in, either as the initiator or the recipient, within a time
+   * range.
+   * @param identifier The identifier of the account.
+   * @param from The earliest time to include, in milliseconds.
+   * @param to The time to stop at, in milliseconds. Transactions performed at this time are excluded.
+   * @return A {@link Stream} of the matching transactions.
+   */
+  default Stream<Transaction> byAccount(String identifier, long from, long to) {
+    return Stream.concat(byInitiator(identifier, from, to),
+                         byRecipient(identifier, from, to).filter(transaction -> !identifier.equals(transaction.initiator())));
+  }
+
+  /**
+   * Collects a single page of a query.
+   * @param results The {@link Stream} returned by one of the query methods.
+   * @param page The page to collect, starting at 0.
+   * @param size The number of transactions per page.
+   * @return A {@link List} of at most size transactions.
+   */
+  default List<Transaction> page(Stream<Transaction> results, int page, int size) {
+    return results.skip((long)page * size).limit(size).collect(Collectors.toList());
+  }
+}
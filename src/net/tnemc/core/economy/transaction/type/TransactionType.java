@@ -1,9 +1,12 @@
 package net.tnemc.core.economy.transaction.type;
 
 import net.tnemc.core.Reserve;
+import net.tnemc.core.economy.Account;
+import net.tnemc.core.economy.EconomyAPI;
 import net.tnemc.core.economy.ExtendedEconomyAPI;
 import net.tnemc.core.economy.transaction.Transaction;
 import net.tnemc.core.economy.transaction.TransactionAffected;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
 import net.tnemc.core.economy.transaction.result.TransactionResult;
 
 /**
@@ -38,70 +41,124 @@ public interface TransactionType {
   TransactionAffected affected();
 
   /**
-   * Handles the voiding of a transaction.
+   * Handles the voiding of a transaction. The affected accounts are resolved once, and handed to
+   * {@link #voidTransaction(Transaction, Account, Account)}.
    * @param transaction The {@link Transaction} to be voided.
    * @return True if this transaction was voided successfully.
    */
   default boolean voidTransaction(Transaction transaction) {
-    if(Reserve.instance().economyProvided() && Reserve.instance().economy().supportTransactions()) {
-      ExtendedEconomyAPI api = (ExtendedEconomyAPI)Reserve.instance().economy();
-      boolean proceed = false;
-
-      if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.INITIATOR)) {
-        proceed = api.getAccount(transaction.initiator()).canCharge(transaction.initiatorCharge().copy(true));
-      }
-      if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.RECIPIENT)) {
-        if (affected().equals(TransactionAffected.BOTH) && proceed || affected().equals(TransactionAffected.RECIPIENT)) {
-          proceed = api.getAccount(transaction.recipient()).canCharge(transaction.recipientCharge().copy(true));
-        }
-      }
-
-
-      if (proceed) {
-        if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.INITIATOR)) {
-          api.getAccount(transaction.initiator()).handleCharge(transaction.initiatorCharge().copy(true));
-        }
-        if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.RECIPIENT)) {
-          api.getAccount(transaction.recipient()).handleCharge(transaction.recipientCharge().copy(true));
-        }
-        return true;
-      }
+    EconomyAPI economy = Reserve.instance().economy();
+    if(economy != null && economy.supportTransactions()) {
+      ExtendedEconomyAPI api = (ExtendedEconomyAPI)economy;
+      Account initiator = (affected().initiator())? api.getAccount(transaction.initiator()) : null;
+      Account recipient = (affected().recipient())? api.getAccount(transaction.recipient()) : null;
+      return voidTransaction(transaction, initiator, recipient);
     }
     return false;
   }
 
+  /**
+   * Handles the voiding of a transaction using accounts that have already been resolved.
+   * @param transaction The {@link Transaction} to be voided.
+   * @param initiator The initiator's {@link Account}, or null if the initiator isn't affected.
+   * @param recipient The recipient's {@link Account}, or null if the recipient isn't affected.
+   * @return True if this transaction was voided successfully.
+   */
+  default boolean voidTransaction(Transaction transaction, Account initiator, Account recipient) {
+    TransactionCharge initiatorCharge = (affected().initiator())? transaction.initiatorCharge().copy(true) : null;
+    TransactionCharge recipientCharge = (affected().recipient())? transaction.recipientCharge().copy(true) : null;
+
+    return charge(initiator, initiatorCharge, recipient, recipientCharge);
+  }
+
 
   /**
-   * Performs the actual transaction logic.
+   * Performs the actual transaction logic. The affected accounts are resolved once, and handed to
+   * {@link #perform(Transaction, Account, Account)}.
    * @param transaction The {@link Transaction} to perform.
    * @return The {@link TransactionResult} of this {@link Transaction}.
    */
   default TransactionResult perform(Transaction transaction) {
-    if(Reserve.instance().economyProvided() && Reserve.instance().economy().supportTransactions()) {
-      ExtendedEconomyAPI api = (ExtendedEconomyAPI)Reserve.instance().economy();
-      boolean proceed = false;
+    EconomyAPI economy = Reserve.instance().economy();
+    if(economy != null && economy.supportTransactions()) {
+      ExtendedEconomyAPI api = (ExtendedEconomyAPI)economy;
+      Account initiator = (affected().initiator())? api.getAccount(transaction.initiator()) : null;
+      Account recipient = (affected().recipient())? api.getAccount(transaction.recipient()) : null;
+      return perform(transaction, initiator, recipient);
+    }
+    return fail();
+  }
 
-      if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.INITIATOR)) {
-        proceed = api.getAccount(transaction.initiator()).canCharge(transaction.initiatorCharge());
-      }
-      if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.RECIPIENT)) {
-        if (affected().equals(TransactionAffected.BOTH) && proceed || affected().equals(TransactionAffected.RECIPIENT)) {
-          proceed = api.getAccount(transaction.recipient()).canCharge(transaction.recipientCharge());
-        }
-      }
+  /**
+   * Performs the actual transaction logic using accounts that have already been resolved.
+   * @param transaction The {@link Transaction} to perform.
+   * @param initiator The initiator's {@link Account}, or null if the initiator isn't affected.
+   * @param recipient The recipient's {@link Account}, or null if the recipient isn't affected.
+   * @return The {@link TransactionResult} of this {@link Transaction}.
+   */
+  default TransactionResult perform(Transaction transaction, Account initiator, Account recipient) {
+    TransactionCharge initiatorCharge = (affected().initiator())? transaction.initiatorCharge() : null;
+    TransactionCharge recipientCharge = (affected().recipient())? transaction.recipientCharge() : null;
 
+    if(charge(initiator, initiatorCharge, recipient, recipientCharge)) {
+      return success();
+    }
+    return fail();
+  }
 
-      if (proceed) {
-        if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.INITIATOR)) {
-          api.getAccount(transaction.initiator()).handleCharge(transaction.initiatorCharge());
-        }
+  /**
+   * Performs a transaction whose accounts have already been resolved. Transaction types written before the accounts
+   * were handed over override {@link #perform(Transaction)} only, these are still dispatched to it, and resolve the
+   * accounts themselves.
+   * @param type The {@link TransactionType} performing the transaction.
+   * @param transaction The {@link Transaction} to perform.
+   * @param initiator The initiator's {@link Account}, or null if the initiator isn't affected.
+   * @param recipient The recipient's {@link Account}, or null if the recipient isn't affected.
+   * @return The {@link TransactionResult} of the {@link Transaction}.
+   */
+  static TransactionResult dispatch(TransactionType type, Transaction transaction, Account initiator, Account recipient) {
+    if(TransactionTypeMethods.overridesPerform(type)) {
+      return type.perform(transaction);
+    }
+    return type.perform(transaction, initiator, recipient);
+  }
+
+  /**
+   * Charges every affected account. Both charges are checked through {@link Account#canCharge(TransactionCharge)}
+   * before either is applied, and then applied through {@link Account#tryCharge(TransactionCharge)}, which only fails
+   * if an account changed in between. If the recipient can't be charged at that point, the initiator's charge is
+   * reversed.
+   * @return True if the charges were handled, otherwise false.
+   * @throws IllegalStateException If the initiator's charge was applied, and reversing it failed. The initiator's
+   * holdings are then out of balance, and the failure can't be reported as a plain unsuccessful charge.
+   */
+  static boolean charge(Account initiator, TransactionCharge initiatorCharge, Account recipient, TransactionCharge recipientCharge) {
+    if(initiatorCharge != null && (initiator == null || !initiator.canCharge(initiatorCharge))) {
+      return false;
+    }
 
-        if (affected().equals(TransactionAffected.BOTH) || affected().equals(TransactionAffected.RECIPIENT)) {
-          api.getAccount(transaction.recipient()).handleCharge(transaction.recipientCharge());
+    if(recipientCharge != null && (recipient == null || !recipient.canCharge(recipientCharge))) {
+      return false;
+    }
+
+    if(initiatorCharge != null && !initiator.tryCharge(initiatorCharge)) {
+      return false;
+    }
+
+    if(recipientCharge != null && !recipient.tryCharge(recipientCharge)) {
+      if(initiatorCharge != null) {
+        boolean reversed;
+        try {
+          reversed = initiator.handleCharge(initiatorCharge.copy(true));
+        } catch(RuntimeException e) {
+          throw new IllegalStateException("Unable to reverse the charge of " + initiator.identifier() + ".", e);
+        }
+        if(!reversed) {
+          throw new IllegalStateException("Unable to reverse the charge of " + initiator.identifier() + ".");
         }
-        return success();
       }
+      return false;
     }
-    return fail();
+    return true;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package net.tnemc.core.economy.transaction.type;
+
+import net.tnemc.core.economy.transaction.Transaction;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+final class TransactionTypeMethods {
+
+  /**
+   * Whether a {@link TransactionType} class replaces the default {@link TransactionType#perform(Transaction)}. This is
+   * looked up once per class.
+   */
+  private static final ClassValue<Boolean> PERFORM = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        return type.getMethod("perform", Transaction.class).getDeclaringClass() != TransactionType.class;
+      } catch(NoSuchMethodException e) {
+        return false;
+      }
+    }
+  };
+
+  private TransactionTypeMethods() {
+  }
+
+  static boolean overridesPerform(TransactionType type) {
+    return PERFORM.get(type.getClass());
+  }
+}
@@ -0,0 +1,186 @@
+package net.tnemc.core.identifier;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Maps player names to their {@link UUID}s and back, so calls that identify accounts by name can be resolved without
+ * an offline player lookup. Reads are lock-free hash lookups. The index is updated whenever a player joins, and
+ * saved to disk so names stay resolvable for players that are offline.
+ */
+public class IdentifierIndex {
+
+  /**
+   * Maps names to identifiers. Each name is indexed as last seen and in lower case, so lookups with the player's
+   * actual name don't need to allocate a lower case copy.
+   */
+  private final Map<String, UUID> identifiers = new ConcurrentHashMap<>();
+  private final Map<UUID, String> names = new ConcurrentHashMap<>();
+
+  private final File file;
+  private final Object saveLock = new Object();
+  private volatile boolean dirty = false;
+
+  /**
+   * @param file The file the index is loaded from and saved to.
+   */
+  public IdentifierIndex(File file) {
+    this.file = file;
+  }
+
+  /**
+   * @param name The name of a player, in any case.
+   * @return The {@link UUID} of the player, or null if no player with this name has been seen.
+   */
+  public UUID resolve(String name) {
+    if(name == null) return null;
+
+    UUID identifier = identifiers.get(name);
+    return (identifier != null)? identifier : identifiers.get(key(name));
+  }
+
+  /**
+   * @param identifier The {@link UUID} of a player.
+   * @return The last known name of the player, or null if the player hasn't been seen.
+   */
+  public String name(UUID identifier) {
+    return names.get(identifier);
+  }
+
+  /**
+   * Records a player's current name. If the player was known under another name, or another player used to have this
+   * name, the outdated entries are removed.
+   * @param identifier The {@link UUID} of the player.
+   * @param name The player's current name.
+   */
+  public synchronized void update(UUID identifier, String name) {
+    String previous = names.put(identifier, name);
+    if(name.equals(previous)) return;
+
+    if(previous != null) {
+      identifiers.remove(previous, identifier);
+      identifiers.remove(key(previous), identifier);
+    }
+
+    //Names are unique at any given time, so a player that used this name before has since changed theirs.
+    UUID displaced = identifiers.put(key(name), identifier);
+    if(displaced != null && !displaced.equals(identifier)) {
+      String stale = names.remove(displaced);
+      if(stale != null) {
+        identifiers.remove(stale, displaced);
+      }
+    }
+    identifiers.put(name, identifier);
+    dirty = true;
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * Loads the index from its file. Lines that can't be parsed are skipped.
+   * @throws IOException If the file exists but can't be read.
+   */
+  public void load() throws IOException {
+    if(!file.exists()) return;
+
+    try(BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while((line = reader.readLine()) != null) {
+        int split = line.indexOf(' ');
+        if(split <= 0) continue;
+
+        try {
+          update(UUID.fromString(line.substring(0, split)), line.substring(split + 1));
+        } catch(IllegalArgumentException ignore) {
+          //A damaged line only loses one name, which is recorded again when the player next joins.
+        }
+      }
+    }
+    dirty = false;
+  }
+
+  /**
+   * Saves the index to its file if it changed since it was last loaded or saved. The file is replaced atomically, so
+   * a crash during a save leaves the previous version intact.
+   * @throws IOException If the file can't be written.
+   */
+  public void save() throws IOException {
+    //Saves hold their own lock, so players joining meanwhile aren't blocked on disk access.
+    synchronized(saveLock) {
+      if(!dirty) return;
+      dirty = false;
+
+      File parent = file.getAbsoluteFile().getParentFile();
+      if(parent != null && !parent.exists()) {
+        parent.mkdirs();
+      }
+
+      File temporary = new File(file.getPath() + ".tmp");
+      try(BufferedWriter writer = Files.newBufferedWriter(temporary.toPath(), StandardCharsets.UTF_8)) {
+        for(Map.Entry<UUID, String> entry : names.entrySet()) {
+          writer.write(entry.getKey().toString());
+          writer.write(' ');
+          writer.write(entry.getValue());
+          writer.newLine();
+        }
+      } catch(IOException e) {
+        dirty = true;
+        throw e;
+      }
+      Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+  }
+
+  /**
+   * Parses an identifier that may be either a {@link UUID} or a name. Names are rejected by their shape, so they
+   * don't pay for the exception thrown by {@link UUID#fromString(String)}.
+   * @param identifier The identifier to parse.
+   * @return The {@link UUID}, or null if the identifier is a name.
+   */
+  public static UUID parse(String identifier) {
+    if(identifier.length() != 36 || identifier.charAt(8) != '-' || identifier.charAt(13) != '-'
+       || identifier.charAt(18) != '-' || identifier.charAt(23) != '-') {
+      return null;
+    }
+    try {
+      return UUID.fromString(identifier);
+    } catch(IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static String key(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
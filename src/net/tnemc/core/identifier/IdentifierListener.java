@@ -0,0 +1,44 @@
+package net.tnemc.core.identifier;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+/**
+ * Records the name of every player that joins in an {@link IdentifierIndex}.
+ */
+public class IdentifierListener implements Listener {
+
+  private final IdentifierIndex index;
+
+  public IdentifierListener(IdentifierIndex index) {
+    this.index = index;
+  }
+
+  //Runs first, so economy plugins that create accounts on join can already resolve the player's name.
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void onJoin(PlayerJoinEvent event) {
+    index.update(event.getPlayer().getUniqueId(), event.getPlayer().getName());
+  }
+}
@@ -0,0 +1,268 @@
+package net.tnemc.core.economy.storage;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class MappedEconomyStorageTest {
+
+  private File directory;
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("storage").toFile();
+    file = new File(directory, "balances.dat");
+  }
+
+  @After
+  public void tearDown() {
+    File[] files = directory.listFiles();
+    if(files != null) {
+      for(File child : files) {
+        child.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void balancesSurviveReopening() throws IOException {
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      storage.write(alice, "Alice", "world", "Dollar", 1234L);
+      storage.write(alice, "Alice", "world_nether", "Dollar", -56L);
+      storage.write(bob, "Bob", "world", "Dollar", 0L);
+      storage.write(bob, "Bob", "world", "Dollar", 789L);
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      assertEquals(2, storage.size());
+
+      Map<String, Long> balances = balances(storage);
+      assertEquals(3, balances.size());
+      assertEquals(Long.valueOf(1234L), balances.get(alice + "/Alice/world/Dollar"));
+      assertEquals(Long.valueOf(-56L), balances.get(alice + "/Alice/world_nether/Dollar"));
+      assertEquals(Long.valueOf(789L), balances.get(bob + "/Bob/world/Dollar"));
+    }
+  }
+
+  @Test
+  public void accountsWithoutBalancesAreKept() throws IOException {
+    UUID alice = UUID.randomUUID();
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      storage.create(alice, "Alice");
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      Map<UUID, String> accounts = accounts(storage);
+      assertEquals(1, accounts.size());
+      assertEquals("Alice", accounts.get(alice));
+      assertTrue(balances(storage).isEmpty());
+    }
+  }
+
+  @Test
+  public void longNamesAreCutAtACharacterBoundary() throws IOException {
+    UUID account = UUID.randomUUID();
+    StringBuilder name = new StringBuilder();
+    for(int i = 0; i < 40; i++) {
+      name.append('é');
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      storage.create(account, name.toString());
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      assertEquals(name.substring(0, 31), accounts(storage).get(account));
+    }
+  }
+
+  @Test
+  public void recordsGrowPastTheColumnLimit() throws IOException {
+    UUID account = UUID.randomUUID();
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 1)) {
+      for(int i = 0; i < 70; i++) {
+        storage.write(account, "Alice", "world" + i, "Dollar", i);
+      }
+      assertTrue(storage.columnLimit() >= 70);
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 1)) {
+      assertTrue(storage.columnLimit() >= 70);
+
+      Map<String, Long> balances = balances(storage);
+      assertEquals(70, balances.size());
+      for(int i = 0; i < 70; i++) {
+        assertEquals(Long.valueOf(i), balances.get(account + "/Alice/world" + i + "/Dollar"));
+      }
+    }
+    assertFalse(new File(directory, "balances.dat.grow").exists());
+  }
+
+  @Test
+  public void headerGrowsForLongColumnNames() throws IOException {
+    UUID account = UUID.randomUUID();
+    StringBuilder world = new StringBuilder();
+    for(int i = 0; i < 1000; i++) {
+      world.append('w');
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 64)) {
+      for(int i = 0; i < 40; i++) {
+        storage.write(account, "Alice", world.toString() + i, "Dollar", i);
+      }
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 64)) {
+      Map<String, Long> balances = balances(storage);
+      assertEquals(40, balances.size());
+      assertEquals(Long.valueOf(39L), balances.get(account + "/Alice/" + world + "39/Dollar"));
+    }
+  }
+
+  @Test
+  public void recordsGrowPastTheInitialCapacity() throws IOException {
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      for(int i = 0; i < 3000; i++) {
+        storage.write(new UUID(0L, i), "Player" + i, "world", "Dollar", i);
+      }
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      assertEquals(3000, storage.size());
+      assertEquals(Long.valueOf(2999L), balances(storage).get(new UUID(0L, 2999) + "/Player2999/world/Dollar"));
+    }
+  }
+
+  @Test
+  public void stagedGrowthIsAppliedOnOpen() throws IOException {
+    UUID account = UUID.randomUUID();
+
+    //Build the grown file elsewhere, then leave it beside an older storage file as a crash after staging would.
+    File grown = new File(directory, "grown.dat");
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(grown, 1)) {
+      storage.write(account, "Alice", "world", "Dollar", 10L);
+      storage.write(account, "Alice", "world_nether", "Dollar", 20L);
+    }
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 1)) {
+      storage.write(account, "Alice", "world", "Dollar", 10L);
+    }
+    Files.move(grown.toPath(), new File(directory, "balances.dat.grow").toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+    //An incomplete staging file is ignored.
+    Files.write(new File(directory, "balances.dat.grow.tmp").toPath(), new byte[] { 1, 2, 3 });
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 1)) {
+      assertTrue(storage.columnLimit() >= 2);
+
+      Map<String, Long> balances = balances(storage);
+      assertEquals(2, balances.size());
+      assertEquals(Long.valueOf(20L), balances.get(account + "/Alice/world_nether/Dollar"));
+    }
+    assertFalse(new File(directory, "balances.dat.grow").exists());
+    assertFalse(new File(directory, "balances.dat.grow.tmp").exists());
+  }
+
+  @Test
+  public void deletedRecordsAreReused() throws IOException {
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+    UUID carol = UUID.randomUUID();
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      storage.write(alice, "Alice", "world", "Dollar", 1L);
+      storage.write(bob, "Bob", "world", "Dollar", 2L);
+      storage.delete(alice);
+    }
+
+    long length = file.length();
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      assertEquals(1, storage.size());
+      assertFalse(accounts(storage).containsKey(alice));
+
+      storage.create(carol, "Carol");
+      assertEquals(2, storage.size());
+    }
+    assertEquals(length, file.length());
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      Map<UUID, String> accounts = accounts(storage);
+      assertEquals(2, accounts.size());
+      assertEquals("Carol", accounts.get(carol));
+
+      //The reused record doesn't carry the deleted account's balances.
+      Map<String, Long> balances = balances(storage);
+      assertEquals(1, balances.size());
+      assertEquals(Long.valueOf(2L), balances.get(bob + "/Bob/world/Dollar"));
+    }
+  }
+
+  @Test
+  public void clearRemovesEveryAccount() throws IOException {
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      storage.write(UUID.randomUUID(), "Alice", "world", "Dollar", 1L);
+      storage.write(UUID.randomUUID(), "Bob", "world", "Dollar", 2L);
+      storage.clear();
+    }
+
+    try(MappedEconomyStorage storage = new MappedEconomyStorage(file, 4)) {
+      assertEquals(0, storage.size());
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void foreignFilesAreRejected() throws IOException {
+    Files.write(file.toPath(), new byte[64]);
+    new MappedEconomyStorage(file, 4).close();
+  }
+
+  private static Map<String, Long> balances(MappedEconomyStorage storage) {
+    Map<String, Long> balances = new HashMap<>();
+    storage.load((account, name, world, currency, minor) -> balances.put(account + "/" + name + "/" + world + "/" + currency, minor));
+    return balances;
+  }
+
+  private static Map<UUID, String> accounts(MappedEconomyStorage storage) {
+    Map<UUID, String> accounts = new HashMap<>();
+    storage.accounts(accounts::put);
+    return accounts;
+  }
+}
@@ -0,0 +1,459 @@
+package net.tnemc.core.economy.transaction.journal;
+
+import net.tnemc.core.economy.currency.CurrencyEntry;
+import net.tnemc.core.economy.memory.MemoryCurrency;
+import net.tnemc.core.economy.transaction.Transaction;
+import net.tnemc.core.economy.transaction.TransactionAffected;
+import net.tnemc.core.economy.transaction.charge.ImmutableTransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionCharge;
+import net.tnemc.core.economy.transaction.charge.TransactionChargeType;
+import net.tnemc.core.economy.transaction.result.TransactionResult;
+import net.tnemc.core.economy.transaction.type.TransactionType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class TransactionJournalTest {
+
+  private static final long SEGMENT_SIZE = 1024 * 1024;
+
+  private static final MemoryCurrency DOLLAR = new MemoryCurrency("Dollar", "Dollars", "$", 2, true, BigDecimal.ZERO);
+
+  private static final TransactionType PAY = new TransactionType() {
+    @Override
+    public String name() {
+      return "Pay";
+    }
+
+    @Override
+    public boolean console() {
+      return false;
+    }
+
+    @Override
+    public TransactionResult success() {
+      return null;
+    }
+
+    @Override
+    public TransactionResult fail() {
+      return null;
+    }
+
+    @Override
+    public TransactionAffected affected() {
+      return TransactionAffected.BOTH;
+    }
+  };
+
+  private File directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("journal").toFile();
+  }
+
+  @After
+  public void tearDown() {
+    File[] files = directory.listFiles();
+    if(files != null) {
+      for(File file : files) {
+        file.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void recordsSurviveReopening() throws Exception {
+    TestTransaction transaction = new TestTransaction("Alice", "Bob", "12.34");
+    TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    journal.append(transaction).get(5, TimeUnit.SECONDS);
+    journal.close();
+
+    journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    try {
+      assertEquals(1, journal.size());
+      assertTrue(journal.contains(transaction.transactionID()));
+
+      JournalRecord record = journal.read(transaction.transactionID()).orElse(null);
+      assertNotNull(record);
+      assertFalse(record.isVoidMarker());
+      assertEquals(transaction.time(), record.time());
+      assertEquals("Pay", record.type());
+      assertEquals("Alice", record.initiator());
+      assertEquals("Bob", record.recipient());
+
+      assertCharge(transaction.initiatorCharge(), record.initiatorCharge());
+      assertCharge(transaction.recipientCharge(), record.recipientCharge());
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void missingChargesAreKept() throws Exception {
+    TestTransaction transaction = new TestTransaction("Alice", null, "5");
+    transaction.setRecipientCharge(null);
+
+    TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    journal.append(transaction).get(5, TimeUnit.SECONDS);
+    journal.close();
+
+    journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    try {
+      JournalRecord record = journal.read(transaction.transactionID()).orElse(null);
+      assertNotNull(record);
+      assertNull(record.recipient());
+      assertNull(record.recipientCharge());
+      assertCharge(transaction.initiatorCharge(), record.initiatorCharge());
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void tornTailIsCutOff() throws Exception {
+    TestTransaction first = new TestTransaction("Alice", "Bob", "1");
+    TestTransaction second = new TestTransaction("Bob", "Alice", "2");
+
+    TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    journal.append(first).get(5, TimeUnit.SECONDS);
+    journal.append(second).get(5, TimeUnit.SECONDS);
+    journal.close();
+
+    File segment = segments().get(0);
+    long intact = segment.length();
+
+    //A frame that claims more payload than was written, as left behind by a crash mid-write.
+    try(RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+      file.seek(intact);
+      file.writeInt(512);
+      file.writeInt(0);
+      file.write(new byte[16]);
+    }
+
+    journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    TestTransaction third = new TestTransaction("Carol", "Alice", "3");
+    try {
+      assertEquals(2, journal.size());
+      assertEquals(intact, segment.length());
+
+      journal.append(third).get(5, TimeUnit.SECONDS);
+    } finally {
+      journal.close();
+    }
+
+    journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    try {
+      assertEquals(3, journal.size());
+      assertEquals("Carol", journal.read(third.transactionID()).get().initiator());
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void corruptedRecordStopsTheScan() throws Exception {
+    TestTransaction first = new TestTransaction("Alice", "Bob", "1");
+    TestTransaction second = new TestTransaction("Bob", "Alice", "2");
+    TestTransaction third = new TestTransaction("Carol", "Bob", "3");
+
+    TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    journal.append(first).get(5, TimeUnit.SECONDS);
+    journal.append(second).get(5, TimeUnit.SECONDS);
+    journal.append(third).get(5, TimeUnit.SECONDS);
+    journal.close();
+
+    //Flip a byte inside the payload of the second record, leaving its length intact.
+    try(RandomAccessFile file = new RandomAccessFile(segments().get(0), "rw")) {
+      long secondOffset = 8 + file.readInt();
+      file.seek(secondOffset + 8 + 4);
+      int value = file.read();
+      file.seek(secondOffset + 8 + 4);
+      file.write(value ^ 0xFF);
+    }
+
+    journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    try {
+      assertEquals(1, journal.size());
+      assertTrue(journal.contains(first.transactionID()));
+      assertFalse(journal.contains(second.transactionID()));
+      assertFalse(journal.contains(third.transactionID()));
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void voidMarkersSurviveReopening() throws Exception {
+    TestTransaction kept = new TestTransaction("Alice", "Bob", "1");
+    TestTransaction voided = new TestTransaction("Bob", "Alice", "2");
+
+    TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    journal.append(kept).get(5, TimeUnit.SECONDS);
+    journal.append(voided).get(5, TimeUnit.SECONDS);
+    journal.markVoided(voided.transactionID()).get(5, TimeUnit.SECONDS);
+    journal.close();
+
+    journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    try {
+      assertEquals(2, journal.size());
+      assertFalse(journal.isVoided(kept.transactionID()));
+      assertTrue(journal.isVoided(voided.transactionID()));
+
+      List<JournalRecord> replayed = new ArrayList<>();
+      journal.replay(replayed::add);
+      assertEquals(3, replayed.size());
+      assertTrue(replayed.get(2).isVoidMarker());
+      assertEquals(voided.transactionID(), replayed.get(2).id());
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void segmentsRollAndReopen() throws Exception {
+    List<TestTransaction> transactions = new ArrayList<>();
+    TransactionJournal journal = new TransactionJournal(directory, 64);
+    for(int i = 0; i < 5; i++) {
+      TestTransaction transaction = new TestTransaction("Player" + i, "Bank", String.valueOf(i));
+      transactions.add(transaction);
+      journal.append(transaction).get(5, TimeUnit.SECONDS);
+    }
+    journal.close();
+
+    assertEquals(5, segments().size());
+
+    journal = new TransactionJournal(directory, 64);
+    try {
+      assertEquals(5, journal.size());
+      for(TestTransaction transaction : transactions) {
+        JournalRecord record = journal.read(transaction.transactionID()).orElse(null);
+        assertNotNull(record);
+        assertEquals(transaction.initiator(), record.initiator());
+      }
+
+      List<JournalRecord> replayed = new ArrayList<>();
+      journal.replay(replayed::add);
+      assertEquals(5, replayed.size());
+      for(int i = 0; i < 5; i++) {
+        assertEquals(transactions.get(i).transactionID(), replayed.get(i).id());
+      }
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void recordsOutsideTheIndexAreScannedFor() throws Exception {
+    List<TestTransaction> transactions = new ArrayList<>();
+    TransactionJournal journal = new TransactionJournal(directory, 256, 2);
+    try {
+      for(int i = 0; i < 10; i++) {
+        TestTransaction transaction = new TestTransaction("Player" + i, "Bank", String.valueOf(i));
+        transactions.add(transaction);
+        journal.append(transaction).get(5, TimeUnit.SECONDS);
+      }
+
+      assertEquals(10, journal.size());
+      for(TestTransaction transaction : transactions) {
+        JournalRecord record = journal.read(transaction.transactionID()).orElse(null);
+        assertNotNull(record);
+        assertEquals(transaction.initiator(), record.initiator());
+      }
+      assertFalse(journal.contains(UUID.randomUUID()));
+    } finally {
+      journal.close();
+    }
+
+    journal = new TransactionJournal(directory, 256, 2);
+    try {
+      assertEquals(10, journal.size());
+      assertTrue(journal.contains(transactions.get(0).transactionID()));
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void chargesWithoutWorldOrCurrencyAreKept() throws Exception {
+    TestTransaction transaction = new TestTransaction("Alice", "Bob", "1");
+    transaction.setInitiatorCharge(new ImmutableTransactionCharge(null, null, BigDecimal.ONE, TransactionChargeType.LOSE));
+
+    TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    journal.append(transaction).get(5, TimeUnit.SECONDS);
+    journal.close();
+
+    journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    try {
+      JournalRecord.Charge charge = journal.read(transaction.transactionID()).get().initiatorCharge();
+      assertNull(charge.world());
+      assertNull(charge.currency());
+      assertEquals(BigDecimal.ONE, charge.amount());
+    } finally {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void appendAfterCloseFails() throws Exception {
+    TransactionJournal journal = new TransactionJournal(directory, SEGMENT_SIZE);
+    journal.close();
+
+    assertTrue(journal.append(new TestTransaction("Alice", "Bob", "1")).isCompletedExceptionally());
+  }
+
+  private List<File> segments() {
+    List<File> segments = new ArrayList<>();
+    File[] files = directory.listFiles((dir, name) -> name.startsWith("journal-") && name.endsWith(".log"));
+    if(files != null) {
+      for(File file : files) {
+        segments.add(file);
+      }
+    }
+    segments.sort(null);
+    return segments;
+  }
+
+  private static void assertCharge(TransactionCharge expected, JournalRecord.Charge actual) {
+    assertNotNull(actual);
+    assertEquals(expected.getWorld(), actual.world());
+    assertEquals(expected.getCurrency().name(), actual.currency());
+    assertEquals(expected.getAmount(), actual.amount());
+    assertEquals(expected.getType(), actual.chargeType());
+  }
+
+  private static class TestTransaction implements Transaction {
+
+    private final UUID transactionID = UUID.randomUUID();
+    private final long time = System.currentTimeMillis();
+
+    private final String initiator;
+    private final String recipient;
+
+    private CurrencyEntry initiatorBalance;
+    private CurrencyEntry recipientBalance;
+    private TransactionCharge initiatorCharge;
+    private TransactionCharge recipientCharge;
+    private boolean voided = false;
+
+    TestTransaction(String initiator, String recipient, String amount) {
+      this.initiator = initiator;
+      this.recipient = recipient;
+      this.initiatorCharge = new ImmutableTransactionCharge("world", DOLLAR, new BigDecimal(amount), TransactionChargeType.LOSE);
+      this.recipientCharge = new ImmutableTransactionCharge("world_nether", DOLLAR, new BigDecimal(amount), TransactionChargeType.GAIN);
+    }
+
+    @Override
+    public String initiator() {
+      return initiator;
+    }
+
+    @Override
+    public String recipient() {
+      return recipient;
+    }
+
+    @Override
+    public CurrencyEntry initiatorBalance() {
+      return initiatorBalance;
+    }
+
+    @Override
+    public void setInitiatorBalance(CurrencyEntry entry) {
+      this.initiatorBalance = entry;
+    }
+
+    @Override
+    public CurrencyEntry recipientBalance() {
+      return recipientBalance;
+    }
+
+    @Override
+    public void setRecipientBalance(CurrencyEntry entry) {
+      this.recipientBalance = entry;
+    }
+
+    @Override
+    public TransactionCharge initiatorCharge() {
+      return initiatorCharge;
+    }
+
+    @Override
+    public void setInitiatorCharge(TransactionCharge charge) {
+      this.initiatorCharge = charge;
+    }
+
+    @Override
+    public TransactionCharge recipientCharge() {
+      return recipientCharge;
+    }
+
+    @Override
+    public void setRecipientCharge(TransactionCharge charge) {
+      this.recipientCharge = charge;
+    }
+
+    @Override
+    public boolean voided() {
+      return voided;
+    }
+
+    @Override
+    public void setVoided(boolean voided) {
+      this.voided = voided;
+    }
+
+    @Override
+    public UUID transactionID() {
+      return transactionID;
+    }
+
+    @Override
+    public TransactionType type() {
+      return PAY;
+    }
+
+    @Override
+    public long time() {
+      return time;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package net.tnemc.core.identifier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Created by agent on 10/17/2026.
+ *
+ * Reserve API
+ *
+ * Copyright (C) 2018 creatorfromhell
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ **/
+public class IdentifierIndexTest {
+
+  private File directory;
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("identifiers").toFile();
+    file = new File(directory, "identifiers.txt");
+  }
+
+  @After
+  public void tearDown() {
+    File[] files = directory.listFiles();
+    if(files != null) {
+      for(File child : files) {
+        child.delete();
+      }
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void namesSurviveReopening() throws IOException {
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+
+    IdentifierIndex index = new IdentifierIndex(file);
+    index.update(alice, "Alice");
+    index.update(bob, "Bob");
+    index.save();
+
+    IdentifierIndex loaded = new IdentifierIndex(file);
+    loaded.load();
+    assertEquals(2, loaded.size());
+    assertEquals(alice, loaded.resolve("Alice"));
+    assertEquals(bob, loaded.resolve("Bob"));
+    assertEquals("Alice", loaded.name(alice));
+    assertEquals("Bob", loaded.name(bob));
+    assertFalse(new File(directory, "identifiers.txt.tmp").exists());
+  }
+
+  @Test
+  public void namesResolveInAnyCase() throws IOException {
+    UUID alice = UUID.randomUUID();
+
+    IdentifierIndex index = new IdentifierIndex(file);
+    index.update(alice, "Alice");
+    index.save();
+
+    IdentifierIndex loaded = new IdentifierIndex(file);
+    loaded.load();
+    assertEquals(alice, loaded.resolve("alice"));
+    assertEquals(alice, loaded.resolve("ALICE"));
+    assertNull(loaded.resolve("Bob"));
+    assertNull(loaded.resolve(null));
+  }
+
+  @Test
+  public void renamesReplaceOutdatedNames() throws IOException {
+    UUID alice = UUID.randomUUID();
+    UUID bob = UUID.randomUUID();
+
+    IdentifierIndex index = new IdentifierIndex(file);
+    index.update(alice, "Alice");
+    index.update(bob, "Bob");
+
+    //Alice renames, then Bob takes her old name.
+    index.update(alice, "Alicia");
+    index.update(bob, "Alice");
+    index.save();
+
+    IdentifierIndex loaded = new IdentifierIndex(file);
+    loaded.load();
+    assertEquals(2, loaded.size());
+    assertEquals(alice, loaded.resolve("alicia"));
+    assertEquals(bob, loaded.resolve("alice"));
+    assertNull(loaded.resolve("Bob"));
+    assertEquals("Alice", loaded.name(bob));
+  }
+
+  @Test
+  public void damagedLinesAreSkipped() throws IOException {
+    UUID alice = UUID.randomUUID();
+    Files.write(file.toPath(), Arrays.asList("not-a-uuid Bob", alice + " Alice", "", "garbage"), StandardCharsets.UTF_8);
+
+    IdentifierIndex index = new IdentifierIndex(file);
+    index.load();
+    assertEquals(1, index.size());
+    assertEquals(alice, index.resolve("Alice"));
+  }
+
+  @Test
+  public void missingFileLoadsEmpty() throws IOException {
+    IdentifierIndex index = new IdentifierIndex(file);
+    index.load();
+    assertEquals(0, index.size());
+
+    //Nothing changed, so nothing is written.
+    index.save();
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void parseSeparatesIdentifiersFromNames() {
+    UUID identifier = UUID.randomUUID();
+    assertEquals(identifier, IdentifierIndex.parse(identifier.toString()));
+    assertNull(IdentifierIndex.parse("Alice"));
+    assertNull(IdentifierIndex.parse("zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz"));
+  }
+}